@@ -43,6 +43,7 @@ dependencies {
     annotationProcessor("org.projectlombok:lombok")
     testImplementation("org.springframework.boot:spring-boot-starter-test")
     testImplementation("org.springframework.security:spring-security-test")
+    testRuntimeOnly("com.h2database:h2") // JPA 슬라이스 테스트용 내장 DB
     testRuntimeOnly("org.junit.platform:junit-platform-launcher")
 
     // oracle jdbc
@@ -3,7 +3,6 @@ package com.uos.picobox.admin.controller.account;
 import com.uos.picobox.admin.service.AdminDeleteService;
 import com.uos.picobox.global.utils.SessionUtils;
 import io.swagger.v3.oas.annotations.Operation;
-import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
@@ -12,7 +11,6 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.DeleteMapping;
-import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -31,11 +29,11 @@ public class AdminDeleteController {
             @ApiResponse(responseCode = "500", description = "서버 에러입니다. 관리자에게 문의하세요")
     })
     @DeleteMapping("/account")
-    public ResponseEntity<?> deleteAdmin(
-            @Parameter(hidden = true) @RequestHeader("Authorization") String sessionId,
-            Authentication authentication) {
+    public ResponseEntity<?> deleteAdmin(Authentication authentication) {
         Long adminId = sessionUtils.findAdminIdByAuthentication(authentication);
         adminDeleteService.deleteAdminById(adminId);
+        // 세션에 관리자 ID가 남아 있으므로 다른 기기에서 로그인한 세션까지 함께 만료시킵니다.
+        sessionUtils.evictAllSessions("adminSession", sessionUtils.findSessionInfoByAuthentication(authentication));
         return ResponseEntity.noContent().build();
     }
 }
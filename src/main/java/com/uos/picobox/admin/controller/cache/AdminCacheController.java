@@ -0,0 +1,34 @@
+package com.uos.picobox.admin.controller.cache;
+
+import com.uos.picobox.global.cache.CacheStatsResponseDto;
+import com.uos.picobox.global.cache.CacheStatsService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@Tag(name = "관리자 - 12. 캐시 모니터링", description = "캐시 적중/미적중 통계 조회 API (관리자용)")
+@RestController
+@RequestMapping("/api/admin/caches")
+@RequiredArgsConstructor
+public class AdminCacheController {
+
+    private final CacheStatsService cacheStatsService;
+
+    @Operation(summary = "캐시 통계 조회", description = "캐시별 항목 수, 적중/미적중 횟수, 적중률, 제거 횟수를 조회합니다. (서버 시작 이후 누적)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "캐시 통계가 성공적으로 조회되었습니다."),
+            @ApiResponse(responseCode = "500", description = "서버 오류입니다.")
+    })
+    @GetMapping("/stats")
+    public ResponseEntity<List<CacheStatsResponseDto>> getCacheStats() {
+        return ResponseEntity.ok(cacheStatsService.getCacheStats());
+    }
+}
@@ -1,7 +1,10 @@
 package com.uos.picobox.admin.controller.screening;
 
+import com.uos.picobox.domain.screening.dto.BulkScreeningRequestDto;
+import com.uos.picobox.domain.screening.dto.BulkScreeningResponseDto;
 import com.uos.picobox.domain.screening.dto.ScreeningRequestDto;
 import com.uos.picobox.domain.screening.dto.ScreeningResponseDto;
+import com.uos.picobox.domain.screening.service.ScreeningBulkScheduleService;
 import com.uos.picobox.domain.screening.service.ScreeningService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -23,6 +26,7 @@ import java.util.List;
 public class AdminScreeningController {
 
     private final ScreeningService screeningService;
+    private final ScreeningBulkScheduleService screeningBulkScheduleService;
 
     @Operation(summary = "상영 스케줄 등록", description = "새로운 상영 스케줄을 등록합니다. 회차 및 상영일은 자동 계산됩니다.")
     @ApiResponses(value = {
@@ -37,6 +41,23 @@ public class AdminScreeningController {
         return ResponseEntity.status(HttpStatus.CREATED).body(responseDto);
     }
 
+    @Operation(summary = "상영 스케줄 일괄 등록",
+            description = "영화 목록, 상영관 목록, 기간, 하루 상영 시간 범위, 정리 시간으로 시간표를 계산해 한 번에 등록합니다. " +
+                    "기존 스케줄과 겹치는 시간은 건너뛰고, 회차는 날짜별로 다시 계산됩니다. dryRun이 true면 저장하지 않고 계산 결과만 반환합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "상영 스케줄이 성공적으로 등록되었습니다."),
+            @ApiResponse(responseCode = "200", description = "dryRun: 시간표가 계산되었습니다. (저장하지 않음)"),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청입니다 (예: 기간 오류, 유효하지 않은 상영 시간)."),
+            @ApiResponse(responseCode = "404", description = "관련 영화 또는 상영관을 찾을 수 없습니다."),
+            @ApiResponse(responseCode = "409", description = "좌석이 설정되지 않은 상영관이 포함되어 있습니다.")
+    })
+    @PostMapping("/bulk-create")
+    public ResponseEntity<BulkScreeningResponseDto> createScreenings(
+            @Valid @RequestBody BulkScreeningRequestDto requestDto) {
+        BulkScreeningResponseDto responseDto = screeningBulkScheduleService.registerScreenings(requestDto);
+        return ResponseEntity.status(responseDto.isSaved() ? HttpStatus.CREATED : HttpStatus.OK).body(responseDto);
+    }
+
     @Operation(summary = "상영 스케줄 전체 목록 조회", description = "모든 상영 스케줄 목록을 조회합니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "상영 스케줄 목록이 성공적으로 조회되었습니다.")
@@ -8,6 +8,8 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -24,6 +26,13 @@ public interface AdminRepository extends JpaRepository<Admin, Long> {
     @Query("DELETE FROM Admin a WHERE a.id = :id")
     void deleteById(@NonNull @Param("id") Long id);
 
+    /**
+     * 최근 접속 시각을 일괄 저장합니다. 이미 더 늦은 시각이 저장된 관리자는 변경하지 않습니다.
+     */
+    @Modifying
+    @Query("UPDATE Admin a SET a.lastLoginAt = :lastLoginAt WHERE a.id IN :ids AND (a.lastLoginAt IS NULL OR a.lastLoginAt < :lastLoginAt)")
+    int updateLastLoginAtByIdIn(@Param("ids") List<Long> ids, @Param("lastLoginAt") LocalDateTime lastLoginAt);
+
     @Query("SELECT a.id FROM Admin a WHERE a.loginId = :loginId")
     Long findIdByLoginId(@Param("loginId") String loginId);
 
@@ -2,6 +2,7 @@ package com.uos.picobox.admin.service;
 
 import com.uos.picobox.admin.entity.Admin;
 import com.uos.picobox.admin.repository.AdminRepository;
+import com.uos.picobox.global.session.SessionPrincipal;
 import com.uos.picobox.global.utils.SessionUtils;
 import com.uos.picobox.user.dto.SigninRequestDto;
 import com.uos.picobox.user.dto.SigninResponseDto;
@@ -22,7 +23,6 @@ public class AdminSigninService {
     private final PasswordEncoder passwordEncoder;
     private final SessionUtils sessionUtils;
 
-    @Transactional
     public SigninResponseDto signinAdmin(SigninRequestDto signinRequestDto) {
         String loginId = signinRequestDto.getLoginId();
         String password = signinRequestDto.getPassword();
@@ -43,10 +43,8 @@ public class AdminSigninService {
             throw new IllegalArgumentException("잘못된 아이디 혹은 비밀번호입니다.");
         }
 
-        // Last Login Time 업데이트.
-        admin.updateLastLoginAt();
-
-        Map<String, String> sessionInfo = sessionUtils.createSession("adminSession", "admin:" + loginId);
+        // 최근 접속 시각은 세션 생성 시 기록되어 LastSeenRecorder가 모아서 저장합니다.
+        Map<String, String> sessionInfo = sessionUtils.createSession("adminSession", SessionPrincipal.admin(admin.getId(), loginId));
         String sessionId = sessionInfo.get("sessionId");
         String expiration = sessionInfo.get("expiration");
         return new SigninResponseDto(loginId, sessionId, expiration);
@@ -1,6 +1,7 @@
 package com.uos.picobox.client.controller;
 
 import com.uos.picobox.client.dto.SearchResponseDto;
+import com.uos.picobox.client.dto.SearchSuggestionItemDto;
 import com.uos.picobox.client.service.SearchService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -12,6 +13,8 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/api")
 @RequiredArgsConstructor
@@ -23,9 +26,9 @@ public class SearchController {
     @GetMapping("/search")
     @Operation(
         summary = "영화 및 배우 통합 검색",
-        description = "입력된 키워드로 영화 제목과 배우 이름을 동시에 검색합니다.\n" +
-                     "영화는 상영상태별(개봉예정>상영중>상영종료) 및 최신 개봉일순으로,\n" +
-                     "배우는 이름순으로 정렬됩니다."
+        description = "입력된 키워드로 영화 제목과 배우 이름을 동시에 검색합니다. 초성 검색(예: ㅂㅈㄷㅅ)과 오타(3글자 이상)를 허용합니다.\n" +
+                     "영화는 일치 종류(제목 시작>제목 포함>출연 배우>오타), 상영상태별(개봉예정>상영중>상영종료), 최신 개봉일순으로,\n" +
+                     "배우는 일치 종류(이름 시작>이름 포함>오타), 이름순으로 정렬됩니다."
     )
     public ResponseEntity<SearchResponseDto> search(
             @Parameter(description = "검색 키워드", example = "이")
@@ -34,4 +37,19 @@ public class SearchController {
         SearchResponseDto result = searchService.search(keyword);
         return ResponseEntity.ok(result);
     }
+
+    @GetMapping("/search/suggestions")
+    @Operation(
+        summary = "검색어 자동완성",
+        description = "입력 중인 키워드로 시작하는 영화 제목, 배우 이름, 감독 이름을 인기도(예매 관객 수)순으로 반환합니다.\n" +
+                     "초성(예: ㅂㅈㄷ)과 입력 중인 마지막 글자(예: 범죄도ㅅ, 범죄도시)도 인식합니다."
+    )
+    public ResponseEntity<List<SearchSuggestionItemDto>> suggest(
+            @Parameter(description = "입력 중인 키워드", example = "범죄")
+            @RequestParam(name = "query") String keyword,
+            @Parameter(description = "최대 개수 (1 ~ 20)", example = "10")
+            @RequestParam(name = "limit", defaultValue = "10") int limit
+    ) {
+        return ResponseEntity.ok(searchService.suggest(keyword, limit));
+    }
 } 
\ No newline at end of file
@@ -5,6 +5,7 @@ import com.uos.picobox.domain.payment.dto.BeforePaymentResponseDto;
 import com.uos.picobox.domain.payment.dto.ConfirmPaymentRequestDto;
 import com.uos.picobox.domain.payment.dto.ConfirmPaymentResponseDto;
 import com.uos.picobox.domain.payment.service.PaymentService;
+import com.uos.picobox.global.session.SessionPrincipal;
 import com.uos.picobox.global.utils.SessionUtils;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -20,8 +21,6 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.Map;
-
 @Tag(name = "07. 회원/비회원 - 결제", description = "결제 전 정보 저장, 결제 후 Confirm 요청 API (회원/게스트 모두 이용 가능)")
 @RestController
 @RequestMapping("/api/protected/payment")
@@ -59,7 +58,7 @@ public class PaymentController {
             @Parameter(hidden = true) @RequestHeader("Authorization") String sessionId,
             Authentication authentication
     ) {
-        Map<String, Object> sessionInfo = sessionUtils.findSessionInfoByAuthentication(authentication);
+        SessionPrincipal sessionInfo = sessionUtils.findSessionInfoByAuthentication(authentication);
         ConfirmPaymentResponseDto response = paymentService.confirmPayment(dto, sessionInfo);
         return ResponseEntity.ok(response);
     }
@@ -95,7 +94,7 @@ public class PaymentController {
             @Parameter(hidden = true) @RequestHeader("Authorization") String sessionId,
             Authentication authentication
     ) {
-        Map<String, Object> sessionInfo = sessionUtils.findSessionInfoByAuthentication(authentication);
+        SessionPrincipal sessionInfo = sessionUtils.findSessionInfoByAuthentication(authentication);
         ConfirmPaymentResponseDto[] response = paymentService.findPaymentHistoryByUser(sessionInfo);
         return ResponseEntity.ok(response);
     }
@@ -2,6 +2,7 @@ package com.uos.picobox.client.controller.reservation;
 
 import com.uos.picobox.domain.reservation.dto.*;
 import com.uos.picobox.domain.reservation.service.ReservationService;
+import com.uos.picobox.global.session.SessionPrincipal;
 import com.uos.picobox.global.utils.SessionUtils;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -19,7 +20,6 @@ import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
-import java.util.Map;
 
 @Tag(name = "05. 회원/비회원 - 티켓 예매", description = "좌석 선택, 예매, 결제 완료 처리 API (회원/게스트 모두 이용 가능)")
 @RestController
@@ -35,14 +35,14 @@ public class ReservationController {
             @ApiResponse(responseCode = "200", description = "좌석 선점 성공"),
             @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자"),
             @ApiResponse(responseCode = "404", description = "존재하지 않는 상영 또는 좌석"),
-            @ApiResponse(responseCode = "409", description = "이미 선택된 좌석")
+            @ApiResponse(responseCode = "409", description = "이미 선택된 좌석 (conflictSeatIds에 충돌 좌석 전체 포함)")
     })
     @PostMapping("/hold")
     public ResponseEntity<Void> holdSeats(
             @Valid @RequestBody SeatRequestDto dto,
             @Parameter(hidden = true) @RequestHeader("Authorization") String sessionId,
             Authentication authentication) {
-        Map<String, Object> sessionInfo = sessionUtils.findSessionInfoByAuthentication(authentication);
+        SessionPrincipal sessionInfo = sessionUtils.findSessionInfoByAuthentication(authentication);
         reservationService.holdSeats(dto, sessionInfo);
         return ResponseEntity.ok().build();
     }
@@ -58,7 +58,7 @@ public class ReservationController {
             @Valid @RequestBody SeatRequestDto dto,
             @Parameter(hidden = true) @RequestHeader("Authorization") String sessionId,
             Authentication authentication) {
-        Map<String, Object> sessionInfo = sessionUtils.findSessionInfoByAuthentication(authentication);
+        SessionPrincipal sessionInfo = sessionUtils.findSessionInfoByAuthentication(authentication);
         reservationService.releaseSeats(dto, sessionInfo);
         return ResponseEntity.ok().build();
     }
@@ -68,14 +68,14 @@ public class ReservationController {
             @ApiResponse(responseCode = "201", description = "결제 대기 예매 생성 성공"),
             @ApiResponse(responseCode = "400", description = "포인트 부족 또는 잘못된 요청"),
             @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자"),
-            @ApiResponse(responseCode = "409", description = "선점되지 않은 좌석 포함")
+            @ApiResponse(responseCode = "409", description = "선점되지 않은 좌석 포함 (conflictSeatIds에 해당 좌석 전체 포함)")
     })
     @PostMapping("/create")
     public ResponseEntity<ReservationResponseDto> createPendingReservation(
             @Valid @RequestBody ReservationRequestDto dto,
             @Parameter(hidden = true) @RequestHeader("Authorization") String sessionId,
             Authentication authentication) {
-        Map<String, Object> sessionInfo = sessionUtils.findSessionInfoByAuthentication(authentication);
+        SessionPrincipal sessionInfo = sessionUtils.findSessionInfoByAuthentication(authentication);
         ReservationResponseDto responseDto = reservationService.createPendingReservation(dto, sessionInfo);
         return ResponseEntity.status(HttpStatus.CREATED).body(responseDto);
     }
@@ -95,7 +95,7 @@ public class ReservationController {
             Long reservationId,
             @Parameter(hidden = true) @RequestHeader("Authorization") String sessionId,
             Authentication authentication) {
-        Map<String, Object> sessionInfo = sessionUtils.findSessionInfoByAuthentication(authentication);
+        SessionPrincipal sessionInfo = sessionUtils.findSessionInfoByAuthentication(authentication);
         reservationService.completeReservation(reservationId, sessionInfo);
         return ResponseEntity.ok().build();
     }
@@ -109,7 +109,7 @@ public class ReservationController {
     public ResponseEntity<List<ReservationListResponseDto>> getMyReservations(
             @Parameter(hidden = true) @RequestHeader("Authorization") String sessionId,
             Authentication authentication) {
-        Map<String, Object> sessionInfo = sessionUtils.findSessionInfoByAuthentication(authentication);
+        SessionPrincipal sessionInfo = sessionUtils.findSessionInfoByAuthentication(authentication);
         List<ReservationListResponseDto> reservations = reservationService.getReservationList(sessionInfo);
         return ResponseEntity.ok(reservations);
     }
@@ -125,7 +125,7 @@ public class ReservationController {
             @Parameter(description = "예매 ID", required = true) @PathVariable Long reservationId,
             @Parameter(hidden = true) @RequestHeader("Authorization") String sessionId,
             Authentication authentication) {
-        Map<String, Object> sessionInfo = sessionUtils.findSessionInfoByAuthentication(authentication);
+        SessionPrincipal sessionInfo = sessionUtils.findSessionInfoByAuthentication(authentication);
         ReservationDetailResponseDto detail = reservationService.getReservationDetail(reservationId, sessionInfo);
         return ResponseEntity.ok(detail);
     }
@@ -141,7 +141,7 @@ public class ReservationController {
             @Parameter(description = "예매 ID", required = true) @PathVariable Long reservationId,
             @Parameter(hidden = true) @RequestHeader("Authorization") String sessionId,
             Authentication authentication) {
-        Map<String, Object> sessionInfo = sessionUtils.findSessionInfoByAuthentication(authentication);
+        SessionPrincipal sessionInfo = sessionUtils.findSessionInfoByAuthentication(authentication);
         TicketResponseDto ticket = reservationService.getTicket(reservationId, sessionInfo);
         return ResponseEntity.ok(ticket);
     }
@@ -158,7 +158,7 @@ public class ReservationController {
             @Valid @RequestBody CancelReservationRequestDto dto,
             @Parameter(hidden = true) @RequestHeader("Authorization") String sessionId,
             Authentication authentication) {
-        Map<String, Object> sessionInfo = sessionUtils.findSessionInfoByAuthentication(authentication);
+        SessionPrincipal sessionInfo = sessionUtils.findSessionInfoByAuthentication(authentication);
         reservationService.cancelReservation(dto, sessionInfo);
         return ResponseEntity.ok().build();
     }
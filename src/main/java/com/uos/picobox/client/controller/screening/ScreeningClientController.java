@@ -1,18 +1,32 @@
 package com.uos.picobox.client.controller.screening;
 
+import com.uos.picobox.domain.price.dto.PriceQuoteRequestDto;
+import com.uos.picobox.domain.price.dto.PriceQuoteResponseDto;
+import com.uos.picobox.domain.price.service.PriceQuoteService;
+import com.uos.picobox.domain.screening.dto.CompactSeatMapResponseDto;
 import com.uos.picobox.domain.screening.dto.ScreeningScheduleResponseDto;
 import com.uos.picobox.domain.screening.dto.ScreeningSeatsResponseDto;
 import com.uos.picobox.domain.screening.dto.ScreeningTicketPricesResponseDto;
 import com.uos.picobox.domain.screening.service.ScreeningService;
+import com.uos.picobox.domain.screening.service.SeatMapSnapshotService;
+import com.uos.picobox.domain.screening.service.SeatMapStreamService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -24,6 +38,9 @@ import java.util.List;
 public class ScreeningClientController {
 
     private final ScreeningService screeningService;
+    private final SeatMapStreamService seatMapStreamService;
+    private final SeatMapSnapshotService seatMapSnapshotService;
+    private final PriceQuoteService priceQuoteService;
 
     @Operation(summary = "특정 날짜의 전체 상영 시간표 조회",
             description = "주어진 날짜의 모든 상영 스케줄 목록을 조회합니다. 결과는 상영 시간 오름차순으로 정렬됩니다.")
@@ -65,17 +82,74 @@ public class ScreeningClientController {
     }
 
     @Operation(summary = "특정 상영의 좌석 상태 전체 조회",
-            description = "주어진 상영 ID에 해당하는 상영관의 모든 좌석 상태(예매 가능, 판매 완료 등) 목록을 조회합니다.")
+            description = "주어진 상영 ID에 해당하는 상영관의 모든 좌석 상태(예매 가능, 판매 완료 등) 목록을 조회합니다. " +
+                    "응답의 ETag를 If-None-Match 헤더로 보내면 좌석 상태가 바뀌지 않은 경우 본문 없이 304를 반환합니다.")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "좌석 상태 조회 성공"),
+            @ApiResponse(responseCode = "200", description = "좌석 상태 조회 성공",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = ScreeningSeatsResponseDto.class))),
+            @ApiResponse(responseCode = "304", description = "마지막으로 조회한 이후 좌석 상태 변경 없음"),
             @ApiResponse(responseCode = "404", description = "해당 상영 정보를 찾을 수 없습니다.")
     })
     @GetMapping("/screenings/{screeningId}/seats")
-    public ResponseEntity<ScreeningSeatsResponseDto> getScreeningSeats(
+    public ResponseEntity<byte[]> getScreeningSeats(
             @Parameter(description = "좌석을 조회할 상영의 ID", required = true, example = "1")
+            @PathVariable Long screeningId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        if (seatMapSnapshotService.isNotModified(screeningId, ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(seatMapSnapshotService.currentETag(screeningId))
+                    .cacheControl(CacheControl.noCache())
+                    .build();
+        }
+        SeatMapSnapshotService.SeatMapSnapshot snapshot = seatMapSnapshotService.getSnapshot(screeningId);
+        return ResponseEntity.ok()
+                .eTag(snapshot.getETag())
+                .cacheControl(CacheControl.noCache())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(snapshot.getBody());
+    }
+
+    @Operation(summary = "특정 상영의 좌석 상태 압축 조회",
+            description = "좌석 상태 전체 조회와 같은 내용을 행 배치 정보와 좌석당 2비트 상태(Base64)로 압축하여 반환합니다. " +
+                    "좌석은 행 → 열 순서(A1, A2, ..., A10, B1...)로 나열되며, i번째 좌석의 상태는 " +
+                    "(byte[i / 4] >> (6 - (i % 4) * 2)) & 0b11 값을 statusCodes에서 찾습니다. ETag/304 동작은 좌석 상태 전체 조회와 같습니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "좌석 상태 조회 성공",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = CompactSeatMapResponseDto.class))),
+            @ApiResponse(responseCode = "304", description = "마지막으로 조회한 이후 좌석 상태 변경 없음"),
+            @ApiResponse(responseCode = "404", description = "해당 상영 정보를 찾을 수 없습니다.")
+    })
+    @GetMapping("/screenings/{screeningId}/seats/compact")
+    public ResponseEntity<byte[]> getCompactScreeningSeats(
+            @Parameter(description = "좌석을 조회할 상영의 ID", required = true, example = "1")
+            @PathVariable Long screeningId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        SeatMapSnapshotService.SeatMapFormat format = SeatMapSnapshotService.SeatMapFormat.COMPACT;
+        if (seatMapSnapshotService.isNotModified(screeningId, format, ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(seatMapSnapshotService.currentETag(screeningId, format))
+                    .cacheControl(CacheControl.noCache())
+                    .build();
+        }
+        SeatMapSnapshotService.SeatMapSnapshot snapshot = seatMapSnapshotService.getSnapshot(screeningId, format);
+        return ResponseEntity.ok()
+                .eTag(snapshot.getETag())
+                .cacheControl(CacheControl.noCache())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(snapshot.getBody());
+    }
+
+    @Operation(summary = "특정 상영의 좌석 상태 실시간 구독 (SSE)",
+            description = "연결 직후 전체 좌석 상태를 snapshot 이벤트로 한 번 보내고, 이후에는 상태가 바뀐 좌석만 seat-status 이벤트({screeningId, seatIds, status})로 보냅니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "좌석 상태 구독 성공"),
+            @ApiResponse(responseCode = "404", description = "해당 상영 정보를 찾을 수 없습니다.")
+    })
+    @GetMapping(value = "/screenings/{screeningId}/seats/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamScreeningSeats(
+            @Parameter(description = "좌석을 구독할 상영의 ID", required = true, example = "1")
             @PathVariable Long screeningId) {
-        ScreeningSeatsResponseDto seatsResponse = screeningService.getSeatsForScreening(screeningId);
-        return ResponseEntity.ok(seatsResponse);
+        return seatMapStreamService.subscribe(screeningId);
     }
 
     /**
@@ -91,4 +165,20 @@ public class ScreeningClientController {
         ScreeningTicketPricesResponseDto ticketPrices = screeningService.getTicketPricesForScreening(screeningId);
         return ResponseEntity.ok(ticketPrices);
     }
+
+    /**
+     * 여러 상영에 대해 같은 티켓 구성의 가격을 한 번에 계산합니다.
+     */
+    @PostMapping("/screenings/price-quotes")
+    @Operation(summary = "여러 상영 티켓 가격 일괄 계산",
+            description = "상영 목록과 티켓 유형별 인원수로 상영별 가격(조조할인 등 가격 규칙 반영)과 결제 할인 적용 금액을 계산합니다. 예매 시 금액 계산과 같은 규칙을 사용합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "가격 계산 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청입니다 (예: 유효성 검사 실패)."),
+            @ApiResponse(responseCode = "404", description = "상영 정보, 가격 정보 또는 결제 할인 정보를 찾을 수 없음")
+    })
+    public ResponseEntity<List<PriceQuoteResponseDto>> quotePrices(@Valid @RequestBody PriceQuoteRequestDto requestDto) {
+        List<PriceQuoteResponseDto> quotes = priceQuoteService.quote(requestDto);
+        return ResponseEntity.ok(quotes);
+    }
 }
\ No newline at end of file
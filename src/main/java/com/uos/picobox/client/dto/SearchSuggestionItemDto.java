@@ -0,0 +1,20 @@
+package com.uos.picobox.client.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class SearchSuggestionItemDto {
+    // MOVIE, ACTOR, DIRECTOR
+    private String type;
+    // 영화/배우 ID (감독은 없음)
+    private Long id;
+    private String text;
+}
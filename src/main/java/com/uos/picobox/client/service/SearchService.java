@@ -3,10 +3,11 @@ package com.uos.picobox.client.service;
 import com.uos.picobox.client.dto.ActorSearchItemDto;
 import com.uos.picobox.client.dto.MovieSearchItemDto;
 import com.uos.picobox.client.dto.SearchResponseDto;
-import com.uos.picobox.domain.movie.entity.Actor;
-import com.uos.picobox.domain.movie.entity.Movie;
-import com.uos.picobox.domain.movie.repository.ActorRepository;
-import com.uos.picobox.domain.movie.repository.MovieRepository;
+import com.uos.picobox.client.dto.SearchSuggestionItemDto;
+import com.uos.picobox.domain.movie.search.ActorSearchEntry;
+import com.uos.picobox.domain.movie.search.CatalogueSearchIndex;
+import com.uos.picobox.domain.movie.search.MovieSearchEntry;
+import com.uos.picobox.domain.movie.search.SearchMatch;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -18,9 +19,15 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class SearchService {
 
-    private final MovieRepository movieRepository;
-    private final ActorRepository actorRepository;
+    private static final int MAX_SUGGESTION_LIMIT = 20;
 
+    private final CatalogueSearchIndex catalogueSearchIndex;
+
+    /**
+     * 영화 제목/배우 이름을 메모리 검색 색인에서 찾습니다. (초성 검색, 오타 허용 포함)
+     * 영화는 일치 종류(제목 시작 > 제목 포함 > 출연 배우 > 오타) → 상영 상태 → 최신 개봉일 순,
+     * 배우는 일치 종류 → 이름 순으로 정렬합니다.
+     */
     public SearchResponseDto search(String keyword) {
         if (keyword == null || keyword.trim().isEmpty()) {
             return SearchResponseDto.builder()
@@ -30,23 +37,22 @@ public class SearchService {
         }
 
         String trimmedKeyword = keyword.trim();
-        
+        LocalDate today = LocalDate.now();
+
         // 영화 검색 (제목으로 검색 + 배우 이름으로 검색)
-        List<Movie> moviesByTitle = movieRepository.findMoviesByTitleContaining(trimmedKeyword);
-        List<Movie> moviesByActor = movieRepository.findMoviesByActorNameContaining(trimmedKeyword);
-        
-        Set<Movie> allMovies = new HashSet<>(moviesByTitle);
-        allMovies.addAll(moviesByActor);
-        
-        List<MovieSearchItemDto> movieSearchItems = allMovies.stream()
-                .map(this::convertToMovieSearchItemDto)
-                .sorted(this::compareMoviesByScreeningStatus)
+        List<MovieSearchItemDto> movieSearchItems = catalogueSearchIndex.searchMovies(trimmedKeyword).stream()
+                .collect(Collectors.groupingBy(SearchMatch::getMatchType, TreeMap::new,
+                        Collectors.mapping(match -> convertToMovieSearchItemDto(match.getEntry(), today), Collectors.toList())))
+                .values().stream()
+                .flatMap(items -> items.stream().sorted(this::compareMoviesByScreeningStatus))
                 .collect(Collectors.toList());
 
         // 배우 검색
-        List<Actor> actors = actorRepository.findActorsByNameContaining(trimmedKeyword);
-        List<ActorSearchItemDto> actorSearchItems = actors.stream()
-                .map(this::convertToActorSearchItemDto)
+        List<ActorSearchItemDto> actorSearchItems = catalogueSearchIndex.searchActors(trimmedKeyword).stream()
+                .collect(Collectors.groupingBy(SearchMatch::getMatchType, TreeMap::new,
+                        Collectors.mapping(match -> convertToActorSearchItemDto(match.getEntry()), Collectors.toList())))
+                .values().stream()
+                .flatMap(items -> items.stream().sorted(Comparator.comparing(ActorSearchItemDto::getName)))
                 .collect(Collectors.toList());
 
         return SearchResponseDto.builder()
@@ -55,8 +61,26 @@ public class SearchService {
                 .build();
     }
 
-    private MovieSearchItemDto convertToMovieSearchItemDto(Movie movie) {
-        LocalDate today = LocalDate.now();
+    /**
+     * 입력 중인 검색어로 시작하는 영화 제목/배우 이름/감독 이름을 인기도(예매 관객 수) 순으로 반환합니다.
+     */
+    public List<SearchSuggestionItemDto> suggest(String keyword, int limit) {
+        if (limit < 1 || limit > MAX_SUGGESTION_LIMIT) {
+            throw new IllegalArgumentException("자동완성 개수는 1 ~ " + MAX_SUGGESTION_LIMIT + " 사이여야 합니다.");
+        }
+        if (keyword == null || keyword.trim().isEmpty()) {
+            return Collections.emptyList();
+        }
+        return catalogueSearchIndex.suggest(keyword.trim(), limit).stream()
+                .map(suggestion -> SearchSuggestionItemDto.builder()
+                        .type(suggestion.getType().name())
+                        .id(suggestion.getId())
+                        .text(suggestion.getText())
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    private MovieSearchItemDto convertToMovieSearchItemDto(MovieSearchEntry movie, LocalDate today) {
         String screeningStatus = determineScreeningStatus(
                 movie.getReleaseDate(), 
                 movie.getScreeningEndDate(), 
@@ -64,19 +88,19 @@ public class SearchService {
         );
 
         return MovieSearchItemDto.builder()
-                .movieId(movie.getId())
+                .movieId(movie.getMovieId())
                 .title(movie.getTitle())
                 .posterUrl(movie.getPosterUrl())
                 .releaseDate(movie.getReleaseDate())
                 .screeningEndDate(movie.getScreeningEndDate())
-                .movieRatingName(movie.getMovieRating().getRatingName())
+                .movieRatingName(movie.getMovieRatingName())
                 .screeningStatus(screeningStatus)
                 .build();
     }
 
-    private ActorSearchItemDto convertToActorSearchItemDto(Actor actor) {
+    private ActorSearchItemDto convertToActorSearchItemDto(ActorSearchEntry actor) {
         return ActorSearchItemDto.builder()
-                .actorId(actor.getId())
+                .actorId(actor.getActorId())
                 .name(actor.getName())
                 .profileImageUrl(actor.getProfileImageUrl())
                 .build();
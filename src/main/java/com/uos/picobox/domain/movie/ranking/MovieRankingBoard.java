@@ -0,0 +1,352 @@
+package com.uos.picobox.domain.movie.ranking;
+
+import com.uos.picobox.domain.movie.dto.movie.MovieListItemDto;
+import com.uos.picobox.domain.movie.entity.Movie;
+import com.uos.picobox.domain.movie.repository.MovieRepository;
+import com.uos.picobox.domain.reservation.repository.ReservationRepository;
+import com.uos.picobox.domain.review.repository.ReviewRepository;
+import com.uos.picobox.global.utils.TransactionUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 홈 화면 영화 목록(예매율 순위, 리뷰 평점)을 메모리에서 제공합니다.
+ *
+ * - 영화별 예매 관객 수와 리뷰 평점 합계/개수를 보관하고, 결제 완료/예매 취소, 리뷰 작성/수정/삭제가 커밋될 때마다 증감합니다.
+ * - 정렬된 목록은 날짜와 집계 버전이 같으면 그대로 재사용하므로, 변경이 없는 동안 영화 목록 조회는 DB를 조회하지 않습니다.
+ * - 증감 도중 재집계가 겹치거나 다른 서버에서 변경된 값은 MovieRankingRebuildScheduler가 주기적으로 DB에서 다시 집계하여 맞춥니다.
+ *
+ * picobox.movie-ranking.source=query 이면 메모리 집계 대신 매 조회마다 DB에서 집계합니다.
+ * (여러 서버가 최신 예매율을 바로 공유해야 하는 경우) 영화 수와 관계없이 영화 목록 + GROUP BY 2번, 쿼리 3번으로 고정됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MovieRankingBoard {
+
+    private static final String NOW_PLAYING = "NOW_PLAYING";
+    private static final String UPCOMING = "UPCOMING";
+
+    private final MovieRepository movieRepository;
+    private final ReservationRepository reservationRepository;
+    private final ReviewRepository reviewRepository;
+
+    @Value("${picobox.movie-ranking.source:memory}")
+    private String source;
+
+    private volatile Map<Long, MovieStats> stats = new ConcurrentHashMap<>();
+    private final AtomicLong totalAudience = new AtomicLong();
+    private volatile boolean loaded = false;
+
+    // 집계/영화 정보가 바뀔 때마다 올라가는 버전. 정렬된 목록은 이 버전 단위로 재사용합니다.
+    private final AtomicLong version = new AtomicLong();
+    private volatile RankedList rankedList;
+
+    /**
+     * 결제 완료/예매 취소된 관객 수를 반영합니다. 트랜잭션 안에서 호출되면 커밋 이후에 반영됩니다.
+     * @param delta 증가한 관객 수 (취소는 음수)
+     */
+    public void addAudience(Long movieId, int delta) {
+        if (isQuerySource()) {
+            return;
+        }
+        TransactionUtils.afterCommit(() -> {
+            statsOf(movieId).audience.addAndGet(delta);
+            totalAudience.addAndGet(delta);
+            version.incrementAndGet();
+        });
+    }
+
+    /**
+     * 리뷰 작성/수정/삭제를 반영합니다. 트랜잭션 안에서 호출되면 커밋 이후에 반영됩니다.
+     * @param oldRating 이전 평점 (작성이면 null)
+     * @param newRating 새 평점 (삭제면 null)
+     */
+    public void changeReview(Long movieId, Double oldRating, Double newRating) {
+        if (isQuerySource()) {
+            return;
+        }
+        TransactionUtils.afterCommit(() -> {
+            MovieStats movieStats = statsOf(movieId);
+            if (oldRating != null) {
+                movieStats.ratingHalfPoints.addAndGet(-toHalfPoints(oldRating));
+                movieStats.reviewCount.decrementAndGet();
+            }
+            if (newRating != null) {
+                movieStats.ratingHalfPoints.addAndGet(toHalfPoints(newRating));
+                movieStats.reviewCount.incrementAndGet();
+            }
+            version.incrementAndGet();
+        });
+    }
+
+    /**
+     * 영화 정보(제목, 개봉일, 상영 종료일 등)가 바뀐 경우 커밋 이후 정렬된 목록을 다시 만들도록 합니다.
+     */
+    public void invalidateAfterCommit() {
+        TransactionUtils.afterCommit(version::incrementAndGet);
+    }
+
+    /**
+     * 영화의 예매 관객 수를 반환합니다. (자동완성 인기도용, query 모드면 0)
+     * 검색 인덱스가 서버 시작 시 랭킹 집계보다 먼저 적재될 수 있으므로, 아직 집계하지 않았으면 먼저 집계합니다.
+     */
+    public long audienceOf(Long movieId) {
+        if (!loaded && !isQuerySource()) {
+            rebuildIfNotLoaded();
+        }
+        MovieStats movieStats = stats.get(movieId);
+        return movieStats == null ? 0L : movieStats.audience.get();
+    }
+
+    /**
+     * 예매 관객 수와 리뷰 평점을 DB에서 다시 집계합니다. (영화 수와 관계없이 집계 쿼리 2번)
+     */
+    public synchronized void rebuild() {
+        if (isQuerySource()) {
+            return;
+        }
+        Map<Long, MovieStats> rebuilt = new ConcurrentHashMap<>();
+        long rebuiltTotal = 0;
+        for (Object[] row : reservationRepository.countReservedAudienceGroupByMovieId()) {
+            long audience = ((Number) row[1]).longValue();
+            rebuilt.computeIfAbsent((Long) row[0], id -> new MovieStats()).audience.set(audience);
+            rebuiltTotal += audience;
+        }
+        for (Object[] row : reviewRepository.sumRatingGroupByMovieId()) {
+            MovieStats movieStats = rebuilt.computeIfAbsent((Long) row[0], id -> new MovieStats());
+            movieStats.ratingHalfPoints.set(toHalfPoints(((Number) row[1]).doubleValue()));
+            movieStats.reviewCount.set(((Number) row[2]).longValue());
+        }
+        stats = rebuilt;
+        totalAudience.set(rebuiltTotal);
+        loaded = true;
+        version.incrementAndGet();
+        log.debug("영화 랭킹 집계를 다시 적재했습니다: 영화 {}편, 전체 관객 {}명", rebuilt.size(), rebuiltTotal);
+    }
+
+    /**
+     * 현재 상영작(예매율 순위 포함)과 상영 예정작 목록을 반환합니다.
+     * 정렬: 현재 상영작 우선, 그 다음 예매율 높은 순, 예매율 같으면 개봉일 최신순
+     */
+    public List<MovieListItemDto> getMovieList() {
+        if (isQuerySource()) {
+            return rankFromDatabase(LocalDate.now());
+        }
+        if (!loaded) {
+            rebuildIfNotLoaded();
+        }
+        LocalDate today = LocalDate.now();
+        // 만드는 도중 집계가 바뀌어도 이전 버전으로 저장되어 다음 조회에서 다시 만들어지도록 버전을 먼저 읽습니다.
+        long currentVersion = version.get();
+        RankedList cached = rankedList;
+        if (cached != null && cached.version == currentVersion && cached.date.equals(today)) {
+            return cached.items;
+        }
+        Map<Long, MovieStats> currentStats = stats;
+        long total = totalAudience.get();
+        List<MovieListItemDto> items = rank(today, movieRepository.findActiveAndUpcomingMovies(today), new MovieAggregates() {
+            @Override
+            public long totalAudience() {
+                return total;
+            }
+
+            @Override
+            public long audienceOf(Long movieId) {
+                MovieStats movieStats = currentStats.get(movieId);
+                return movieStats == null ? 0L : movieStats.audience.get();
+            }
+
+            @Override
+            public Double averageRatingOf(Long movieId) {
+                MovieStats movieStats = currentStats.get(movieId);
+                if (movieStats == null || movieStats.reviewCount.get() <= 0) {
+                    return null;
+                }
+                return movieStats.ratingHalfPoints.get() / 2.0 / movieStats.reviewCount.get();
+            }
+        });
+        rankedList = new RankedList(today, currentVersion, items);
+        return items;
+    }
+
+    private synchronized void rebuildIfNotLoaded() {
+        if (!loaded) {
+            rebuild();
+        }
+    }
+
+    /**
+     * 메모리 집계 없이 DB에서 바로 집계하여 목록을 만듭니다. (영화 목록, 영화별 관객 수, 영화별 평점 - 쿼리 3번)
+     */
+    private List<MovieListItemDto> rankFromDatabase(LocalDate today) {
+        long startedAt = System.nanoTime();
+        List<Movie> candidateMovies = movieRepository.findActiveAndUpcomingMovies(today);
+        if (candidateMovies.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Map<Long, Long> audiences = new HashMap<>();
+        long total = 0;
+        for (Object[] row : reservationRepository.countReservedAudienceGroupByMovieId()) {
+            long audience = ((Number) row[1]).longValue();
+            audiences.put((Long) row[0], audience);
+            total += audience;
+        }
+        Map<Long, Double> averageRatings = new HashMap<>();
+        for (Object[] row : reviewRepository.calculateRatingStatsOfActiveAndUpcomingMovies(today)) {
+            if (((Number) row[2]).longValue() > 0) {
+                averageRatings.put((Long) row[0], ((Number) row[1]).doubleValue());
+            }
+        }
+
+        long totalCount = total;
+        List<MovieListItemDto> items = rank(today, candidateMovies, new MovieAggregates() {
+            @Override
+            public long totalAudience() {
+                return totalCount;
+            }
+
+            @Override
+            public long audienceOf(Long movieId) {
+                return audiences.getOrDefault(movieId, 0L);
+            }
+
+            @Override
+            public Double averageRatingOf(Long movieId) {
+                return averageRatings.get(movieId);
+            }
+        });
+        log.debug("영화 목록 DB 집계: 영화 {}편, 관객 집계 {}편, 평점 집계 {}편, {}ms", candidateMovies.size(),
+                audiences.size(), averageRatings.size(), (System.nanoTime() - startedAt) / 1_000_000);
+        return items;
+    }
+
+    private List<MovieListItemDto> rank(LocalDate today, List<Movie> candidateMovies, MovieAggregates aggregates) {
+        if (candidateMovies.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        long total = aggregates.totalAudience();
+        List<RankedMovie> rankedMovies = new ArrayList<>();
+        for (Movie movie : candidateMovies) {
+            String status = statusOf(movie, today);
+            if (status == null) {
+                continue;
+            }
+
+            // 예매율 계산 (현재 상영작만)
+            Double reservationRate = null;
+            if (NOW_PLAYING.equals(status)) {
+                long movieAudience = aggregates.audienceOf(movie.getId());
+                reservationRate = total > 0 ? round((double) movieAudience / total * 100) : 0.0;
+            }
+
+            // 리뷰 평점 계산
+            Double reviewRating = aggregates.averageRatingOf(movie.getId());
+            if (reviewRating != null) {
+                reviewRating = round(reviewRating);
+            }
+            rankedMovies.add(new RankedMovie(movie, status, reservationRate, reviewRating));
+        }
+
+        rankedMovies.sort(Comparator
+                .comparingInt((RankedMovie m) -> NOW_PLAYING.equals(m.status) ? 0 : 1)
+                .thenComparing(m -> m.reservationRate != null ? m.reservationRate : -1.0, Comparator.reverseOrder())
+                .thenComparing(m -> m.movie.getReleaseDate(), Comparator.reverseOrder())
+                .thenComparing(m -> m.movie.getId(), Comparator.reverseOrder())
+        );
+
+        // 랭킹 부여 (상영 중인 영화만)
+        List<MovieListItemDto> result = new ArrayList<>(rankedMovies.size());
+        int currentRank = 1;
+        for (RankedMovie rankedMovie : rankedMovies) {
+            Integer rank = NOW_PLAYING.equals(rankedMovie.status) ? currentRank++ : null;
+            result.add(MovieListItemDto.fromEntity(rankedMovie.movie, rank, rankedMovie.reservationRate, rankedMovie.reviewRating));
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    /**
+     * @return NOW_PLAYING, UPCOMING 또는 상영이 종료된 경우 null
+     */
+    private static String statusOf(Movie movie, LocalDate today) {
+        if (movie.getReleaseDate().isAfter(today)) {
+            return UPCOMING;
+        }
+        // 상영 종료일이 없거나(미정), 오늘 이후이면 "현재 상영중"
+        LocalDate screeningEndDate = movie.getScreeningEndDate();
+        return screeningEndDate == null || !screeningEndDate.isBefore(today) ? NOW_PLAYING : null;
+    }
+
+    private boolean isQuerySource() {
+        return "query".equals(source);
+    }
+
+    private MovieStats statsOf(Long movieId) {
+        return stats.computeIfAbsent(movieId, id -> new MovieStats());
+    }
+
+    // 평점은 0.5 단위이므로 2배 한 정수로 더해 오차 없이 합계를 유지합니다.
+    private static long toHalfPoints(double rating) {
+        return Math.round(rating * 2);
+    }
+
+    private static double round(double value) {
+        return BigDecimal.valueOf(value).setScale(2, RoundingMode.HALF_UP).doubleValue();
+    }
+
+    private interface MovieAggregates {
+        long totalAudience();
+
+        long audienceOf(Long movieId);
+
+        // 리뷰가 없으면 null
+        Double averageRatingOf(Long movieId);
+    }
+
+    private static class MovieStats {
+        private final AtomicLong audience = new AtomicLong();
+        private final AtomicLong ratingHalfPoints = new AtomicLong();
+        private final AtomicLong reviewCount = new AtomicLong();
+    }
+
+    private static class RankedMovie {
+        private final Movie movie;
+        private final String status;
+        private final Double reservationRate;
+        private final Double reviewRating;
+
+        private RankedMovie(Movie movie, String status, Double reservationRate, Double reviewRating) {
+            this.movie = movie;
+            this.status = status;
+            this.reservationRate = reservationRate;
+            this.reviewRating = reviewRating;
+        }
+    }
+
+    private static class RankedList {
+        private final LocalDate date;
+        private final long version;
+        private final List<MovieListItemDto> items;
+
+        private RankedList(LocalDate date, long version, List<MovieListItemDto> items) {
+            this.date = date;
+            this.version = version;
+            this.items = items;
+        }
+    }
+}
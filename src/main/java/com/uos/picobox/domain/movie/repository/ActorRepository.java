@@ -25,10 +25,4 @@ public interface ActorRepository extends JpaRepository<Actor, Long> {
            "WHERE mc.actor.id = :actorId " +
            "ORDER BY m.releaseDate DESC")
     List<Object[]> findFilmographyByActorId(@Param("actorId") Long actorId);
-
-    /**
-     * 배우 이름으로 검색
-     */
-    @Query("SELECT a FROM Actor a WHERE LOWER(a.name) LIKE LOWER(CONCAT('%', :keyword, '%')) ORDER BY a.name")
-    List<Actor> findActorsByNameContaining(@Param("keyword") String keyword);
 }
\ No newline at end of file
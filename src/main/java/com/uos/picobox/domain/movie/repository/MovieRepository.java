@@ -57,20 +57,33 @@ public interface MovieRepository extends JpaRepository<Movie, Long> {
     Optional<Movie> findMovieDetailsById(@Param("movieId") Long movieId);
 
     /**
-     * 영화 제목으로 검색
+     * 카탈로그 캐시 무효화용: 배우가 출연한 영화 ID 목록을 조회합니다.
      */
-    @Query("SELECT DISTINCT m FROM Movie m " +
-            "LEFT JOIN FETCH m.movieRating " +
-            "WHERE LOWER(m.title) LIKE LOWER(CONCAT('%', :keyword, '%'))")
-    List<Movie> findMoviesByTitleContaining(@Param("keyword") String keyword);
+    @Query("SELECT mc.movie.id FROM MovieCast mc WHERE mc.actor.id = :actorId")
+    List<Long> findIdsByActorId(@Param("actorId") Long actorId);
 
     /**
-     * 배우 이름으로 영화 검색
+     * 카탈로그 캐시 무효화용: 장르가 지정된 영화 ID 목록을 조회합니다.
      */
-    @Query("SELECT DISTINCT m FROM Movie m " +
-            "LEFT JOIN FETCH m.movieRating " +
-            "JOIN m.movieCasts mc " +
-            "JOIN mc.actor a " +
-            "WHERE LOWER(a.name) LIKE LOWER(CONCAT('%', :keyword, '%'))")
-    List<Movie> findMoviesByActorNameContaining(@Param("keyword") String keyword);
+    @Query("SELECT mgm.movie.id FROM MovieGenreMapping mgm WHERE mgm.movieGenre.id = :genreId")
+    List<Long> findIdsByGenreId(@Param("genreId") Long genreId);
+
+    /**
+     * 카탈로그 캐시 무효화용: 영화 등급이 지정된 영화 ID 목록을 조회합니다.
+     */
+    @Query("SELECT m.id FROM Movie m WHERE m.movieRating.id = :ratingId")
+    List<Long> findIdsByMovieRatingId(@Param("ratingId") Long ratingId);
+
+    /**
+     * 카탈로그 캐시 무효화용: 배급사가 지정된 영화 ID 목록을 조회합니다.
+     */
+    @Query("SELECT m.id FROM Movie m WHERE m.distributor.id = :distributorId")
+    List<Long> findIdsByDistributorId(@Param("distributorId") Long distributorId);
+
+    /**
+     * 검색 색인용: 모든 출연 정보를 조회합니다.
+     * @return [영화 ID, 배우 ID] 목록
+     */
+    @Query("SELECT mc.movie.id, mc.actor.id FROM MovieCast mc")
+    List<Object[]> findAllMovieIdAndActorId();
 }
\ No newline at end of file
@@ -0,0 +1,37 @@
+package com.uos.picobox.domain.movie.scheduler;
+
+import com.uos.picobox.domain.movie.ranking.MovieRankingBoard;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MovieRankingRebuildScheduler {
+
+    private final MovieRankingBoard movieRankingBoard;
+
+    /**
+     * 서버 시작 시 영화 랭킹 집계를 적재합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadRanking() {
+        rebuildRanking();
+    }
+
+    /**
+     * 10분마다 영화 랭킹 집계를 DB에서 다시 집계하여 증감 반영 중 생긴 오차를 바로잡습니다.
+     */
+    @Scheduled(fixedDelay = 600000, initialDelay = 600000) // 10분마다 실행
+    public void rebuildRanking() {
+        try {
+            movieRankingBoard.rebuild();
+        } catch (Exception e) {
+            log.error("영화 랭킹 재집계 중 오류 발생, 다음 주기에 재시도합니다.", e);
+        }
+    }
+}
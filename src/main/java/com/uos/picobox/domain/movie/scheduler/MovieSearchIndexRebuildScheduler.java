@@ -0,0 +1,49 @@
+package com.uos.picobox.domain.movie.scheduler;
+
+import com.uos.picobox.domain.movie.search.CatalogueSearchIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MovieSearchIndexRebuildScheduler {
+
+    private final CatalogueSearchIndex catalogueSearchIndex;
+
+    /**
+     * 서버 시작 시 영화/배우 검색 색인을 적재합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadIndex() {
+        rebuildIndex();
+    }
+
+    /**
+     * 1시간마다 검색 색인을 전체 재색인하여 다른 서버에서 변경된 내용이나 놓친 변경을 반영합니다.
+     */
+    @Scheduled(fixedDelay = 3600000, initialDelay = 3600000) // 1시간마다 실행
+    public void rebuildIndex() {
+        try {
+            catalogueSearchIndex.rebuild();
+        } catch (Exception e) {
+            log.error("검색 색인 재적재 중 오류 발생, 다음 주기에 재시도합니다.", e);
+        }
+    }
+
+    /**
+     * 10분마다 자동완성 인기도에 최근 예매 관객 수를 반영합니다. (메모리 색인만 사용)
+     */
+    @Scheduled(fixedDelay = 600000, initialDelay = 600000) // 10분마다 실행
+    public void refreshSuggestions() {
+        try {
+            catalogueSearchIndex.refreshSuggestions();
+        } catch (Exception e) {
+            log.error("자동완성 인기도 갱신 중 오류 발생, 다음 주기에 재시도합니다.", e);
+        }
+    }
+}
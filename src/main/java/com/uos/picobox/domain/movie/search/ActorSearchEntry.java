@@ -0,0 +1,21 @@
+package com.uos.picobox.domain.movie.search;
+
+import com.uos.picobox.domain.movie.entity.Actor;
+import lombok.Getter;
+
+/**
+ * 검색 색인에 보관하는 배우 정보입니다.
+ */
+@Getter
+public class ActorSearchEntry {
+
+    private final Long actorId;
+    private final String name;
+    private final String profileImageUrl;
+
+    public ActorSearchEntry(Actor actor) {
+        this.actorId = actor.getId();
+        this.name = actor.getName();
+        this.profileImageUrl = actor.getProfileImageUrl();
+    }
+}
@@ -0,0 +1,344 @@
+package com.uos.picobox.domain.movie.search;
+
+import com.uos.picobox.domain.movie.entity.Actor;
+import com.uos.picobox.domain.movie.entity.Movie;
+import com.uos.picobox.domain.movie.ranking.MovieRankingBoard;
+import com.uos.picobox.domain.movie.repository.ActorRepository;
+import com.uos.picobox.domain.movie.repository.MovieRepository;
+import com.uos.picobox.global.cache.CatalogueChangedEvent;
+import com.uos.picobox.global.utils.HangulUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+/**
+ * 영화 제목과 배우 이름의 메모리 검색 색인입니다.
+ *
+ * - 제목/이름을 1·2글자 n-gram으로 역색인하여 LIKE '%검색어%' 전체 조회 없이 후보만 비교합니다. (초성 검색, 오타 허용 포함)
+ * - 영화 제목/배우 이름/감독 이름은 자동완성용 접두사 트리에도 넣고, 예매 관객 수를 인기도로 사용합니다.
+ * - 관리자가 영화/배우/영화 등급을 수정하면 CatalogueChangedEvent를 받아 커밋 후 해당 항목만 다시 색인합니다.
+ * - 다른 서버에서 변경된 내용이나 색인 도중 놓친 변경은 MovieSearchIndexRebuildScheduler가 주기적으로 전체 재색인하여 맞춥니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CatalogueSearchIndex {
+
+    private final MovieRepository movieRepository;
+    private final ActorRepository actorRepository;
+    private final MovieRankingBoard movieRankingBoard;
+
+    // 검색은 읽기 잠금, 색인 변경은 쓰기 잠금으로 보호합니다. 색인 변경끼리는 this로 직렬화합니다.
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Map<Long, MovieSearchEntry> movies = new HashMap<>();
+    private Map<Long, ActorSearchEntry> actors = new HashMap<>();
+    private Map<Long, Set<Long>> movieIdsByActorId = new HashMap<>();
+    private Map<String, Set<Long>> movieIdsByDirector = new HashMap<>();
+    private NgramIndex titleIndex = new NgramIndex();
+    private NgramIndex actorNameIndex = new NgramIndex();
+    private SuggestionTrie suggestionTrie = new SuggestionTrie();
+    private volatile boolean loaded = false;
+
+    /**
+     * DB에서 영화/배우/출연 정보를 모두 읽어 색인을 새로 만듭니다. 읽는 동안에는 기존 색인으로 검색합니다.
+     */
+    public synchronized void rebuild() {
+        long startedAt = System.currentTimeMillis();
+        Map<Long, Set<Long>> actorIdsByMovieId = new HashMap<>();
+        for (Object[] row : movieRepository.findAllMovieIdAndActorId()) {
+            actorIdsByMovieId.computeIfAbsent((Long) row[0], id -> new HashSet<>()).add((Long) row[1]);
+        }
+
+        Map<Long, MovieSearchEntry> newMovies = new HashMap<>();
+        Map<Long, Set<Long>> newMovieIdsByActorId = new HashMap<>();
+        Map<String, Set<Long>> newMovieIdsByDirector = new HashMap<>();
+        NgramIndex newTitleIndex = new NgramIndex();
+        for (Movie movie : movieRepository.findAll()) {
+            MovieSearchEntry entry = new MovieSearchEntry(movie, actorIdsByMovieId.getOrDefault(movie.getId(), Set.of()));
+            newMovies.put(entry.getMovieId(), entry);
+            newTitleIndex.put(entry.getMovieId(), entry.getTitle());
+            entry.getActorIds().forEach(actorId -> newMovieIdsByActorId.computeIfAbsent(actorId, id -> new HashSet<>()).add(entry.getMovieId()));
+            if (hasDirector(entry)) {
+                newMovieIdsByDirector.computeIfAbsent(entry.getDirector(), director -> new HashSet<>()).add(entry.getMovieId());
+            }
+        }
+
+        Map<Long, ActorSearchEntry> newActors = new HashMap<>();
+        NgramIndex newActorNameIndex = new NgramIndex();
+        for (Actor actor : actorRepository.findAll()) {
+            ActorSearchEntry entry = new ActorSearchEntry(actor);
+            newActors.put(entry.getActorId(), entry);
+            newActorNameIndex.put(entry.getActorId(), entry.getName());
+        }
+        SuggestionTrie newSuggestionTrie = buildSuggestionTrie(newMovies, newActors, newMovieIdsByActorId, newMovieIdsByDirector);
+
+        lock.writeLock().lock();
+        try {
+            movies = newMovies;
+            actors = newActors;
+            movieIdsByActorId = newMovieIdsByActorId;
+            movieIdsByDirector = newMovieIdsByDirector;
+            titleIndex = newTitleIndex;
+            actorNameIndex = newActorNameIndex;
+            suggestionTrie = newSuggestionTrie;
+            loaded = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("검색 색인 적재 완료: 영화 {}편, 배우 {}명 ({}ms)", newMovies.size(), newActors.size(), System.currentTimeMillis() - startedAt);
+    }
+
+    /**
+     * 영화 제목 또는 출연 배우 이름이 검색어와 일치하는 영화를 찾습니다.
+     * 한 영화가 여러 방식으로 일치하면 우선순위가 높은 일치 종류 하나만 남깁니다.
+     */
+    public List<SearchMatch<MovieSearchEntry>> searchMovies(String keyword) {
+        String query = HangulUtils.normalize(keyword);
+        if (query.isEmpty()) {
+            return List.of();
+        }
+        ensureLoaded();
+        lock.readLock().lock();
+        try {
+            Map<Long, SearchMatchType> matches = new HashMap<>(titleIndex.search(query));
+            actorNameIndex.search(query).forEach((actorId, actorMatchType) -> {
+                SearchMatchType matchType = actorMatchType == SearchMatchType.TYPO ? SearchMatchType.TYPO : SearchMatchType.CAST;
+                for (Long movieId : movieIdsByActorId.getOrDefault(actorId, Set.of())) {
+                    matches.merge(movieId, matchType, (a, b) -> a.compareTo(b) <= 0 ? a : b);
+                }
+            });
+            return toMatches(matches, movies);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 이름이 검색어와 일치하는 배우를 찾습니다.
+     */
+    public List<SearchMatch<ActorSearchEntry>> searchActors(String keyword) {
+        String query = HangulUtils.normalize(keyword);
+        if (query.isEmpty()) {
+            return List.of();
+        }
+        ensureLoaded();
+        lock.readLock().lock();
+        try {
+            return toMatches(actorNameIndex.search(query), actors);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 검색어로 시작하는 영화 제목/배우 이름/감독 이름을 인기도 순으로 최대 limit개 찾습니다.
+     * 초성(예: "ㅂㅈㄷ")과 입력 중인 마지막 글자(예: "범죄도ㅅ", "범죄도시")도 접두사로 인식합니다.
+     */
+    public List<SearchSuggestion> suggest(String keyword, int limit) {
+        String query = HangulUtils.normalize(keyword);
+        if (query.isEmpty()) {
+            return List.of();
+        }
+        ensureLoaded();
+        lock.readLock().lock();
+        try {
+            return suggestionTrie.top(query, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 메모리에 있는 영화/배우/감독 정보로 자동완성 트리를 다시 만들어 현재 예매 관객 수를 인기도에 반영합니다. (DB 조회 없음)
+     */
+    public synchronized void refreshSuggestions() {
+        if (!loaded) {
+            return;
+        }
+        long startedAt = System.currentTimeMillis();
+        // 색인 변경은 this로 직렬화되므로 잠금 없이 읽어도 됩니다.
+        SuggestionTrie newSuggestionTrie = buildSuggestionTrie(movies, actors, movieIdsByActorId, movieIdsByDirector);
+        lock.writeLock().lock();
+        try {
+            suggestionTrie = newSuggestionTrie;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.debug("자동완성 인기도 갱신 완료 ({}ms)", System.currentTimeMillis() - startedAt);
+    }
+
+    /**
+     * 커밋된 관리자 수정만 반영합니다. 전체 색인 중이면 끝날 때까지 기다렸다가 반영합니다.
+     * 재색인에 실패해도 수정 요청에는 영향을 주지 않으며, 다음 전체 재색인에서 맞춰집니다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCatalogueChanged(CatalogueChangedEvent event) {
+        try {
+            switch (event.getTarget()) {
+                case MOVIE, MOVIE_RATING -> reindexMovies(event.getMovieIds());
+                case ACTOR -> reindexActors(event.getActorIds());
+                default -> {
+                }
+            }
+        } catch (Exception e) {
+            log.error("검색 색인 갱신 실패: {} (영화 {}, 배우 {})", event.getTarget(), event.getMovieIds(), event.getActorIds(), e);
+        }
+    }
+
+    private synchronized void reindexMovies(Collection<Long> movieIds) {
+        for (Long movieId : movieIds) {
+            Movie movie = movieRepository.findById(movieId).orElse(null);
+            MovieSearchEntry entry = movie == null ? null : new MovieSearchEntry(movie, movie.getMovieCasts().stream()
+                    .map(movieCast -> movieCast.getActor().getId())
+                    .collect(Collectors.toSet()));
+            lock.writeLock().lock();
+            try {
+                MovieSearchEntry previous = entry == null ? movies.remove(movieId) : movies.put(movieId, entry);
+                Set<Long> affectedActorIds = new HashSet<>();
+                Set<String> affectedDirectors = new HashSet<>();
+                if (previous != null) {
+                    previous.getActorIds().forEach(actorId -> removeMovieOfActor(actorId, movieId));
+                    affectedActorIds.addAll(previous.getActorIds());
+                    if (hasDirector(previous)) {
+                        removeMovieOfDirector(previous.getDirector(), movieId);
+                        affectedDirectors.add(previous.getDirector());
+                    }
+                }
+                if (entry == null) {
+                    titleIndex.remove(movieId);
+                    suggestionTrie.remove(SearchSuggestion.keyOf(SearchSuggestion.Type.MOVIE, movieId));
+                } else {
+                    titleIndex.put(movieId, entry.getTitle());
+                    entry.getActorIds().forEach(actorId -> movieIdsByActorId.computeIfAbsent(actorId, id -> new HashSet<>()).add(movieId));
+                    affectedActorIds.addAll(entry.getActorIds());
+                    if (hasDirector(entry)) {
+                        movieIdsByDirector.computeIfAbsent(entry.getDirector(), director -> new HashSet<>()).add(movieId);
+                        affectedDirectors.add(entry.getDirector());
+                    }
+                    suggestionTrie.put(movieSuggestion(entry));
+                }
+                // 출연/연출 영화가 바뀐 배우와 감독의 인기도를 다시 계산합니다.
+                for (Long actorId : affectedActorIds) {
+                    ActorSearchEntry actor = actors.get(actorId);
+                    if (actor != null) {
+                        suggestionTrie.put(actorSuggestion(actor, movieIdsByActorId));
+                    }
+                }
+                for (String director : affectedDirectors) {
+                    Set<Long> directorMovieIds = movieIdsByDirector.get(director);
+                    if (directorMovieIds == null) {
+                        suggestionTrie.remove(SearchSuggestion.keyOf(SearchSuggestion.Type.DIRECTOR, director));
+                    } else {
+                        suggestionTrie.put(directorSuggestion(director, directorMovieIds));
+                    }
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    private synchronized void reindexActors(Collection<Long> actorIds) {
+        for (Long actorId : actorIds) {
+            ActorSearchEntry entry = actorRepository.findById(actorId).map(ActorSearchEntry::new).orElse(null);
+            lock.writeLock().lock();
+            try {
+                if (entry == null) {
+                    actors.remove(actorId);
+                    actorNameIndex.remove(actorId);
+                    movieIdsByActorId.remove(actorId);
+                    suggestionTrie.remove(SearchSuggestion.keyOf(SearchSuggestion.Type.ACTOR, actorId));
+                } else {
+                    actors.put(actorId, entry);
+                    actorNameIndex.put(actorId, entry.getName());
+                    suggestionTrie.put(actorSuggestion(entry, movieIdsByActorId));
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    private void removeMovieOfActor(Long actorId, Long movieId) {
+        Set<Long> actorMovieIds = movieIdsByActorId.get(actorId);
+        if (actorMovieIds != null && actorMovieIds.remove(movieId) && actorMovieIds.isEmpty()) {
+            movieIdsByActorId.remove(actorId);
+        }
+    }
+
+    private void removeMovieOfDirector(String director, Long movieId) {
+        Set<Long> directorMovieIds = movieIdsByDirector.get(director);
+        if (directorMovieIds != null && directorMovieIds.remove(movieId) && directorMovieIds.isEmpty()) {
+            movieIdsByDirector.remove(director);
+        }
+    }
+
+    private SuggestionTrie buildSuggestionTrie(Map<Long, MovieSearchEntry> movies, Map<Long, ActorSearchEntry> actors,
+                                               Map<Long, Set<Long>> movieIdsByActorId, Map<String, Set<Long>> movieIdsByDirector) {
+        SuggestionTrie trie = new SuggestionTrie();
+        movies.values().forEach(movie -> trie.put(movieSuggestion(movie)));
+        actors.values().forEach(actor -> trie.put(actorSuggestion(actor, movieIdsByActorId)));
+        movieIdsByDirector.forEach((director, directorMovieIds) -> trie.put(directorSuggestion(director, directorMovieIds)));
+        return trie;
+    }
+
+    private SearchSuggestion movieSuggestion(MovieSearchEntry movie) {
+        return new SearchSuggestion(SearchSuggestion.Type.MOVIE, movie.getMovieId(), movie.getTitle(),
+                movieRankingBoard.audienceOf(movie.getMovieId()));
+    }
+
+    private SearchSuggestion actorSuggestion(ActorSearchEntry actor, Map<Long, Set<Long>> movieIdsByActorId) {
+        return new SearchSuggestion(SearchSuggestion.Type.ACTOR, actor.getActorId(), actor.getName(),
+                audienceOf(movieIdsByActorId.getOrDefault(actor.getActorId(), Set.of())));
+    }
+
+    private SearchSuggestion directorSuggestion(String director, Set<Long> directorMovieIds) {
+        return new SearchSuggestion(SearchSuggestion.Type.DIRECTOR, null, director, audienceOf(directorMovieIds));
+    }
+
+    private long audienceOf(Set<Long> movieIds) {
+        long audience = 0;
+        for (Long movieId : movieIds) {
+            audience += movieRankingBoard.audienceOf(movieId);
+        }
+        return audience;
+    }
+
+    private static boolean hasDirector(MovieSearchEntry movie) {
+        return movie.getDirector() != null && !movie.getDirector().isBlank();
+    }
+
+    private void ensureLoaded() {
+        if (!loaded) {
+            synchronized (this) {
+                if (!loaded) {
+                    rebuild();
+                }
+            }
+        }
+    }
+
+    private static <T> List<SearchMatch<T>> toMatches(Map<Long, SearchMatchType> matches, Map<Long, T> entries) {
+        List<SearchMatch<T>> result = new ArrayList<>(matches.size());
+        matches.forEach((id, matchType) -> {
+            T entry = entries.get(id);
+            if (entry != null) {
+                result.add(new SearchMatch<>(entry, matchType));
+            }
+        });
+        return result;
+    }
+}
@@ -0,0 +1,34 @@
+package com.uos.picobox.domain.movie.search;
+
+import com.uos.picobox.domain.movie.entity.Movie;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+/**
+ * 검색 색인에 보관하는 영화 정보입니다. (검색 결과 표시에 필요한 항목만)
+ */
+@Getter
+public class MovieSearchEntry {
+
+    private final Long movieId;
+    private final String title;
+    private final String director;
+    private final String posterUrl;
+    private final LocalDate releaseDate;
+    private final LocalDate screeningEndDate;
+    private final String movieRatingName;
+    private final Set<Long> actorIds;
+
+    public MovieSearchEntry(Movie movie, Set<Long> actorIds) {
+        this.movieId = movie.getId();
+        this.title = movie.getTitle();
+        this.director = movie.getDirector();
+        this.posterUrl = movie.getPosterUrl();
+        this.releaseDate = movie.getReleaseDate();
+        this.screeningEndDate = movie.getScreeningEndDate();
+        this.movieRatingName = movie.getMovieRating() != null ? movie.getMovieRating().getRatingName() : null;
+        this.actorIds = Set.copyOf(actorIds);
+    }
+}
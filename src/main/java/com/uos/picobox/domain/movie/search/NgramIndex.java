@@ -0,0 +1,197 @@
+package com.uos.picobox.domain.movie.search;
+
+import com.uos.picobox.global.utils.HangulUtils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * ID별 문자열에 대한 1·2글자 n-gram 역색인입니다. 동기화는 CatalogueSearchIndex가 담당합니다.
+ *
+ * 정규화 문자열과 초성 문자열을 따로 색인합니다. 일반 검색어는 정규화 색인에서, 초성이 섞인 검색어(예: "ㅂㅈㄷㅅ", "범죄ㄷ")는
+ * 초성 색인에서 검색어의 n-gram을 모두 가진 후보를 찾은 뒤 실제 문자열과 비교합니다.
+ * 세 글자 이상의 일반 검색어는 글자 대부분이 겹치는 후보를 편집 거리로 다시 비교해 오타를 허용합니다.
+ */
+class NgramIndex {
+
+    private static final int MIN_TYPO_QUERY_LENGTH = 3;
+    private static final int LONG_QUERY_LENGTH = 6;
+
+    private final Map<Long, String> texts = new HashMap<>();
+    private final Map<String, Set<Long>> grams = new HashMap<>();
+    private final Map<String, Set<Long>> chosungGrams = new HashMap<>();
+
+    void put(Long id, String text) {
+        remove(id);
+        String normalized = HangulUtils.normalize(text);
+        if (normalized.isEmpty()) {
+            return;
+        }
+        texts.put(id, normalized);
+        addPostings(grams, gramsOf(normalized), id);
+        addPostings(chosungGrams, gramsOf(HangulUtils.toChosung(normalized)), id);
+    }
+
+    void remove(Long id) {
+        String normalized = texts.remove(id);
+        if (normalized == null) {
+            return;
+        }
+        removePostings(grams, gramsOf(normalized), id);
+        removePostings(chosungGrams, gramsOf(HangulUtils.toChosung(normalized)), id);
+    }
+
+    /**
+     * @param query 정규화된 검색어 (HangulUtils.normalize)
+     * @return 일치한 ID별 일치 종류 (PREFIX, CONTAINS, TYPO)
+     */
+    Map<Long, SearchMatchType> search(String query) {
+        Map<Long, SearchMatchType> matches = new HashMap<>();
+        boolean chosungQuery = HangulUtils.containsChosung(query);
+        Set<Long> candidates = chosungQuery
+                ? intersect(chosungGrams, queryGramsOf(HangulUtils.toChosung(query)))
+                : intersect(grams, queryGramsOf(query));
+        for (Long id : candidates) {
+            int index = indexOf(texts.get(id), query);
+            if (index >= 0) {
+                matches.put(id, index == 0 ? SearchMatchType.PREFIX : SearchMatchType.CONTAINS);
+            }
+        }
+
+        if (!chosungQuery && query.length() >= MIN_TYPO_QUERY_LENGTH) {
+            int maxTypos = query.length() >= LONG_QUERY_LENGTH ? 2 : 1;
+            for (Long id : typoCandidates(query, maxTypos)) {
+                if (!matches.containsKey(id) && substringDistance(query, texts.get(id)) <= maxTypos) {
+                    matches.put(id, SearchMatchType.TYPO);
+                }
+            }
+        }
+        return matches;
+    }
+
+    // 오타가 maxTypos개 이하라면 검색어 글자 중 (글자 수 - maxTypos)개 이상은 그대로 남아 있습니다.
+    private List<Long> typoCandidates(String query, int maxTypos) {
+        Set<String> queryChars = new LinkedHashSet<>();
+        for (int i = 0; i < query.length(); i++) {
+            queryChars.add(String.valueOf(query.charAt(i)));
+        }
+        int required = Math.max(1, queryChars.size() - maxTypos);
+        Map<Long, Integer> counts = new HashMap<>();
+        for (String queryChar : queryChars) {
+            for (Long id : grams.getOrDefault(queryChar, Set.of())) {
+                counts.merge(id, 1, Integer::sum);
+            }
+        }
+        List<Long> candidates = new ArrayList<>();
+        counts.forEach((id, count) -> {
+            if (count >= required) {
+                candidates.add(id);
+            }
+        });
+        return candidates;
+    }
+
+    private static Set<Long> intersect(Map<String, Set<Long>> postings, List<String> queryGrams) {
+        Set<Long> result = null;
+        // 가장 짧은 목록부터 교집합을 구합니다.
+        List<Set<Long>> lists = new ArrayList<>(queryGrams.size());
+        for (String gram : queryGrams) {
+            Set<Long> ids = postings.get(gram);
+            if (ids == null) {
+                return Set.of();
+            }
+            lists.add(ids);
+        }
+        lists.sort((a, b) -> Integer.compare(a.size(), b.size()));
+        for (Set<Long> ids : lists) {
+            if (result == null) {
+                result = new HashSet<>(ids);
+            } else {
+                result.retainAll(ids);
+            }
+            if (result.isEmpty()) {
+                break;
+            }
+        }
+        return result == null ? Set.of() : result;
+    }
+
+    // 색인에는 1글자, 2글자 n-gram을 모두 넣습니다.
+    private static Set<String> gramsOf(String text) {
+        Set<String> result = new HashSet<>();
+        for (int i = 0; i < text.length(); i++) {
+            result.add(text.substring(i, i + 1));
+            if (i + 1 < text.length()) {
+                result.add(text.substring(i, i + 2));
+            }
+        }
+        return result;
+    }
+
+    // 검색어는 2글자 n-gram으로 후보를 좁히고, 한 글자 검색어만 1글자 n-gram을 씁니다.
+    private static List<String> queryGramsOf(String query) {
+        if (query.length() == 1) {
+            return List.of(query);
+        }
+        Set<String> result = new LinkedHashSet<>();
+        for (int i = 0; i + 1 < query.length(); i++) {
+            result.add(query.substring(i, i + 2));
+        }
+        return new ArrayList<>(result);
+    }
+
+    private static void addPostings(Map<String, Set<Long>> postings, Set<String> textGrams, Long id) {
+        for (String gram : textGrams) {
+            postings.computeIfAbsent(gram, key -> new HashSet<>()).add(id);
+        }
+    }
+
+    private static void removePostings(Map<String, Set<Long>> postings, Set<String> textGrams, Long id) {
+        for (String gram : textGrams) {
+            Set<Long> ids = postings.get(gram);
+            if (ids != null && ids.remove(id) && ids.isEmpty()) {
+                postings.remove(gram);
+            }
+        }
+    }
+
+    // 초성 글자는 대상 글자의 초성과 비교합니다.
+    private static int indexOf(String text, String query) {
+        for (int start = 0; start + query.length() <= text.length(); start++) {
+            int i = 0;
+            while (i < query.length() && HangulUtils.matches(query.charAt(i), text.charAt(start + i))) {
+                i++;
+            }
+            if (i == query.length()) {
+                return start;
+            }
+        }
+        return -1;
+    }
+
+    // 검색어와 대상 문자열의 어느 부분 문자열 사이의 최소 편집 거리 (부분 문자열의 시작/끝 위치는 자유)
+    private static int substringDistance(String query, String text) {
+        int[] previous = new int[text.length() + 1];
+        int[] current = new int[text.length() + 1];
+        for (int i = 1; i <= query.length(); i++) {
+            current[0] = i;
+            for (int j = 1; j <= text.length(); j++) {
+                int cost = query.charAt(i - 1) == text.charAt(j - 1) ? 0 : 1;
+                current[j] = Math.min(previous[j - 1] + cost, Math.min(previous[j], current[j - 1]) + 1);
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        int distance = query.length();
+        for (int value : previous) {
+            distance = Math.min(distance, value);
+        }
+        return distance;
+    }
+}
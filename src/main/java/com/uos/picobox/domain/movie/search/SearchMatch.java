@@ -0,0 +1,12 @@
+package com.uos.picobox.domain.movie.search;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class SearchMatch<T> {
+
+    private final T entry;
+    private final SearchMatchType matchType;
+}
@@ -0,0 +1,15 @@
+package com.uos.picobox.domain.movie.search;
+
+/**
+ * 검색 결과의 일치 종류입니다. 선언 순서가 정렬 우선순위입니다.
+ */
+public enum SearchMatchType {
+    /** 검색어로 시작 (초성 검색 포함) */
+    PREFIX,
+    /** 검색어를 포함 (초성 검색 포함) */
+    CONTAINS,
+    /** 검색어와 일치하는 배우가 출연한 영화 */
+    CAST,
+    /** 오타를 허용하여 일치 */
+    TYPO
+}
@@ -0,0 +1,39 @@
+package com.uos.picobox.domain.movie.search;
+
+import lombok.Getter;
+
+/**
+ * 자동완성 후보입니다. 같은 key의 후보는 자동완성 색인에 하나만 존재합니다.
+ */
+@Getter
+public class SearchSuggestion {
+
+    public enum Type {
+        MOVIE, ACTOR, DIRECTOR
+    }
+
+    private final Type type;
+    // 영화/배우 ID (감독은 null)
+    private final Long id;
+    private final String text;
+    // 인기도 (영화 예매 관객 수, 배우/감독은 출연/연출 영화의 합)
+    private final long weight;
+
+    public SearchSuggestion(Type type, Long id, String text, long weight) {
+        this.type = type;
+        this.id = id;
+        this.text = text;
+        this.weight = weight;
+    }
+
+    public String getKey() {
+        return keyOf(type, type == Type.DIRECTOR ? text : id);
+    }
+
+    /**
+     * @param idOrName 영화/배우 ID 또는 감독 이름
+     */
+    public static String keyOf(Type type, Object idOrName) {
+        return type + ":" + idOrName;
+    }
+}
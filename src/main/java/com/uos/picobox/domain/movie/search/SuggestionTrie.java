@@ -0,0 +1,205 @@
+package com.uos.picobox.domain.movie.search;
+
+import com.uos.picobox.global.utils.HangulUtils;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * 자동완성용 압축 접두사 트리(radix trie)입니다. 동기화는 CatalogueSearchIndex가 담당합니다.
+ *
+ * 후보를 정규화한 문자열로 저장하고, 노드마다 하위 트리의 최대 인기도를 유지합니다.
+ * 검색어에 해당하는 노드를 찾은 뒤 인기도가 높은 노드부터 펼쳐서 상위 limit개만 확인하므로 전체 후보 수와 관계없이 빠르게 끝납니다.
+ * 초성(예: "ㅂㅈ")과 입력 중인 마지막 글자(예: "범죄도ㅅ", "버")는 여러 자식 노드로 이어질 수 있어 해당 자식을 모두 따라갑니다.
+ */
+class SuggestionTrie {
+
+    private static final Comparator<Candidate> BY_WEIGHT = Comparator
+            .comparingLong((Candidate candidate) -> candidate.weight).reversed()
+            .thenComparing(candidate -> candidate.suggestion == null)
+            .thenComparingInt(candidate -> candidate.suggestion == null ? 0 : candidate.suggestion.getText().length());
+
+    private final Node root = new Node("");
+    private final Map<String, String> normalizedTextByKey = new HashMap<>();
+
+    void put(SearchSuggestion suggestion) {
+        remove(suggestion.getKey());
+        String normalized = HangulUtils.normalize(suggestion.getText());
+        if (normalized.isEmpty()) {
+            return;
+        }
+        normalizedTextByKey.put(suggestion.getKey(), normalized);
+        insert(root, normalized, suggestion);
+    }
+
+    void remove(String key) {
+        String normalized = normalizedTextByKey.remove(key);
+        if (normalized != null) {
+            delete(root, normalized, key);
+        }
+    }
+
+    /**
+     * @param query 정규화된 검색어 (HangulUtils.normalize)
+     * @return 검색어로 시작하는 후보 중 인기도 상위 limit개
+     */
+    List<SearchSuggestion> top(String query, int limit) {
+        List<Node> matchedNodes = new ArrayList<>();
+        collectMatchedNodes(root, query, 0, matchedNodes);
+
+        PriorityQueue<Candidate> queue = new PriorityQueue<>(BY_WEIGHT);
+        matchedNodes.forEach(node -> queue.add(new Candidate(node)));
+        List<SearchSuggestion> result = new ArrayList<>(limit);
+        while (!queue.isEmpty() && result.size() < limit) {
+            Candidate candidate = queue.poll();
+            if (candidate.suggestion != null) {
+                result.add(candidate.suggestion);
+                continue;
+            }
+            candidate.node.suggestions.forEach(suggestion -> queue.add(new Candidate(suggestion)));
+            candidate.node.children.values().forEach(child -> queue.add(new Candidate(child)));
+        }
+        return result;
+    }
+
+    // query[position..]이 노드 아래 간선에서 모두 소비되는 자식 노드를 모읍니다.
+    private static void collectMatchedNodes(Node node, String query, int position, List<Node> matchedNodes) {
+        if (position == query.length()) {
+            matchedNodes.add(node);
+            return;
+        }
+        char queryChar = query.charAt(position);
+        if (!HangulUtils.matchesMany(queryChar, position == query.length() - 1)) {
+            Node child = node.children.get(queryChar);
+            if (child != null) {
+                followEdge(child, query, position, matchedNodes);
+            }
+            return;
+        }
+        for (Node child : node.children.values()) {
+            followEdge(child, query, position, matchedNodes);
+        }
+    }
+
+    private static void followEdge(Node child, String query, int position, List<Node> matchedNodes) {
+        String label = child.label;
+        int i = 0;
+        while (i < label.length() && position + i < query.length()) {
+            char queryChar = query.charAt(position + i);
+            boolean typing = position + i == query.length() - 1;
+            if (!(typing ? HangulUtils.matchesTyping(queryChar, label.charAt(i)) : HangulUtils.matches(queryChar, label.charAt(i)))) {
+                return;
+            }
+            i++;
+        }
+        if (position + i == query.length()) {
+            // 간선 중간에서 검색어가 끝나도 그 아래 후보는 모두 검색어로 시작합니다.
+            matchedNodes.add(child);
+        } else {
+            collectMatchedNodes(child, query, position + i, matchedNodes);
+        }
+    }
+
+    private static void insert(Node node, String rest, SearchSuggestion suggestion) {
+        if (rest.isEmpty()) {
+            node.suggestions.add(suggestion);
+        } else {
+            Node child = node.children.get(rest.charAt(0));
+            if (child == null) {
+                child = new Node(rest);
+                node.children.put(rest.charAt(0), child);
+                insert(child, "", suggestion);
+            } else {
+                int common = commonPrefixLength(child.label, rest);
+                if (common < child.label.length()) {
+                    // 간선을 공통 접두사에서 나눕니다.
+                    Node middle = new Node(child.label.substring(0, common));
+                    child.label = child.label.substring(common);
+                    middle.children.put(child.label.charAt(0), child);
+                    middle.updateMaxWeight();
+                    node.children.put(middle.label.charAt(0), middle);
+                    child = middle;
+                }
+                insert(child, rest.substring(common), suggestion);
+            }
+        }
+        node.updateMaxWeight();
+    }
+
+    private static void delete(Node node, String rest, String key) {
+        if (rest.isEmpty()) {
+            node.suggestions.removeIf(suggestion -> suggestion.getKey().equals(key));
+        } else {
+            Node child = node.children.get(rest.charAt(0));
+            if (child == null || !rest.startsWith(child.label)) {
+                return;
+            }
+            delete(child, rest.substring(child.label.length()), key);
+            if (child.suggestions.isEmpty() && child.children.isEmpty()) {
+                node.children.remove(rest.charAt(0));
+            } else if (child.suggestions.isEmpty() && child.children.size() == 1) {
+                // 후보 없이 자식이 하나만 남으면 간선을 합칩니다.
+                Node grandChild = child.children.values().iterator().next();
+                grandChild.label = child.label + grandChild.label;
+                node.children.put(rest.charAt(0), grandChild);
+            }
+        }
+        node.updateMaxWeight();
+    }
+
+    private static int commonPrefixLength(String a, String b) {
+        int length = Math.min(a.length(), b.length());
+        int i = 0;
+        while (i < length && a.charAt(i) == b.charAt(i)) {
+            i++;
+        }
+        return i;
+    }
+
+    private static final class Node {
+        // 부모에서 이 노드로 오는 간선의 문자열
+        private String label;
+        private final Map<Character, Node> children = new HashMap<>();
+        // 이 노드에서 끝나는 후보 (정규화 문자열이 같은 영화/배우/감독)
+        private final List<SearchSuggestion> suggestions = new ArrayList<>(1);
+        // 하위 트리 후보의 최대 인기도 (후보가 없으면 -1)
+        private long maxWeight = -1;
+
+        private Node(String label) {
+            this.label = label;
+        }
+
+        private void updateMaxWeight() {
+            long max = -1;
+            for (SearchSuggestion suggestion : suggestions) {
+                max = Math.max(max, suggestion.getWeight());
+            }
+            for (Node child : children.values()) {
+                max = Math.max(max, child.maxWeight);
+            }
+            maxWeight = max;
+        }
+    }
+
+    private static final class Candidate {
+        private final long weight;
+        private final Node node;
+        private final SearchSuggestion suggestion;
+
+        private Candidate(Node node) {
+            this.weight = node.maxWeight;
+            this.node = node;
+            this.suggestion = null;
+        }
+
+        private Candidate(SearchSuggestion suggestion) {
+            this.weight = suggestion.getWeight();
+            this.node = null;
+            this.suggestion = suggestion;
+        }
+    }
+}
@@ -4,10 +4,15 @@ import com.uos.picobox.domain.movie.dto.actor.ActorRequestDto;
 import com.uos.picobox.domain.movie.dto.actor.ActorResponseDto;
 import com.uos.picobox.domain.movie.entity.Actor;
 import com.uos.picobox.domain.movie.repository.ActorRepository;
+import com.uos.picobox.domain.movie.repository.MovieRepository;
+import com.uos.picobox.global.cache.CatalogueCaches;
+import com.uos.picobox.global.cache.CatalogueChangedEvent;
 import com.uos.picobox.global.service.S3Service;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -28,7 +33,9 @@ import java.util.stream.Collectors;
 public class ActorService {
 
     private final ActorRepository actorRepository;
+    private final MovieRepository movieRepository;
     private final S3Service s3Service; // S3Service 주입
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public ActorResponseDto registerActor(ActorRequestDto actorRequestDto, MultipartFile profileImageFile) {
@@ -58,6 +65,7 @@ public class ActorService {
                 .profileImageUrl(profileS3Url)
                 .build();
         Actor savedActor = actorRepository.save(actor);
+        publishActorChanged(savedActor.getId(), List.of());
         return new ActorResponseDto(savedActor);
     }
 
@@ -106,6 +114,8 @@ public class ActorService {
         actor.updateProfileImageUrl(finalProfileS3Url);
 
         actorRepository.save(actor);
+        // 영화 상세에는 배우 이름만 포함되므로 이름이 바뀐 경우에만 출연 영화까지 무효화합니다.
+        publishActorChanged(actorId, nameChanged ? movieRepository.findIdsByActorId(actorId) : List.of());
         return new ActorResponseDto(actor);
     }
 
@@ -139,6 +149,7 @@ public class ActorService {
 
         actor.updateProfileImageUrl(newProfileS3Url);
         actorRepository.save(actor);
+        publishActorChanged(actorId, List.of());
         return new ActorResponseDto(actor);
     }
 
@@ -165,6 +176,7 @@ public class ActorService {
             }
         }
 
+        List<Long> movieIds = movieRepository.findIdsByActorId(actorId);
         try {
             actorRepository.delete(actor);
             log.info("배우 정보가 성공적으로 삭제되었습니다. ID: {}, 강제삭제: {}", actorId, force);
@@ -172,6 +184,15 @@ public class ActorService {
             log.error("배우 삭제 중 예상치 못한 DataIntegrityViolationException 발생 (ID: {}): {}", actorId, e.getMessage());
             throw new IllegalStateException("배우 삭제 중 데이터 무결성 문제가 발생했습니다. (ID: " + actorId + ")", e);
         }
+        publishActorChanged(actorId, movieIds);
+    }
+
+    private void publishActorChanged(Long actorId, List<Long> movieIds) {
+        eventPublisher.publishEvent(CatalogueChangedEvent.builder()
+                .target(CatalogueChangedEvent.Target.ACTOR)
+                .actorIds(List.of(actorId))
+                .movieIds(movieIds)
+                .build());
     }
 
     public List<ActorResponseDto> findAllActors() {
@@ -189,6 +210,7 @@ public class ActorService {
     /**
      * 배우 정보와 필모그래피를 함께 조회합니다.
      */
+    @Cacheable(cacheNames = CatalogueCaches.ACTOR_FILMOGRAPHY, key = "#actorId")
     public ActorResponseDto findActorByIdWithFilmography(Long actorId) {
         Actor actor = actorRepository.findById(actorId)
                 .orElseThrow(() -> new EntityNotFoundException("해당 ID의 배우를 찾을 수 없습니다: " + actorId));
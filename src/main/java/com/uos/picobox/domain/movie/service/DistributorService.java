@@ -4,8 +4,13 @@ import com.uos.picobox.domain.movie.dto.distributor.DistributorRequestDto;
 import com.uos.picobox.domain.movie.dto.distributor.DistributorResponseDto;
 import com.uos.picobox.domain.movie.entity.Distributor;
 import com.uos.picobox.domain.movie.repository.DistributorRepository;
+import com.uos.picobox.domain.movie.repository.MovieRepository;
+import com.uos.picobox.global.cache.CatalogueCaches;
+import com.uos.picobox.global.cache.CatalogueChangedEvent;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,6 +23,8 @@ import java.util.stream.Collectors;
 public class DistributorService {
 
     private final DistributorRepository distributorRepository;
+    private final MovieRepository movieRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public DistributorResponseDto registerDistributor(DistributorRequestDto requestDto) {
@@ -32,9 +39,11 @@ public class DistributorService {
                 .phone(requestDto.getPhone())
                 .build();
         Distributor savedDistributor = distributorRepository.save(distributor);
+        publishDistributorChanged(List.of());
         return new DistributorResponseDto(savedDistributor);
     }
 
+    @Cacheable(CatalogueCaches.DISTRIBUTORS)
     public List<DistributorResponseDto> findAllDistributors() {
         return distributorRepository.findAll().stream()
                 .map(DistributorResponseDto::new)
@@ -64,6 +73,7 @@ public class DistributorService {
                 requestDto.getAddress(),
                 requestDto.getPhone()
         );
+        publishDistributorChanged(movieRepository.findIdsByDistributorId(distributorId));
         return new DistributorResponseDto(distributor);
     }
 
@@ -72,6 +82,15 @@ public class DistributorService {
         if (!distributorRepository.existsById(distributorId)) {
             throw new EntityNotFoundException("해당 ID의 배급사를 찾을 수 없습니다: " + distributorId);
         }
+        List<Long> movieIds = movieRepository.findIdsByDistributorId(distributorId);
         distributorRepository.deleteById(distributorId);
+        publishDistributorChanged(movieIds);
+    }
+
+    private void publishDistributorChanged(List<Long> movieIds) {
+        eventPublisher.publishEvent(CatalogueChangedEvent.builder()
+                .target(CatalogueChangedEvent.Target.DISTRIBUTOR)
+                .movieIds(movieIds)
+                .build());
     }
 }
\ No newline at end of file
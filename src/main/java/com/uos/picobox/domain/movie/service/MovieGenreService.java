@@ -4,9 +4,14 @@ import com.uos.picobox.domain.movie.dto.genre.MovieGenreRequestDto;
 import com.uos.picobox.domain.movie.dto.genre.MovieGenreResponseDto;
 import com.uos.picobox.domain.movie.entity.MovieGenre;
 import com.uos.picobox.domain.movie.repository.MovieGenreRepository;
+import com.uos.picobox.domain.movie.repository.MovieRepository;
+import com.uos.picobox.global.cache.CatalogueCaches;
+import com.uos.picobox.global.cache.CatalogueChangedEvent;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -21,6 +26,8 @@ import java.util.stream.Collectors;
 public class MovieGenreService {
 
     private final MovieGenreRepository movieGenreRepository;
+    private final MovieRepository movieRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public MovieGenreResponseDto registerGenre(MovieGenreRequestDto movieGenreRequestDto) {
@@ -33,9 +40,11 @@ public class MovieGenreService {
                 .genreName(movieGenreRequestDto.getGenreName())
                 .build();
         MovieGenre savedGenre = movieGenreRepository.save(movieGenre);
+        publishGenreChanged(List.of());
         return new MovieGenreResponseDto(savedGenre);
     }
 
+    @Cacheable(CatalogueCaches.MOVIE_GENRES)
     public List<MovieGenreResponseDto> findAllGenres() {
         return movieGenreRepository.findAll().stream()
                 .map(MovieGenreResponseDto::new)
@@ -61,6 +70,7 @@ public class MovieGenreService {
         }
 
         movieGenre.updateGenreName(movieGenreRequestDto.getGenreName());
+        publishGenreChanged(movieRepository.findIdsByGenreId(genreId));
         return new MovieGenreResponseDto(movieGenre);
     }
 
@@ -88,6 +98,7 @@ public class MovieGenreService {
             );
         }
 
+        List<Long> movieIds = movieRepository.findIdsByGenreId(genreId);
         // force가 true이거나, associatedMovies가 비어있으면 삭제 진행
         // ON DELETE CASCADE에 의해 MOVIE_GENRE_MAPPING 테이블의 관련 레코드는 자동으로 삭제됩니다.
         try {
@@ -97,5 +108,13 @@ public class MovieGenreService {
             log.error("장르 삭제 중 예상치 못한 DataIntegrityViolationException 발생 (ID: {}): {}", genreId, e.getMessage());
             throw new IllegalStateException("장르 삭제 중 데이터 무결성 문제가 발생했습니다. (ID: " + genreId + ")", e);
         }
+        publishGenreChanged(movieIds);
+    }
+
+    private void publishGenreChanged(List<Long> movieIds) {
+        eventPublisher.publishEvent(CatalogueChangedEvent.builder()
+                .target(CatalogueChangedEvent.Target.GENRE)
+                .movieIds(movieIds)
+                .build());
     }
 }
\ No newline at end of file
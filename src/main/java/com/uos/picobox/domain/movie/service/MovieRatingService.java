@@ -4,8 +4,13 @@ import com.uos.picobox.domain.movie.dto.rating.MovieRatingRequestDto;
 import com.uos.picobox.domain.movie.dto.rating.MovieRatingResponseDto;
 import com.uos.picobox.domain.movie.entity.MovieRating;
 import com.uos.picobox.domain.movie.repository.MovieRatingRepository;
+import com.uos.picobox.domain.movie.repository.MovieRepository;
+import com.uos.picobox.global.cache.CatalogueCaches;
+import com.uos.picobox.global.cache.CatalogueChangedEvent;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,6 +23,8 @@ import java.util.stream.Collectors;
 public class MovieRatingService {
 
     private final MovieRatingRepository movieRatingRepository;
+    private final MovieRepository movieRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public MovieRatingResponseDto registerMovieRating(MovieRatingRequestDto requestDto) {
@@ -31,9 +38,11 @@ public class MovieRatingService {
                 .description(requestDto.getDescription())
                 .build();
         MovieRating savedMovieRating = movieRatingRepository.save(movieRating);
+        publishMovieRatingChanged(List.of());
         return new MovieRatingResponseDto(savedMovieRating);
     }
 
+    @Cacheable(CatalogueCaches.MOVIE_RATINGS)
     public List<MovieRatingResponseDto> findAllMovieRatings() {
         return movieRatingRepository.findAll().stream()
                 .map(MovieRatingResponseDto::new)
@@ -62,6 +71,7 @@ public class MovieRatingService {
                 requestDto.getRatingName(),
                 requestDto.getDescription()
         );
+        publishMovieRatingChanged(movieRepository.findIdsByMovieRatingId(ratingId));
         return new MovieRatingResponseDto(movieRating);
     }
 
@@ -70,6 +80,15 @@ public class MovieRatingService {
         if (!movieRatingRepository.existsById(ratingId)) {
             throw new EntityNotFoundException("해당 ID의 영화 등급을 찾을 수 없습니다: " + ratingId);
         }
+        List<Long> movieIds = movieRepository.findIdsByMovieRatingId(ratingId);
         movieRatingRepository.deleteById(ratingId);
+        publishMovieRatingChanged(movieIds);
+    }
+
+    private void publishMovieRatingChanged(List<Long> movieIds) {
+        eventPublisher.publishEvent(CatalogueChangedEvent.builder()
+                .target(CatalogueChangedEvent.Target.MOVIE_RATING)
+                .movieIds(movieIds)
+                .build());
     }
 }
\ No newline at end of file
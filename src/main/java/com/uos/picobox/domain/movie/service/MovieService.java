@@ -5,14 +5,18 @@ import com.uos.picobox.domain.movie.dto.movie.MovieRequestDto;
 import com.uos.picobox.domain.movie.dto.movie.MovieResponseDto;
 import com.uos.picobox.domain.movie.entity.*;
 import com.uos.picobox.domain.movie.repository.*;
-import com.uos.picobox.domain.reservation.repository.ReservationRepository;
-import com.uos.picobox.domain.review.repository.ReviewRepository;
+import com.uos.picobox.domain.movie.ranking.MovieRankingBoard;
+import com.uos.picobox.domain.screening.repository.ScreeningRepository;
+import com.uos.picobox.domain.screening.schedule.ScreeningScheduleIndex;
+import com.uos.picobox.global.cache.CatalogueCaches;
+import com.uos.picobox.global.cache.CatalogueChangedEvent;
 import com.uos.picobox.global.service.S3Service;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityNotFoundException;
-import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
@@ -20,8 +24,6 @@ import org.springframework.web.multipart.MultipartFile;
 import software.amazon.awssdk.core.exception.SdkException;
 
 import java.io.IOException;
-import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.time.LocalDate;
 import java.util.*;
 import java.util.stream.Collectors;
@@ -39,8 +41,10 @@ public class MovieService {
     private final MovieGenreRepository movieGenreRepository;
     private final ActorRepository actorRepository;
     private final S3Service s3Service;
-    private final ReservationRepository reservationRepository;
-    private final ReviewRepository reviewRepository;
+    private final MovieRankingBoard movieRankingBoard;
+    private final ScreeningScheduleIndex screeningScheduleIndex;
+    private final ScreeningRepository screeningRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     // --- 관리자용 CRUD 메소드 ---
 
@@ -97,6 +101,8 @@ public class MovieService {
             });
         }
         Movie savedMovie = movieRepository.save(movie);
+        movieRankingBoard.invalidateAfterCommit();
+        publishMovieChanged(savedMovie.getId(), castActorIds(savedMovie), List.of());
         return new MovieResponseDto(savedMovie);
     }
 
@@ -120,11 +126,17 @@ public class MovieService {
         MovieRating movieRating = movieRatingRepository.findById(requestDto.getMovieRatingId())
                 .orElseThrow(() -> new EntityNotFoundException("영화 등급을 찾을 수 없습니다: ID " + requestDto.getMovieRatingId()));
 
+        // 출연진이 바뀌면 빠진 배우와 추가된 배우의 필모그래피가 모두 바뀝니다.
+        Set<Long> affectedActorIds = castActorIds(movie);
+
         movie.updateDetails(
                 requestDto.getTitle(), requestDto.getDescription(), requestDto.getDuration(),
                 releaseDate, screeningEndDate, requestDto.getLanguage(), requestDto.getDirector(),
                 distributor, movieRating
         );
+        // 상영 시간 인덱스는 영화 상영 시간과 제목을 함께 보관하므로 커밋 후 다시 적재하도록 합니다.
+        screeningScheduleIndex.invalidateAllAfterCommit();
+        movieRankingBoard.invalidateAfterCommit();
 
         if (posterImageFile != null && !posterImageFile.isEmpty()) {
             if (StringUtils.hasText(movie.getPosterUrl())) {
@@ -175,6 +187,9 @@ public class MovieService {
                 });
             }
         }
+        affectedActorIds.addAll(castActorIds(movie));
+        // 상영 스케줄에는 영화 제목과 종료 시간이 포함되어 있습니다.
+        publishMovieChanged(movieId, affectedActorIds, screeningRepository.findScreeningDatesByMovieId(movieId));
         return new MovieResponseDto(movie);
     }
 
@@ -199,6 +214,8 @@ public class MovieService {
             }
         }
         movie.updatePosterUrl(newPosterS3Url);
+        movieRankingBoard.invalidateAfterCommit();
+        publishMovieChanged(movieId, castActorIds(movie), List.of());
         return new MovieResponseDto(movie);
     }
 
@@ -213,7 +230,26 @@ public class MovieService {
                 log.error("MovieService: 포스터 삭제 실패. URL: " + movie.getPosterUrl(), e);
             }
         }
+        Set<Long> actorIds = castActorIds(movie);
+        List<LocalDate> screeningDates = screeningRepository.findScreeningDatesByMovieId(movieId);
         movieRepository.delete(movie);
+        movieRankingBoard.invalidateAfterCommit();
+        publishMovieChanged(movieId, actorIds, screeningDates);
+    }
+
+    private Set<Long> castActorIds(Movie movie) {
+        return movie.getMovieCasts().stream()
+                .map(movieCast -> movieCast.getActor().getId())
+                .collect(Collectors.toCollection(HashSet::new));
+    }
+
+    private void publishMovieChanged(Long movieId, Collection<Long> actorIds, Collection<LocalDate> screeningDates) {
+        eventPublisher.publishEvent(CatalogueChangedEvent.builder()
+                .target(CatalogueChangedEvent.Target.MOVIE)
+                .movieIds(List.of(movieId))
+                .actorIds(actorIds)
+                .screeningDates(screeningDates)
+                .build());
     }
 
     public List<MovieResponseDto> findAllMoviesForAdmin() {
@@ -222,6 +258,7 @@ public class MovieService {
                 .collect(Collectors.toList());
     }
 
+    @Cacheable(cacheNames = CatalogueCaches.MOVIE_DETAIL, key = "#movieId")
     public MovieResponseDto getMovieDetail(Long movieId) {
         Movie movie = movieRepository.findMovieDetailsById(movieId)
                 .orElseThrow(() -> new EntityNotFoundException("해당 ID의 영화를 찾을 수 없습니다: " + movieId));
@@ -229,122 +266,12 @@ public class MovieService {
     }
 
     // --- 사용자용 API 메소드 ---
-    public List<MovieListItemDto> getMovieListForUser() {
-        LocalDate today = LocalDate.now();
-        List<Movie> candidateMovies = movieRepository.findActiveAndUpcomingMovies(today);
-
-        if (candidateMovies.isEmpty()) {
-            return Collections.emptyList();
-        }
 
-        // 전체 예매 관객 수 조회
-        Long totalAudience = reservationRepository.countTotalReservedAudience();
-        if (totalAudience == null) {
-            totalAudience = 0L;
-        }
-
-        List<MovieListItemDtoInternal> processedMovies = new ArrayList<>();
-
-        for (Movie movie : candidateMovies) {
-            String status;
-            LocalDate releaseDate = movie.getReleaseDate();
-            LocalDate screeningEndDate = movie.getScreeningEndDate();
-
-            if (releaseDate.isAfter(today)) {
-                status = "UPCOMING";
-            } else { // 개봉일 <= 오늘
-                if (screeningEndDate == null || !screeningEndDate.isBefore(today)) {
-                    // 상영 종료일이 없거나(미정), 오늘 이후이면 "현재 상영중"
-                    status = "NOW_PLAYING";
-                } else {
-                    // 상영 종료일이 오늘 이전이면 "상영 종료"
-                    status = "ENDED";
-                }
-            }
-
-            if ("NOW_PLAYING".equals(status) || "UPCOMING".equals(status)) {
-                // 예매율 계산
-                Double reservationRate = null;
-                if ("NOW_PLAYING".equals(status)) {
-                    Long movieAudience = reservationRepository.countReservedAudienceByMovieId(movie.getId());
-                    if (movieAudience == null) {
-                        movieAudience = 0L;
-                    }
-                    
-                    if (totalAudience > 0) {
-                        double rate = (movieAudience.doubleValue() / totalAudience.doubleValue()) * 100;
-                        reservationRate = BigDecimal.valueOf(rate)
-                                .setScale(2, RoundingMode.HALF_UP)
-                                .doubleValue();
-                    } else {
-                        reservationRate = 0.0;
-                    }
-                }
-
-                // 리뷰 평점 계산
-                Double reviewRating = reviewRepository.calculateAverageRatingByMovieId(movie.getId());
-                if (reviewRating != null) {
-                    reviewRating = BigDecimal.valueOf(reviewRating)
-                            .setScale(2, RoundingMode.HALF_UP)
-                            .doubleValue();
-                }
-
-                processedMovies.add(new MovieListItemDtoInternal(movie, status, reservationRate, reviewRating));
-            }
-        }
-
-        // 정렬: 현재 상영작 우선, 그 다음 예매율 높은 순, 예매율 같으면 개봉일 최신순
-        processedMovies.sort(Comparator
-                .comparing(MovieListItemDtoInternal::getStatusSortOrder)
-                .thenComparing(m -> m.getReservationRate() != null ? m.getReservationRate() : -1.0, Comparator.reverseOrder())
-                .thenComparing(m -> m.getMovie().getReleaseDate(), Comparator.reverseOrder())
-                .thenComparing(m -> m.getMovie().getId(), Comparator.reverseOrder())
-        );
-
-        // 랭킹 부여 (상영 중인 영화만)
-        List<MovieListItemDto> result = new ArrayList<>();
-        int currentRank = 1;
-        
-        for (MovieListItemDtoInternal movieInternal : processedMovies) {
-            Integer rank = null;
-            
-            // 현재 상영 중인 영화만 랭킹 부여
-            if ("NOW_PLAYING".equals(movieInternal.getStatus())) {
-                rank = currentRank++;
-            }
-            
-            result.add(MovieListItemDto.fromEntity(
-                    movieInternal.getMovie(), 
-                    rank, 
-                    movieInternal.getReservationRate(), 
-                    movieInternal.getReviewRating()
-            ));
-        }
-        
-        return result;
-    }
-
-    @Getter
-    private static class MovieListItemDtoInternal {
-        private final Movie movie;
-        private final String status;
-        private final int statusSortOrder;
-        private final Double reservationRate;
-        private final Double reviewRating;
-        
-        public MovieListItemDtoInternal(Movie movie, String status, Double reservationRate, Double reviewRating) {
-            this.movie = movie;
-            this.status = status;
-            this.reservationRate = reservationRate;
-            this.reviewRating = reviewRating;
-            
-            if ("NOW_PLAYING".equals(status)) {
-                this.statusSortOrder = 0;
-            } else if ("UPCOMING".equals(status)) {
-                this.statusSortOrder = 1;
-            } else {
-                this.statusSortOrder = 2;
-            }
-        }
+    /**
+     * 현재 상영작(예매율 순위 포함)과 상영 예정작 목록을 조회합니다.
+     * 예매율/평점은 MovieRankingBoard의 메모리 집계를 사용합니다.
+     */
+    public List<MovieListItemDto> getMovieListForUser() {
+        return movieRankingBoard.getMovieList();
     }
-}
\ No newline at end of file
+}
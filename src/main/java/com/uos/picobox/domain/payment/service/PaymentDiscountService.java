@@ -5,6 +5,7 @@ import com.uos.picobox.domain.payment.dto.PaymentDiscountRequestDto;
 import com.uos.picobox.domain.payment.dto.PaymentDiscountResponseDto;
 import com.uos.picobox.domain.payment.entity.PaymentDiscount;
 import com.uos.picobox.domain.payment.repository.PaymentDiscountRepository;
+import com.uos.picobox.domain.price.engine.PricingEngine;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -18,6 +19,7 @@ import java.util.List;
 @Transactional(readOnly = true)
 public class PaymentDiscountService {
     private final PaymentDiscountRepository paymentDiscountRepository;
+    private final PricingEngine pricingEngine;
 
     @Transactional
     public PaymentDiscountResponseDto registerPaymentDiscount(PaymentDiscountRequestDto dto) {
@@ -35,6 +37,7 @@ public class PaymentDiscountService {
         }
         PaymentDiscount paymentDiscount = dto.toEntity();
         paymentDiscount = paymentDiscountRepository.save(paymentDiscount);
+        pricingEngine.refreshPaymentDiscountsAfterCommit();
         return new PaymentDiscountResponseDto(paymentDiscount);
     }
 
@@ -59,6 +62,7 @@ public class PaymentDiscountService {
          if (dto.getDescription() != null && !dto.getDescription().isEmpty()) {
              paymentDiscount.setDescription(dto.getDescription());
          }
+         pricingEngine.refreshPaymentDiscountsAfterCommit();
          return new PaymentDiscountResponseDto(paymentDiscount);
     }
 
@@ -68,6 +72,7 @@ public class PaymentDiscountService {
             throw new IllegalArgumentException("존재하지 않는 할인 Id입니다.");
         }
         paymentDiscountRepository.deleteById(id);
+        pricingEngine.refreshPaymentDiscountsAfterCommit();
     }
 
     public PaymentDiscountResponseDto[] getPaymentDiscounts() {
@@ -15,6 +15,7 @@ import com.uos.picobox.domain.reservation.entity.Reservation;
 import com.uos.picobox.domain.reservation.repository.ReservationRepository;
 import com.uos.picobox.global.enumClass.PaymentStatus;
 import com.uos.picobox.global.enumClass.PointChangeType;
+import com.uos.picobox.global.session.SessionPrincipal;
 import com.uos.picobox.global.utils.PaymentUtils;
 import com.uos.picobox.user.entity.Customer;
 import com.uos.picobox.user.entity.Guest;
@@ -38,7 +39,6 @@ import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
 import java.util.Base64;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 
 @Slf4j
@@ -92,10 +92,10 @@ public class PaymentService {
     }
 
     @Transactional
-    public ConfirmPaymentResponseDto confirmPayment(ConfirmPaymentRequestDto paymentRequestDto, Map<String, Object> userInfo) {
+    public ConfirmPaymentResponseDto confirmPayment(ConfirmPaymentRequestDto paymentRequestDto, SessionPrincipal userInfo) {
         log.info("Confirm payment request: {}", paymentRequestDto);
-        String userType = (String) userInfo.get("type");
-        Long userId = (Long) userInfo.get("id");
+        String userType = userInfo.getType().getValue();
+        Long userId = userInfo.getId();
 
         String orderId = paymentRequestDto.getOrderId();
         Integer finalAmount = paymentRequestDto.getFinalAmount();
@@ -231,9 +231,9 @@ public class PaymentService {
                     .build();
         }
     }
-    public ConfirmPaymentResponseDto[] findPaymentHistoryByUser(Map<String, Object> userInfo) {
-        String userType = (String) userInfo.get("type");
-        Long userId = (Long) userInfo.get("id");
+    public ConfirmPaymentResponseDto[] findPaymentHistoryByUser(SessionPrincipal userInfo) {
+        String userType = userInfo.getType().getValue();
+        Long userId = userInfo.getId();
 
         if ("customer".equals(userType)) {
             Customer customer = customerRepository.findById(userId).orElseThrow(() ->
@@ -285,9 +285,9 @@ public class PaymentService {
     }
 
     @Transactional
-    public void refundPayment(Long reservationId, String refundReason, Map<String, Object> userInfo) {
-        String userType = (String) userInfo.get("type");
-        Long userId = (Long) userInfo.get("id");
+    public void refundPayment(Long reservationId, String refundReason, SessionPrincipal userInfo) {
+        String userType = userInfo.getType().getValue();
+        Long userId = userInfo.getId();
 
         // paymentStatus 업데이트
         Payment payment = paymentRepository.findByReservationId(reservationId).orElseThrow(() ->
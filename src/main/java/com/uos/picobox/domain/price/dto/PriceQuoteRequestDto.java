@@ -0,0 +1,46 @@
+package com.uos.picobox.domain.price.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class PriceQuoteRequestDto {
+
+    @NotEmpty(message = "상영 ID는 최소 하나 이상 있어야 합니다.")
+    @Size(max = 100, message = "한 번에 최대 100개 상영까지 조회할 수 있습니다.")
+    @Schema(description = "가격을 계산할 상영 ID 목록", example = "[1, 2, 3]", requiredMode = Schema.RequiredMode.REQUIRED)
+    private List<Long> screeningIds;
+
+    @Valid
+    @NotEmpty(message = "티켓 유형별 인원수 정보는 최소 하나 이상 있어야 합니다.")
+    @Schema(description = "티켓 유형별 인원수 목록")
+    private List<TicketTypeInfo> ticketTypes;
+
+    @Schema(description = "적용할 결제 할인 ID (없을 수 있음)", example = "3")
+    private Long paymentDiscountId;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class TicketTypeInfo {
+        @NotNull
+        @Schema(description = "티켓 종류 ID", example = "1", requiredMode = Schema.RequiredMode.REQUIRED)
+        private Long ticketTypeId;
+
+        @NotNull
+        @Min(value = 1, message = "인원수는 1명 이상이어야 합니다.")
+        @Schema(description = "해당 티켓 종류의 인원수", example = "2", requiredMode = Schema.RequiredMode.REQUIRED)
+        private Integer count;
+    }
+}
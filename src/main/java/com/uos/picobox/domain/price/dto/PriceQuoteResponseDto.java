@@ -0,0 +1,68 @@
+package com.uos.picobox.domain.price.dto;
+
+import com.uos.picobox.domain.price.engine.TicketQuote;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class PriceQuoteResponseDto {
+
+    @Schema(description = "상영 ID", example = "1")
+    private Long screeningId;
+
+    @Schema(description = "상영관 ID", example = "1")
+    private Long roomId;
+
+    @Schema(description = "티켓 유형별 가격 목록")
+    private List<TicketPrice> tickets;
+
+    @Schema(description = "총 금액 (가격 규칙 반영, 결제 할인 전)", example = "22000")
+    private Integer totalAmount;
+
+    @Schema(description = "결제 할인 금액", example = "3300")
+    private Integer paymentDiscountAmount;
+
+    @Schema(description = "최종 금액 (결제 할인 반영 후)", example = "18700")
+    private Integer finalAmount;
+
+    public PriceQuoteResponseDto(Long screeningId, Long roomId, List<TicketPrice> tickets, int paymentDiscountAmount) {
+        this.screeningId = screeningId;
+        this.roomId = roomId;
+        this.tickets = tickets;
+        this.totalAmount = tickets.stream().mapToInt(TicketPrice::getAmount).sum();
+        this.paymentDiscountAmount = paymentDiscountAmount;
+        this.finalAmount = this.totalAmount - paymentDiscountAmount;
+    }
+
+    @Getter
+    public static class TicketPrice {
+        @Schema(description = "티켓 종류 ID", example = "1")
+        private Long ticketTypeId;
+
+        @Schema(description = "티켓 종류명", example = "성인")
+        private String typeName;
+
+        @Schema(description = "상영관 기본 가격", example = "14000")
+        private Integer basePrice;
+
+        @Schema(description = "가격 규칙(조조할인 등) 적용 후 1장 가격", example = "11000")
+        private Integer price;
+
+        @Schema(description = "인원수", example = "2")
+        private Integer count;
+
+        @Schema(description = "금액 (가격 x 인원수)", example = "22000")
+        private Integer amount;
+
+        public TicketPrice(TicketQuote quote, int count) {
+            this.ticketTypeId = quote.getTicketTypeId();
+            this.typeName = quote.getTypeName();
+            this.basePrice = quote.getBasePrice();
+            this.price = quote.getPrice();
+            this.count = count;
+            this.amount = quote.getPrice() * count;
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.uos.picobox.domain.price.engine;
+
+import com.uos.picobox.domain.payment.entity.PaymentDiscount;
+import com.uos.picobox.domain.payment.repository.PaymentDiscountRepository;
+import com.uos.picobox.domain.price.service.PriceCatalog;
+import com.uos.picobox.global.utils.TransactionUtils;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 티켓 가격 계산기. 예매와 가격 조회가 같은 계산을 사용합니다.
+ *
+ * 기본 가격은 PriceCatalog에서, 시간대/요일/상영관/티켓 종류별 조정은 시작 시 PricingRule로 만든 PricingTable에서 읽으므로
+ * 티켓 한 장의 계산에 DB 조회가 없습니다. 결제 할인(PaymentDiscount)은 규칙 적용 후 합계에 한 번 적용하며,
+ * 할인 정보는 메모리에 보관하다가 관리자가 수정하면 커밋 이후 다시 읽고,
+ * 다른 서버에서 수정한 할인도 반영되도록 읽은 지 PAYMENT_DISCOUNTS_MAX_AGE가 지나면 다음 계산 시 다시 읽습니다.
+ */
+@Slf4j
+@Component
+public class PricingEngine {
+
+    private static final Duration PAYMENT_DISCOUNTS_MAX_AGE = Duration.ofSeconds(30);
+
+    private final PriceCatalog priceCatalog;
+    private final PaymentDiscountRepository paymentDiscountRepository;
+    private final PricingTable pricingTable;
+
+    private volatile Map<Long, PaymentDiscount> paymentDiscounts;
+    private volatile long paymentDiscountsExpiresAtMillis;
+
+    public PricingEngine(PriceCatalog priceCatalog, PaymentDiscountRepository paymentDiscountRepository,
+                         List<PricingRule> pricingRules) {
+        this.priceCatalog = priceCatalog;
+        this.paymentDiscountRepository = paymentDiscountRepository;
+        this.pricingTable = new PricingTable(pricingRules);
+        log.info("가격 규칙 {}개를 적용합니다: {}", pricingRules.size(),
+                pricingRules.stream().map(PricingRule::getName).toList());
+    }
+
+    /**
+     * @return 상영의 티켓 한 장 가격, 상영관에 해당 티켓 종류의 가격이 설정되지 않은 경우 빈 값
+     */
+    public Optional<TicketQuote> findQuote(Long roomId, LocalDateTime screeningTime, Long ticketTypeId) {
+        return priceCatalog.findPrice(roomId, ticketTypeId)
+                .map(entry -> quote(roomId, screeningTime, entry));
+    }
+
+    /**
+     * @return 상영관에 가격이 설정된 모든 티켓 종류의 가격 (티켓 종류 ID 순)
+     */
+    public List<TicketQuote> quoteAll(Long roomId, LocalDateTime screeningTime) {
+        return priceCatalog.getPrices(roomId).stream()
+                .map(entry -> quote(roomId, screeningTime, entry))
+                .toList();
+    }
+
+    /**
+     * 결제 할인을 적용했을 때의 할인 금액을 계산합니다. 할인율은 원 단위 미만을 버립니다.
+     * @throws EntityNotFoundException 존재하지 않는 할인 ID인 경우
+     */
+    public int paymentDiscountAmount(int amount, Long paymentDiscountId) {
+        PaymentDiscount paymentDiscount = currentPaymentDiscounts().get(paymentDiscountId);
+        if (paymentDiscount == null) {
+            throw new EntityNotFoundException("존재하지 않는 할인 ID입니다.");
+        }
+        int discountAmount = 0;
+        if (paymentDiscount.getDiscountRate() != null) {
+            discountAmount = BigDecimal.valueOf(amount)
+                    .multiply(paymentDiscount.getDiscountRate())
+                    .divide(BigDecimal.valueOf(100), 0, RoundingMode.DOWN)
+                    .intValue();
+        } else if (paymentDiscount.getDiscountAmount() != null) {
+            discountAmount = paymentDiscount.getDiscountAmount();
+        }
+        return Math.min(amount, Math.max(0, discountAmount));
+    }
+
+    /**
+     * 결제 할인 정보 변경이 커밋된 뒤 이 서버에서 다시 읽도록 합니다. 다른 서버에는 PAYMENT_DISCOUNTS_MAX_AGE 안에 반영됩니다.
+     */
+    public void refreshPaymentDiscountsAfterCommit() {
+        TransactionUtils.afterCommit(this::invalidatePaymentDiscounts);
+    }
+
+    private TicketQuote quote(Long roomId, LocalDateTime screeningTime, PriceCatalog.PriceEntry entry) {
+        int adjustment = pricingTable.adjustment(screeningTime, roomId, entry.getTicketTypeId());
+        return new TicketQuote(entry.getTicketTypeId(), entry.getTypeName(), entry.getPrice(), adjustment);
+    }
+
+    private Map<Long, PaymentDiscount> currentPaymentDiscounts() {
+        Map<Long, PaymentDiscount> current = paymentDiscounts;
+        return current != null && !isPaymentDiscountsExpired() ? current : loadPaymentDiscounts();
+    }
+
+    // PriceCatalog와 같이 조회와 무효화를 직렬화하여 커밋 전 조회 결과가 남지 않도록 합니다.
+    private synchronized Map<Long, PaymentDiscount> loadPaymentDiscounts() {
+        if (paymentDiscounts == null || isPaymentDiscountsExpired()) {
+            long expiresAtMillis = System.currentTimeMillis() + PAYMENT_DISCOUNTS_MAX_AGE.toMillis();
+            paymentDiscounts = paymentDiscountRepository.findAll().stream()
+                    .collect(Collectors.toUnmodifiableMap(PaymentDiscount::getId, Function.identity()));
+            paymentDiscountsExpiresAtMillis = expiresAtMillis;
+        }
+        return paymentDiscounts;
+    }
+
+    private boolean isPaymentDiscountsExpired() {
+        return System.currentTimeMillis() >= paymentDiscountsExpiresAtMillis;
+    }
+
+    private synchronized void invalidatePaymentDiscounts() {
+        paymentDiscounts = null;
+    }
+}
@@ -0,0 +1,37 @@
+package com.uos.picobox.domain.price.engine;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.Set;
+
+/**
+ * 티켓 한 장의 가격을 조정하는 규칙입니다.
+ * 요일/시간대/상영관/티켓 종류가 모두 일치하는 상영에 amount만큼 가격을 더하며(할인은 음수), 일치하는 규칙이 여럿이면 모두 합산합니다.
+ * 비어 있는 조건은 전체에 적용됩니다. 종료 시각이 시작 시각보다 이르면 다음 날 종료 시각까지 적용됩니다.
+ */
+@Getter
+public class PricingRule {
+
+    private final String name;
+    private final Set<DayOfWeek> days;
+    private final LocalTime startTime;
+    private final LocalTime endTime;
+    private final Set<Long> roomIds;
+    private final Set<Long> ticketTypeIds;
+    private final int amount;
+
+    @Builder
+    public PricingRule(String name, Set<DayOfWeek> days, LocalTime startTime, LocalTime endTime,
+                       Set<Long> roomIds, Set<Long> ticketTypeIds, int amount) {
+        this.name = name;
+        this.days = days != null ? Set.copyOf(days) : Set.of();
+        this.startTime = startTime != null ? startTime : LocalTime.MIDNIGHT;
+        this.endTime = endTime != null ? endTime : LocalTime.MIDNIGHT;
+        this.roomIds = roomIds != null ? Set.copyOf(roomIds) : Set.of();
+        this.ticketTypeIds = ticketTypeIds != null ? Set.copyOf(ticketTypeIds) : Set.of();
+        this.amount = amount;
+    }
+}
@@ -0,0 +1,26 @@
+package com.uos.picobox.domain.price.engine;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.LocalTime;
+
+/**
+ * 가격 규칙 등록. PricingRule 빈을 추가하면 PricingEngine이 시작 시 조회표로 만들어 사용합니다.
+ */
+@Configuration
+public class PricingRuleConfig {
+
+    /**
+     * 조조할인: 06:00 ~ 11:00 시작 상영은 좌석당 3000원 할인
+     */
+    @Bean
+    public PricingRule earlyBirdDiscountRule() {
+        return PricingRule.builder()
+                .name("조조할인")
+                .startTime(LocalTime.of(6, 0))
+                .endTime(LocalTime.of(11, 0))
+                .amount(-3000)
+                .build();
+    }
+}
@@ -0,0 +1,107 @@
+package com.uos.picobox.domain.price.engine;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * PricingRule 목록을 미리 계산해 둔 조회표입니다.
+ * 한 주를 분 단위로 나누어 같은 규칙 조합이 적용되는 구간(band)을 만들고,
+ * 구간마다 상영관/티켓 종류별 조정 금액 합계를 저장하므로 조회는 규칙 수와 관계없이 배열/맵 조회 몇 번으로 끝납니다.
+ */
+class PricingTable {
+
+    private static final int MINUTES_PER_DAY = 24 * 60;
+    private static final int MINUTES_PER_WEEK = 7 * MINUTES_PER_DAY;
+
+    private final short[] bandByMinute = new short[MINUTES_PER_WEEK];
+    private final Band[] bands;
+
+    PricingTable(List<PricingRule> rules) {
+        if (rules.size() > Long.SIZE) {
+            throw new IllegalStateException("가격 규칙은 최대 " + Long.SIZE + "개까지 등록할 수 있습니다.");
+        }
+        long[] ruleMasks = new long[MINUTES_PER_WEEK];
+        for (int i = 0; i < rules.size(); i++) {
+            markRule(rules.get(i), 1L << i, ruleMasks);
+        }
+
+        Map<Long, Short> bandIndexes = new HashMap<>();
+        List<Band> bandList = new ArrayList<>();
+        for (int minute = 0; minute < MINUTES_PER_WEEK; minute++) {
+            bandByMinute[minute] = bandIndexes.computeIfAbsent(ruleMasks[minute], mask -> {
+                bandList.add(new Band(rules, mask));
+                return (short) (bandList.size() - 1);
+            });
+        }
+        this.bands = bandList.toArray(new Band[0]);
+    }
+
+    /**
+     * @return 상영 시각/상영관/티켓 종류에 적용되는 티켓 한 장당 조정 금액 합계
+     */
+    int adjustment(LocalDateTime screeningTime, Long roomId, Long ticketTypeId) {
+        int minute = (screeningTime.getDayOfWeek().getValue() - 1) * MINUTES_PER_DAY
+                + screeningTime.getHour() * 60 + screeningTime.getMinute();
+        return bands[bandByMinute[minute]].adjustment(roomId, ticketTypeId);
+    }
+
+    private static void markRule(PricingRule rule, long ruleBit, long[] ruleMasks) {
+        int start = rule.getStartTime().getHour() * 60 + rule.getStartTime().getMinute();
+        int end = rule.getEndTime().getHour() * 60 + rule.getEndTime().getMinute();
+        int length = end > start ? end - start : end - start + MINUTES_PER_DAY;
+        for (DayOfWeek day : DayOfWeek.values()) {
+            if (!rule.getDays().isEmpty() && !rule.getDays().contains(day)) {
+                continue;
+            }
+            int dayStart = (day.getValue() - 1) * MINUTES_PER_DAY + start;
+            for (int offset = 0; offset < length; offset++) {
+                ruleMasks[(dayStart + offset) % MINUTES_PER_WEEK] |= ruleBit;
+            }
+        }
+    }
+
+    /**
+     * 같은 규칙 조합이 적용되는 시간 구간의 조정 금액 합계입니다.
+     */
+    private static class Band {
+        private int anyAdjustment;
+        private final Map<Long, Integer> roomAdjustments = new HashMap<>();
+        private final Map<Long, Integer> ticketTypeAdjustments = new HashMap<>();
+        private final Map<Long, Map<Long, Integer>> roomTicketTypeAdjustments = new HashMap<>();
+
+        private Band(List<PricingRule> rules, long mask) {
+            for (int i = 0; i < rules.size(); i++) {
+                if ((mask & (1L << i)) != 0) {
+                    add(rules.get(i));
+                }
+            }
+        }
+
+        private void add(PricingRule rule) {
+            int amount = rule.getAmount();
+            if (rule.getRoomIds().isEmpty() && rule.getTicketTypeIds().isEmpty()) {
+                anyAdjustment += amount;
+            } else if (rule.getTicketTypeIds().isEmpty()) {
+                rule.getRoomIds().forEach(roomId -> roomAdjustments.merge(roomId, amount, Integer::sum));
+            } else if (rule.getRoomIds().isEmpty()) {
+                rule.getTicketTypeIds().forEach(ticketTypeId -> ticketTypeAdjustments.merge(ticketTypeId, amount, Integer::sum));
+            } else {
+                for (Long roomId : rule.getRoomIds()) {
+                    Map<Long, Integer> adjustments = roomTicketTypeAdjustments.computeIfAbsent(roomId, id -> new HashMap<>());
+                    rule.getTicketTypeIds().forEach(ticketTypeId -> adjustments.merge(ticketTypeId, amount, Integer::sum));
+                }
+            }
+        }
+
+        private int adjustment(Long roomId, Long ticketTypeId) {
+            return anyAdjustment
+                    + roomAdjustments.getOrDefault(roomId, 0)
+                    + ticketTypeAdjustments.getOrDefault(ticketTypeId, 0)
+                    + roomTicketTypeAdjustments.getOrDefault(roomId, Map.of()).getOrDefault(ticketTypeId, 0);
+        }
+    }
+}
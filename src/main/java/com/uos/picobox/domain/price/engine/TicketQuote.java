@@ -0,0 +1,25 @@
+package com.uos.picobox.domain.price.engine;
+
+import lombok.Getter;
+
+/**
+ * 특정 상영의 티켓 한 장 가격 계산 결과
+ */
+@Getter
+public class TicketQuote {
+
+    private final Long ticketTypeId;
+    private final String typeName;
+    private final int basePrice;
+    private final int adjustment;
+    private final int price;
+
+    TicketQuote(Long ticketTypeId, String typeName, int basePrice, int adjustment) {
+        this.ticketTypeId = ticketTypeId;
+        this.typeName = typeName;
+        this.basePrice = basePrice;
+        this.adjustment = adjustment;
+        // 가격이 음수가 되지 않도록 보장
+        this.price = Math.max(0, basePrice + adjustment);
+    }
+}
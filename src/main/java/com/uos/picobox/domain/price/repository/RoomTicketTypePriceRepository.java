@@ -15,4 +15,7 @@ public interface RoomTicketTypePriceRepository extends JpaRepository<RoomTicketT
 
     @Query("SELECT p FROM RoomTicketTypePrice p JOIN FETCH p.screeningRoom sr JOIN FETCH p.ticketType tt WHERE sr.id = :roomId")
     List<RoomTicketTypePrice> findByScreeningRoomIdWithDetails(@Param("roomId") Long roomId);
+
+    @Query("SELECT p FROM RoomTicketTypePrice p JOIN FETCH p.screeningRoom sr JOIN FETCH p.ticketType tt ORDER BY sr.id, tt.id")
+    List<RoomTicketTypePrice> findAllWithDetails();
 }
\ No newline at end of file
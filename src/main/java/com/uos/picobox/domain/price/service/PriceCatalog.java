@@ -0,0 +1,114 @@
+package com.uos.picobox.domain.price.service;
+
+import com.uos.picobox.domain.price.entity.RoomTicketTypePrice;
+import com.uos.picobox.domain.price.repository.RoomTicketTypePriceRepository;
+import com.uos.picobox.global.utils.TransactionUtils;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 상영관 × 티켓 종류별 가격표를 메모리에 보관합니다.
+ * 가격표는 한 번 만들어지면 바뀌지 않으며, 관리자가 가격을 수정하면 커밋 이후 통째로 교체됩니다.
+ * 다른 서버에서 수정한 가격도 반영되도록 만든 지 MAX_AGE가 지난 가격표는 다음 조회 시 다시 읽습니다.
+ * 예매와 가격 조회는 그 사이 DB를 거치지 않고 현재 가격표를 읽습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PriceCatalog {
+
+    private static final Duration MAX_AGE = Duration.ofSeconds(30);
+
+    private final RoomTicketTypePriceRepository priceRepository;
+
+    private volatile PriceTable table;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        current();
+    }
+
+    /**
+     * @return 상영관의 티켓 종류별 가격 정보, 설정되지 않은 경우 빈 값
+     */
+    public Optional<PriceEntry> findPrice(Long roomId, Long ticketTypeId) {
+        return Optional.ofNullable(current().byRoom.getOrDefault(roomId, Map.of()).get(ticketTypeId));
+    }
+
+    /**
+     * @return 상영관에 설정된 가격 목록 (티켓 종류 ID 순)
+     */
+    public List<PriceEntry> getPrices(Long roomId) {
+        return List.copyOf(current().byRoom.getOrDefault(roomId, Map.of()).values());
+    }
+
+    /**
+     * 가격표에 영향을 주는 변경(가격, 티켓 종류명, 상영관 삭제)이 커밋된 뒤 이 서버의 가격표를 다시 만들도록 합니다.
+     * 트랜잭션이 롤백되면 기존 가격표를 그대로 사용합니다. 다른 서버에는 MAX_AGE 안에 반영됩니다.
+     */
+    public void refreshAfterCommit() {
+        TransactionUtils.afterCommit(this::invalidate);
+    }
+
+    private PriceTable current() {
+        PriceTable current = table;
+        return current != null && !current.isExpired() ? current : load();
+    }
+
+    // 커밋 전에 시작된 조회 결과가 무효화 이후에 저장되지 않도록 조회와 무효화를 같은 잠금으로 직렬화합니다.
+    private synchronized PriceTable load() {
+        if (table == null || table.isExpired()) {
+            table = new PriceTable(priceRepository.findAllWithDetails());
+            log.debug("가격표를 불러왔습니다: 상영관 {}개", table.byRoom.size());
+        }
+        return table;
+    }
+
+    private synchronized void invalidate() {
+        table = null;
+    }
+
+    private static class PriceTable {
+        private final Map<Long, Map<Long, PriceEntry>> byRoom;
+        private final long expiresAtMillis = System.currentTimeMillis() + MAX_AGE.toMillis();
+
+        private PriceTable(List<RoomTicketTypePrice> prices) {
+            Map<Long, Map<Long, PriceEntry>> rooms = new LinkedHashMap<>();
+            for (RoomTicketTypePrice price : prices) {
+                PriceEntry entry = new PriceEntry(price.getTicketType().getId(), price.getTicketType().getTypeName(), price.getPrice());
+                rooms.computeIfAbsent(price.getScreeningRoom().getId(), id -> new LinkedHashMap<>())
+                        .put(entry.ticketTypeId, entry);
+            }
+            rooms.replaceAll((roomId, entries) -> Collections.unmodifiableMap(entries));
+            this.byRoom = Collections.unmodifiableMap(rooms);
+        }
+
+        private boolean isExpired() {
+            return System.currentTimeMillis() >= expiresAtMillis;
+        }
+    }
+
+    @Getter
+    public static class PriceEntry {
+        private final Long ticketTypeId;
+        private final String typeName;
+        private final Integer price;
+
+        private PriceEntry(Long ticketTypeId, String typeName, Integer price) {
+            this.ticketTypeId = ticketTypeId;
+            this.typeName = typeName;
+            this.price = price;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.uos.picobox.domain.price.service;
+
+import com.uos.picobox.domain.price.dto.PriceQuoteRequestDto;
+import com.uos.picobox.domain.price.dto.PriceQuoteResponseDto;
+import com.uos.picobox.domain.price.engine.PricingEngine;
+import com.uos.picobox.domain.screening.repository.ScreeningRepository;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 여러 상영의 장바구니(티켓 종류별 인원수) 가격을 한 번에 계산합니다.
+ * 상영 정보는 IN 절 조회 한 번으로 가져오고, 가격은 예매와 같은 PricingEngine으로 계산합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PriceQuoteService {
+
+    private final ScreeningRepository screeningRepository;
+    private final PricingEngine pricingEngine;
+
+    /**
+     * @return 요청한 상영 순서대로의 가격 계산 결과
+     * @throws EntityNotFoundException 상영 정보나 가격 정보, 결제 할인 정보를 찾을 수 없는 경우
+     */
+    public List<PriceQuoteResponseDto> quote(PriceQuoteRequestDto dto) {
+        List<Long> screeningIds = new ArrayList<>(new LinkedHashSet<>(dto.getScreeningIds()));
+        Map<Long, Object[]> screenings = new HashMap<>();
+        for (Object[] row : screeningRepository.findRoomIdAndScreeningTimeByIdIn(screeningIds)) {
+            screenings.put((Long) row[0], row);
+        }
+
+        List<PriceQuoteResponseDto> quotes = new ArrayList<>();
+        for (Long screeningId : screeningIds) {
+            Object[] screening = screenings.get(screeningId);
+            if (screening == null) {
+                throw new EntityNotFoundException("해당 ID의 상영 스케줄을 찾을 수 없습니다: " + screeningId);
+            }
+            Long roomId = (Long) screening[1];
+            LocalDateTime screeningTime = (LocalDateTime) screening[2];
+
+            List<PriceQuoteResponseDto.TicketPrice> tickets = new ArrayList<>();
+            int totalAmount = 0;
+            for (PriceQuoteRequestDto.TicketTypeInfo ticketTypeInfo : dto.getTicketTypes()) {
+                PriceQuoteResponseDto.TicketPrice ticketPrice = new PriceQuoteResponseDto.TicketPrice(
+                        pricingEngine.findQuote(roomId, screeningTime, ticketTypeInfo.getTicketTypeId())
+                                .orElseThrow(() -> new EntityNotFoundException(
+                                        "해당 티켓 종류의 가격 정보를 찾을 수 없습니다: 상영 ID " + screeningId + ", 티켓 종류 ID " + ticketTypeInfo.getTicketTypeId())),
+                        ticketTypeInfo.getCount());
+                tickets.add(ticketPrice);
+                totalAmount += ticketPrice.getAmount();
+            }
+
+            int paymentDiscountAmount = dto.getPaymentDiscountId() != null
+                    ? pricingEngine.paymentDiscountAmount(totalAmount, dto.getPaymentDiscountId())
+                    : 0;
+            quotes.add(new PriceQuoteResponseDto(screeningId, roomId, tickets, paymentDiscountAmount));
+        }
+        return quotes;
+    }
+}
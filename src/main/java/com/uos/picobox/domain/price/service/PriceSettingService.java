@@ -28,6 +28,7 @@ public class PriceSettingService {
     private final RoomTicketTypePriceRepository priceRepository;
     private final ScreeningRoomRepository screeningRoomRepository;
     private final TicketTypeRepository ticketTypeRepository;
+    private final PriceCatalog priceCatalog;
 
     @Transactional
     public PriceSettingResponseDto setOrUpdatePrice(PriceSettingRequestDto requestDto) {
@@ -53,6 +54,7 @@ public class PriceSettingService {
             log.info("새로운 가격 정보가 설정되었습니다: 상영관 '{}', 티켓 '{}', 가격 {}", screeningRoom.getRoomName(), ticketType.getTypeName(), requestDto.getPrice());
         }
         RoomTicketTypePrice savedPriceSetting = priceRepository.save(priceSetting);
+        priceCatalog.refreshAfterCommit();
         return new PriceSettingResponseDto(savedPriceSetting);
     }
 
@@ -84,6 +86,7 @@ public class PriceSettingService {
             );
         }
         priceRepository.deleteById(id);
+        priceCatalog.refreshAfterCommit();
         log.info("가격 정보가 삭제되었습니다: 상영관 ID {}, 티켓 종류 ID {}", roomId, ticketTypeId);
     }
 }
\ No newline at end of file
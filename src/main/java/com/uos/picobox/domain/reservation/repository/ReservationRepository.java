@@ -15,7 +15,15 @@ import java.util.Optional;
 
 @Repository
 public interface ReservationRepository extends JpaRepository<Reservation, Long> {
-    List<Reservation> findByCustomerIdOrderByReservationDateDesc(Long customerId);
+    /**
+     * 고객의 예매 내역 조회 (티켓, 결제 정보 포함)
+     */
+    @Query("SELECT r FROM Reservation r " +
+           "LEFT JOIN FETCH r.tickets t " +
+           "LEFT JOIN FETCH r.payment p " +
+           "WHERE r.customer.id = :customerId " +
+           "ORDER BY r.reservationDate DESC")
+    List<Reservation> findByCustomerIdOrderByReservationDateDesc(@Param("customerId") Long customerId);
     List<Reservation> findByGuestIdOrderByReservationDateDesc(Long guestId);
     boolean existsByScreeningId(Long screeningId);
 
@@ -41,9 +49,11 @@ public interface ReservationRepository extends JpaRepository<Reservation, Long>
                                                                  @Param("status") ReservationStatus status);
 
     /**
-     * 고객의 예매 내역을 ReservationStatus로 조회
+     * 고객의 예매 내역을 ReservationStatus로 조회 (티켓, 결제 정보 포함)
      */
     @Query("SELECT r FROM Reservation r " +
+           "LEFT JOIN FETCH r.tickets t " +
+           "LEFT JOIN FETCH r.payment p " +
            "WHERE r.customer.id = :customerId " +
            "AND r.reservationStatus IN :statuses " +
            "ORDER BY r.id DESC")
@@ -51,9 +61,11 @@ public interface ReservationRepository extends JpaRepository<Reservation, Long>
                                                                           @Param("statuses") List<ReservationStatus> statuses);
 
     /**
-     * 게스트의 예매 내역을 ReservationStatus로 조회
+     * 게스트의 예매 내역을 ReservationStatus로 조회 (티켓, 결제 정보 포함)
      */
     @Query("SELECT r FROM Reservation r " +
+           "LEFT JOIN FETCH r.tickets t " +
+           "LEFT JOIN FETCH r.payment p " +
            "WHERE r.guest.id = :guestId " +
            "AND r.reservationStatus IN :statuses " +
            "ORDER BY r.id DESC")
@@ -81,22 +93,15 @@ public interface ReservationRepository extends JpaRepository<Reservation, Long>
                                                         @Param("guestId") Long guestId);
 
     /**
-     * 특정 영화의 총 예매 관객 수 조회
+     * 영화별 총 예매 관객 수 조회 [영화 ID, 관객 수]
+     * 예매율의 분모인 전체 관객 수는 결과를 합산하여 구합니다. (MovieRankingBoard 재집계/조회 시 사용)
      */
-    @Query("SELECT COUNT(t) FROM Reservation r " +
+    @Query("SELECT s.movie.id, COUNT(t) FROM Reservation r " +
            "JOIN r.tickets t " +
            "JOIN Screening s ON r.screeningId = s.id " +
-           "WHERE s.movie.id = :movieId " +
-           "AND r.reservationStatus = 'COMPLETED'")
-    Long countReservedAudienceByMovieId(@Param("movieId") Long movieId);
-
-    /**
-     * 전체 영화의 총 예매 관객 수 조회
-     */
-    @Query("SELECT COUNT(t) FROM Reservation r " +
-           "JOIN r.tickets t " +
-           "WHERE r.reservationStatus = 'COMPLETED'")
-    Long countTotalReservedAudience();
+           "WHERE r.reservationStatus = 'COMPLETED' " +
+           "GROUP BY s.movie.id")
+    List<Object[]> countReservedAudienceGroupByMovieId();
 
     @Query("SELECT r.payment FROM Reservation r WHERE r.customer = :customer")
     List<Payment> findPaymentsByCustomer(@Param("customer") Customer customer);
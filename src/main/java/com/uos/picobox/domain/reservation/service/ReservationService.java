@@ -1,20 +1,28 @@
 package com.uos.picobox.domain.reservation.service;
 
 import com.uos.picobox.domain.payment.entity.Payment;
+import com.uos.picobox.domain.movie.ranking.MovieRankingBoard;
 import com.uos.picobox.domain.payment.service.PaymentService;
 import com.uos.picobox.domain.ticket.entity.Ticket;
 import com.uos.picobox.global.enumClass.ReservationStatus;
-import com.uos.picobox.domain.price.entity.RoomTicketTypePrice;
-import com.uos.picobox.domain.price.repository.RoomTicketTypePriceRepository;
+import com.uos.picobox.domain.price.engine.PricingEngine;
 import com.uos.picobox.domain.reservation.dto.*;
 import com.uos.picobox.domain.reservation.entity.*;
 import com.uos.picobox.domain.reservation.repository.ReservationRepository;
+import com.uos.picobox.domain.room.entity.Seat;
+import com.uos.picobox.domain.room.repository.SeatRepository;
+import com.uos.picobox.domain.screening.engine.SeatHolder;
+import com.uos.picobox.domain.screening.engine.SeatStateEngine;
+import com.uos.picobox.domain.screening.engine.SeatStateWriter;
 import com.uos.picobox.domain.screening.entity.Screening;
-import com.uos.picobox.domain.screening.entity.ScreeningSeat;
+import com.uos.picobox.domain.screening.lease.SeatLeaseStore;
 import com.uos.picobox.domain.screening.entity.SeatStatus;
 import com.uos.picobox.domain.screening.repository.ScreeningRepository;
 import com.uos.picobox.domain.screening.repository.ScreeningSeatRepository;
 import com.uos.picobox.global.enumClass.TicketStatus;
+import com.uos.picobox.global.exception.SeatConflictException;
+import com.uos.picobox.global.session.SessionPrincipal;
+import com.uos.picobox.global.utils.TransactionUtils;
 import com.uos.picobox.user.entity.Customer;
 import com.uos.picobox.user.entity.Guest;
 import com.uos.picobox.user.repository.CustomerRepository;
@@ -23,13 +31,18 @@ import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -42,10 +55,15 @@ public class ReservationService {
     private final ScreeningSeatRepository screeningSeatRepository;
     private final CustomerRepository customerRepository;
     private final GuestRepository guestRepository;
-    private final RoomTicketTypePriceRepository roomTicketTypePriceRepository;
+    private final PricingEngine pricingEngine;
     private final ScreeningRepository screeningRepository;
+    private final SeatRepository seatRepository;
 
     private final PaymentService paymentService;
+    private final SeatStateEngine seatStateEngine;
+    private final SeatStateWriter seatStateWriter;
+    private final SeatLeaseStore seatLeaseStore;
+    private final MovieRankingBoard movieRankingBoard;
 
     private static final int SEAT_HOLD_MINUTES = 10;
 
@@ -55,35 +73,37 @@ public class ReservationService {
      * 
      * @param dto 선점할 좌석 정보 (상영 ID, 좌석 ID 목록)
      * @param userInfo 사용자 인증 정보
-     * @throws IllegalStateException 이미 선점되었거나 판매된 좌석인 경우
+     * @throws SeatConflictException 이미 선점되었거나 판매된 좌석인 경우
      * @throws EntityNotFoundException 존재하지 않는 좌석인 경우
      */
-    @Transactional
-    public void holdSeats(SeatRequestDto dto, Map<String, Object> userInfo) {
-        String userType = (String) userInfo.get("type");
-        Long userId = (Long) userInfo.get("id");
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // DB 반영은 SeatStateWriter의 짧은 트랜잭션에서 처리
+    public void holdSeats(SeatRequestDto dto, SessionPrincipal userInfo) {
+        String userType = userInfo.getType().getValue();
+        Long userId = userInfo.getId();
         
         log.info("좌석 선점 요청: screeningId={}, seatIds={}, userType={}, userId={}", 
                 dto.getScreeningId(), dto.getSeatIds(), userType, userId);
         
-        for (Long seatId : dto.getSeatIds()) {
-            ScreeningSeat.ScreeningSeatId id = new ScreeningSeat.ScreeningSeatId(dto.getScreeningId(), seatId);
-            ScreeningSeat screeningSeat = screeningSeatRepository.findById(id)
-                    .orElseThrow(() -> new EntityNotFoundException("좌석 정보를 찾을 수 없습니다: " + seatId));
-            
-            if (screeningSeat.getSeatStatus() != SeatStatus.AVAILABLE) {
-                throw new IllegalStateException("이미 선택된 좌석입니다: " + seatId);
-            }
-            
-            screeningSeat.setSeatStatus(SeatStatus.HOLD);
-            screeningSeat.setHoldExpiresAt(LocalDateTime.now().plusMinutes(SEAT_HOLD_MINUTES));
-            
-            if ("customer".equals(userType)) {
-                screeningSeat.setHoldCustomerId(userId);
-                screeningSeat.setHoldGuestId(null);
-            } else {
-                screeningSeat.setHoldGuestId(userId);
-                screeningSeat.setHoldCustomerId(null);
+        SeatHolder holder = SeatHolder.from(userInfo);
+        // DB 선점 만료 시각이 lease보다 늦지 않도록 lease를 받기 전에 계산합니다.
+        LocalDateTime holdExpiresAt = LocalDateTime.now().plusMinutes(SEAT_HOLD_MINUTES);
+        List<Long> conflictSeatIds = seatLeaseStore.acquire(
+                dto.getScreeningId(), dto.getSeatIds(), holder, Duration.ofMinutes(SEAT_HOLD_MINUTES));
+        if (!conflictSeatIds.isEmpty()) {
+            throw new SeatConflictException("이미 선택된 좌석입니다", conflictSeatIds);
+        }
+
+        // 존재하지 않는 좌석이거나 DB에서 이미 선점/판매된 좌석이면 받은 lease를 바로 반납합니다.
+        boolean held = false;
+        try {
+            seatStateEngine.checkSeats(dto.getScreeningId(), dto.getSeatIds());
+            // 다른 서버에서 판매된 좌석까지 확인되도록 DB에 조건부로 선점한 뒤 응답합니다. (충돌 시 충돌 좌석 전체를 담아 409)
+            seatStateWriter.hold(dto.getScreeningId(), dto.getSeatIds(), holder, holdExpiresAt);
+            seatStateEngine.hold(dto.getScreeningId(), dto.getSeatIds(), holder, holdExpiresAt);
+            held = true;
+        } finally {
+            if (!held) {
+                seatLeaseStore.release(dto.getScreeningId(), dto.getSeatIds(), holder);
             }
         }
         
@@ -99,33 +119,16 @@ public class ReservationService {
      * @throws IllegalStateException 다른 고객이 선점한 좌석을 해제하려는 경우
      * @throws EntityNotFoundException 존재하지 않는 좌석인 경우
      */
-    @Transactional
-    public void releaseSeats(SeatRequestDto dto, Map<String, Object> userInfo) {
-        String userType = (String) userInfo.get("type");
-        Long userId = (Long) userInfo.get("id");
-        
-        for (Long seatId : dto.getSeatIds()) {
-            ScreeningSeat.ScreeningSeatId id = new ScreeningSeat.ScreeningSeatId(dto.getScreeningId(), seatId);
-            ScreeningSeat screeningSeat = screeningSeatRepository.findById(id)
-                    .orElseThrow(() -> new EntityNotFoundException("좌석 정보를 찾을 수 없습니다: " + seatId));
-            
-            // 본인이 선점한 좌석인지 확인
-            boolean isOwnSeat = false;
-            if ("customer".equals(userType)) {
-                isOwnSeat = userId.equals(screeningSeat.getHoldCustomerId());
-            } else {
-                isOwnSeat = userId.equals(screeningSeat.getHoldGuestId());
-            }
-            
-            if (!isOwnSeat) {
-                throw new IllegalStateException("본인이 선점한 좌석이 아닙니다: " + seatId);
-            }
-            
-            screeningSeat.setSeatStatus(SeatStatus.AVAILABLE);
-            screeningSeat.setHoldExpiresAt(null);
-            screeningSeat.setHoldCustomerId(null);
-            screeningSeat.setHoldGuestId(null);
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // DB 반영은 SeatStateWriter의 짧은 트랜잭션에서 처리
+    public void releaseSeats(SeatRequestDto dto, SessionPrincipal userInfo) {
+        SeatHolder holder = SeatHolder.from(userInfo);
+        List<Long> notOwnedSeatIds = seatLeaseStore.release(dto.getScreeningId(), dto.getSeatIds(), holder);
+        if (!notOwnedSeatIds.isEmpty()) {
+            throw new IllegalStateException("본인이 선점한 좌석이 아닙니다: " + notOwnedSeatIds);
         }
+        // 다른 사용자가 바로 다시 선점할 수 있도록 DB의 HOLD 행도 응답 전에 삭제합니다.
+        seatStateWriter.release(dto.getScreeningId(), dto.getSeatIds(), holder);
+        seatStateEngine.release(dto.getScreeningId(), dto.getSeatIds());
     }
 
     /**
@@ -136,13 +139,13 @@ public class ReservationService {
      * @param dto 예매 정보 (상영 ID, 티켓 정보, 사용 포인트)
      * @param userInfo 사용자 인증 정보
      * @return 생성된 예매 정보
-     * @throws IllegalStateException 선점되지 않은 좌석을 예매하려는 경우
+     * @throws SeatConflictException 선점되지 않은 좌석을 예매하려는 경우
      * @throws EntityNotFoundException 고객, 상영, 가격 정보를 찾을 수 없는 경우
      */
     @Transactional
-    public ReservationResponseDto createPendingReservation(ReservationRequestDto dto, Map<String, Object> userInfo) {
-        String userType = (String) userInfo.get("type");
-        Long userId = (Long) userInfo.get("id");
+    public ReservationResponseDto createPendingReservation(ReservationRequestDto dto, SessionPrincipal userInfo) {
+        String userType = userInfo.getType().getValue();
+        Long userId = userInfo.getId();
 
         Screening screening = screeningRepository.findByIdWithDetails(dto.getScreeningId())
                 .orElseThrow(() -> new EntityNotFoundException("상영 정보를 찾을 수 없습니다: " + dto.getScreeningId()));
@@ -157,47 +160,32 @@ public class ReservationService {
         }
 
         // 모든 좌석이 해당 사용자가 선점한 좌석인지 확인
-        for (Long seatId : dto.getSeatIds()) {
-            ScreeningSeat screeningSeat = screeningSeatRepository.findById(new ScreeningSeat.ScreeningSeatId(dto.getScreeningId(), seatId))
-                    .orElseThrow(() -> new EntityNotFoundException("좌석 정보를 찾을 수 없습니다: " + seatId));
-            
-            if (screeningSeat.getSeatStatus() != SeatStatus.HOLD) {
-                throw new IllegalStateException("선점되지 않은 좌석을 예매할 수 없습니다: " + seatId);
-            }
-            
-            // 본인이 선점한 좌석인지 확인
-            boolean isOwnSeat = false;
-            if ("customer".equals(userType)) {
-                isOwnSeat = userId.equals(screeningSeat.getHoldCustomerId());
-            } else {
-                isOwnSeat = userId.equals(screeningSeat.getHoldGuestId());
-            }
-            
-            if (!isOwnSeat) {
-                throw new IllegalStateException("본인이 선점한 좌석이 아닙니다: " + seatId);
-            }
+        SeatHolder holder = SeatHolder.from(userInfo);
+        List<Long> notHeldSeatIds = seatLeaseStore.findSeatsNotHeldBy(dto.getScreeningId(), dto.getSeatIds(), holder);
+        if (!notHeldSeatIds.isEmpty()) {
+            throw new SeatConflictException("본인이 선점하지 않은 좌석은 예매할 수 없습니다", notHeldSeatIds);
+        }
+        // lease는 서버 간에 공유되지만 판매 여부는 DB에만 있으므로, DB의 선점 행도 잠그고 확인합니다. (판매/만료된 좌석 제외)
+        Set<Long> lockedSeatIds = screeningSeatRepository.findAllHeldByWithPessimisticLock(dto.getScreeningId(), dto.getSeatIds(),
+                        holder.getCustomerId(), holder.getGuestId(), LocalDateTime.now()).stream()
+                .map(screeningSeat -> screeningSeat.getSeat().getId())
+                .collect(Collectors.toSet());
+        if (lockedSeatIds.size() != dto.getSeatIds().size()) {
+            throw new SeatConflictException("본인이 선점하지 않은 좌석은 예매할 수 없습니다", dto.getSeatIds().stream()
+                    .filter(seatId -> !lockedSeatIds.contains(seatId))
+                    .toList());
         }
 
         // 총 금액 계산
         int totalAmount = 0;
         
-        // 조조할인 적용 여부 확인 (06:00 ~ 11:00 상영 시작)
-        boolean isEarlyBirdDiscount = false;
-        int screeningHour = screening.getScreeningTime().getHour();
-        if (screeningHour >= 6 && screeningHour < 11) {
-            isEarlyBirdDiscount = true;
-        }
-        
+        // 티켓 종류별 가격(조조할인 등 가격 규칙 적용)을 한 번만 계산하여 티켓 생성 시에도 사용합니다.
+        Map<Long, Integer> ticketPrices = new HashMap<>();
         for (ReservationRequestDto.TicketTypeInfo ticketTypeInfo : dto.getTicketTypes()) {
-            RoomTicketTypePrice priceInfo = roomTicketTypePriceRepository.findById(
-                    new RoomTicketTypePrice.RoomTicketTypePriceId(screening.getScreeningRoom().getId(), ticketTypeInfo.getTicketTypeId())
-            ).orElseThrow(() -> new EntityNotFoundException("해당 티켓 종류의 가격 정보를 찾을 수 없습니다."));
-            
-            int ticketPrice = priceInfo.getPrice();
-            // 조조할인 적용 (좌석당 3000원 할인)
-            if (isEarlyBirdDiscount) {
-                ticketPrice = Math.max(0, ticketPrice - 3000); // 가격이 음수가 되지 않도록 보장
-            }
+            int ticketPrice = pricingEngine.findQuote(screening.getScreeningRoom().getId(), screening.getScreeningTime(), ticketTypeInfo.getTicketTypeId())
+                    .orElseThrow(() -> new EntityNotFoundException("해당 티켓 종류의 가격 정보를 찾을 수 없습니다."))
+                    .getPrice();
+            ticketPrices.put(ticketTypeInfo.getTicketTypeId(), ticketPrice);
             
             totalAmount += ticketPrice * ticketTypeInfo.getCount();
         }
@@ -228,26 +216,27 @@ public class ReservationService {
         }
 
         // 티켓 생성 로직 - 좌석을 티켓 유형별로 순서대로 배정
+        // 상영관 좌석 배치에서 좌석 번호를 찾아 티켓에 기록합니다.
+        Map<Long, String> roomSeatNumbers = new HashMap<>();
+        for (Object[] seat : seatRepository.findIdAndSeatNumberByScreeningRoomId(screening.getScreeningRoom().getId())) {
+            roomSeatNumbers.put((Long) seat[0], (String) seat[1]);
+        }
+        String roomName = screening.getScreeningRoom().getRoomName();
         List<String> seatNumbers = new ArrayList<>();
         int seatIndex = 0;
         
         for (ReservationRequestDto.TicketTypeInfo ticketTypeInfo : dto.getTicketTypes()) {
-            RoomTicketTypePrice priceInfo = roomTicketTypePriceRepository.findById(
-                    new RoomTicketTypePrice.RoomTicketTypePriceId(screening.getScreeningRoom().getId(), ticketTypeInfo.getTicketTypeId())
-            ).orElseThrow(() -> new EntityNotFoundException("가격 정보를 찾을 수 없습니다."));
-
-            // 티켓 가격 계산 (조조할인 적용)
-            int ticketPrice = priceInfo.getPrice();
-            if (isEarlyBirdDiscount) {
-                ticketPrice = Math.max(0, ticketPrice - 3000);
-            }
+            // 티켓 가격 (가격 규칙 적용)
+            int ticketPrice = ticketPrices.get(ticketTypeInfo.getTicketTypeId());
 
             // 해당 티켓 유형의 인원수만큼 티켓 생성
             for (int i = 0; i < ticketTypeInfo.getCount(); i++) {
                 Long seatId = dto.getSeatIds().get(seatIndex++);
                 
-                ScreeningSeat screeningSeat = screeningSeatRepository.findById(new ScreeningSeat.ScreeningSeatId(dto.getScreeningId(), seatId))
-                        .orElseThrow(() -> new EntityNotFoundException("좌석 정보를 찾을 수 없습니다: " + seatId));
+                String seatNumber = roomSeatNumbers.get(seatId);
+                if (seatNumber == null) {
+                    throw new EntityNotFoundException("좌석 정보를 찾을 수 없습니다: " + seatId);
+                }
 
                 Ticket ticket = Ticket.builder()
                         .reservation(reservation)
@@ -256,9 +245,11 @@ public class ReservationService {
                         .ticketTypeId(ticketTypeInfo.getTicketTypeId())
                         .price(ticketPrice) // 할인된 가격 적용
                         .ticketStatus(TicketStatus.ISSUED)
+                        .seatNumber(seatNumber)
+                        .roomName(roomName)
                         .build();
                 reservation.addTicket(ticket);
-                seatNumbers.add(screeningSeat.getSeat().getSeatNumber());
+                seatNumbers.add(seatNumber);
             }
         }
 
@@ -284,9 +275,9 @@ public class ReservationService {
      * @throws EntityNotFoundException 예약 정보를 찾을 수 없는 경우
      */
     @Transactional
-    public void completeReservation(Long reservationId, Map<String, Object> userInfo) {
-        String userType = (String) userInfo.get("type");
-        Long userId = (Long) userInfo.get("id");
+    public void completeReservation(Long reservationId, SessionPrincipal userInfo) {
+        String userType = userInfo.getType().getValue();
+        Long userId = userInfo.getId();
         
         log.info("결제 완료 처리 시작: reservationId={}", reservationId);
         Reservation reservation = reservationRepository.findById(reservationId)
@@ -311,67 +302,44 @@ public class ReservationService {
         reservation.updateReservationStatus(ReservationStatus.COMPLETED);
 
         // 티켓 상태 'ISSUED'로 변경 (이미 생성 시 ISSUED로 설정됨)
-        // 좌석 상태 'SOLD'로 변경
-        for (Ticket ticket : reservation.getTickets()) {
-            ScreeningSeat screeningSeat = screeningSeatRepository.findById(new ScreeningSeat.ScreeningSeatId(ticket.getScreeningId(), ticket.getSeatId()))
-                    .orElseThrow(() -> new EntityNotFoundException("좌석 정보를 찾을 수 없습니다."));
-            screeningSeat.setSeatStatus(SeatStatus.SOLD);
-            screeningSeat.setHoldExpiresAt(null);
+        // 좌석 상태 'SOLD'로 변경 (선점이 만료되어 행이 삭제된 좌석은 SOLD 행을 추가)
+        List<Long> seatIds = reservation.getTickets().stream().map(Ticket::getSeatId).toList();
+        int soldCount = screeningSeatRepository.sellSeats(reservation.getScreeningId(), seatIds);
+        if (soldCount != seatIds.size()) {
+            throw new IllegalStateException("이미 판매된 좌석이 포함되어 있습니다.");
         }
+        seatStateEngine.markSold(reservation.getScreeningId(), seatIds);
+        screeningRepository.findMovieIdById(reservation.getScreeningId())
+                .ifPresent(movieId -> movieRankingBoard.addAudience(movieId, seatIds.size()));
+        TransactionUtils.afterCommit(() -> seatLeaseStore.remove(reservation.getScreeningId(), seatIds));
 
         log.info("예매 완료 처리 성공: reservationId={}", reservation.getId());
     }
 
-    /**
-     * 선점 시간이 만료된 좌석들을 자동으로 해제합니다.
-     * 스케줄러에 의해 주기적으로 호출되어 만료된 HOLD 상태의 좌석들을 AVAILABLE로 변경합니다.
-     * 
-     * @return 해제된 좌석의 개수
-     */
-    @Transactional
-    public int releaseExpiredHeldSeats() {
-        List<ScreeningSeat> expiredSeats = screeningSeatRepository.findAllBySeatStatusAndHoldExpiresAtBefore(SeatStatus.HOLD, LocalDateTime.now());
-        if (expiredSeats.isEmpty()) {
-            return 0;
-        }
-        for (ScreeningSeat seat : expiredSeats) {
-            seat.setSeatStatus(SeatStatus.AVAILABLE);
-            seat.setHoldExpiresAt(null);
-            seat.setHoldCustomerId(null);
-        }
-        return expiredSeats.size();
-    }
-
     /**
      * 고객의 예매 내역을 조회합니다.
      * @param userInfo 사용자 인증 정보
      * @return 예매 내역 목록
      */
-    public List<ReservationResponseDto> getReservationsByCustomerId(Map<String, Object> userInfo) {
-        String userType = (String) userInfo.get("type");
-        Long userId = (Long) userInfo.get("id");
+    public List<ReservationResponseDto> getReservationsByCustomerId(SessionPrincipal userInfo) {
+        String userType = userInfo.getType().getValue();
+        Long userId = userInfo.getId();
         
         List<Reservation> reservations = reservationRepository.findByCustomerIdOrderByReservationDateDesc(userId);
+        Map<Long, Screening> screenings = findScreenings(reservations);
+        Map<Long, String> seatNumbers = findSeatNumbers(reservations);
         return reservations.stream()
                 .map(reservation -> {
-                    Screening screening = screeningRepository.findById(reservation.getScreeningId())
-                            .orElse(null);
+                    Screening screening = screenings.get(reservation.getScreeningId());
                     String movieTitle = screening != null && screening.getMovie() != null ? 
                                        screening.getMovie().getTitle() : "영화 정보 없음";
                     
-                    List<String> seatNumbers = reservation.getTickets().stream()
-                            .map(ticket -> {
-                                ScreeningSeat screeningSeat = screeningSeatRepository.findById(
-                                    new ScreeningSeat.ScreeningSeatId(ticket.getScreeningId(), ticket.getSeatId())
-                                ).orElse(null);
-                                return screeningSeat != null ? screeningSeat.getSeat().getSeatNumber() : "좌석 정보 없음";
-                            })
-                            .collect(Collectors.toList());
+                    List<String> reservationSeatNumbers = seatNumbersOf(reservation, seatNumbers, "좌석 정보 없음");
                     
                     int usedPoints = reservation.getPayment() != null ? reservation.getPayment().getUsedPointAmount() : 0;
                     int finalAmount = reservation.getTotalAmount() - usedPoints;
                     
-                    return new ReservationResponseDto(reservation, usedPoints, finalAmount, movieTitle, seatNumbers);
+                    return new ReservationResponseDto(reservation, usedPoints, finalAmount, movieTitle, reservationSeatNumbers);
                 })
                 .collect(Collectors.toList());
     }
@@ -380,9 +348,9 @@ public class ReservationService {
      * 사용자의 예매 내역을 조회합니다. (과거/현재 구분, 회원/게스트 지원)
      */
     @Transactional
-    public List<ReservationListResponseDto> getReservationList(Map<String, Object> userInfo) {
-        String userType = (String) userInfo.get("type");
-        Long userId = (Long) userInfo.get("id");
+    public List<ReservationListResponseDto> getReservationList(SessionPrincipal userInfo) {
+        String userType = userInfo.getType().getValue();
+        Long userId = userInfo.getId();
         
         // 완료된 예매와 취소된 예매 조회 (회원/게스트 구분)
         List<Reservation> reservations;
@@ -396,20 +364,19 @@ public class ReservationService {
         
         LocalDateTime now = LocalDateTime.now();
         
+        // 상영/좌석 정보는 예매마다 조회하지 않고 IN 절로 한 번에 조회합니다.
+        Map<Long, Screening> screenings = findScreenings(reservations);
+        Map<Long, String> seatNumbersBySeatId = findSeatNumbers(reservations);
+        
         return reservations.stream()
                 .map(reservation -> {
-                    Screening screening = screeningRepository.findByIdWithDetails(reservation.getScreeningId())
-                            .orElseThrow(() -> new EntityNotFoundException("상영 정보를 찾을 수 없습니다."));
+                    Screening screening = screenings.get(reservation.getScreeningId());
+                    if (screening == null) {
+                        throw new EntityNotFoundException("상영 정보를 찾을 수 없습니다.");
+                    }
                     
                     // 좌석 번호 목록 생성
-                    List<String> seatNumbers = reservation.getTickets().stream()
-                            .map(ticket -> {
-                                ScreeningSeat screeningSeat = screeningSeatRepository.findById(
-                                    new ScreeningSeat.ScreeningSeatId(ticket.getScreeningId(), ticket.getSeatId())
-                                ).orElse(null);
-                                return screeningSeat != null ? screeningSeat.getSeat().getSeatNumber() : "정보없음";
-                            })
-                            .collect(Collectors.toList());
+                    List<String> seatNumbers = seatNumbersOf(reservation, seatNumbersBySeatId, "정보없음");
 
                     // 최종 금액 계산
                     int finalAmount = reservation.getPayment() != null ? reservation.getPayment().getFinalAmount() : 0;
@@ -423,7 +390,7 @@ public class ReservationService {
                         screening.getMovie().getTitle(),
                         screening.getMovie().getPosterUrl(),
                         screening.getScreeningTime(),
-                        screening.getScreeningRoom().getRoomName(),
+                        roomNameOf(reservation, screening),
                         seatNumbers,
                         reservation.getReservationDate(),
                         reservation.getReservationStatus().name(),
@@ -440,9 +407,9 @@ public class ReservationService {
      * 예매 상세 정보를 조회합니다.
      */
     @Transactional
-    public ReservationDetailResponseDto getReservationDetail(Long reservationId, Map<String, Object> userInfo) {
-        String userType = (String) userInfo.get("type");
-        Long userId = (Long) userInfo.get("id");
+    public ReservationDetailResponseDto getReservationDetail(Long reservationId, SessionPrincipal userInfo) {
+        String userType = userInfo.getType().getValue();
+        Long userId = userInfo.getId();
         
         // 회원/게스트 구분하여 조회
         Reservation reservation;
@@ -454,18 +421,10 @@ public class ReservationService {
                     .orElseThrow(() -> new EntityNotFoundException("예매 정보를 찾을 수 없습니다."));
         }
         
-        Screening screening = screeningRepository.findByIdWithDetails(reservation.getScreeningId())
-                .orElseThrow(() -> new EntityNotFoundException("상영 정보를 찾을 수 없습니다."));
+        Screening screening = findScreening(reservation.getScreeningId());
         
         // 좌석 번호 목록 생성
-        List<String> seatNumbers = reservation.getTickets().stream()
-                .map(ticket -> {
-                    ScreeningSeat screeningSeat = screeningSeatRepository.findById(
-                        new ScreeningSeat.ScreeningSeatId(ticket.getScreeningId(), ticket.getSeatId())
-                    ).orElse(null);
-                    return screeningSeat != null ? screeningSeat.getSeat().getSeatNumber() : "정보없음";
-                })
-                .collect(Collectors.toList());
+        List<String> seatNumbers = seatNumbersOf(reservation, findSeatNumbers(List.of(reservation)), "정보없음");
         
         // 상영 종료 시간 계산
         LocalDateTime screeningEndTime = screening.getScreeningTime().plusMinutes(screening.getMovie().getDuration());
@@ -487,7 +446,7 @@ public class ReservationService {
             screening.getMovie().getMovieRating().getRatingName(),
             screening.getScreeningTime(),
             screeningEndTime,
-            screening.getScreeningRoom().getRoomName(),
+            roomNameOf(reservation, screening),
             seatNumbers,
             reservation.getTotalAmount(),
             usedPoints,
@@ -500,9 +459,9 @@ public class ReservationService {
     /**
      * 티켓 정보를 조회합니다.
      */
-    public TicketResponseDto getTicket(Long reservationId, Map<String, Object> userInfo) {
-        String userType = (String) userInfo.get("type");
-        Long userId = (Long) userInfo.get("id");
+    public TicketResponseDto getTicket(Long reservationId, SessionPrincipal userInfo) {
+        String userType = userInfo.getType().getValue();
+        Long userId = userInfo.getId();
         
         // 회원/게스트 구분하여 조회
         Reservation reservation;
@@ -514,18 +473,10 @@ public class ReservationService {
                     .orElseThrow(() -> new EntityNotFoundException("예매 정보를 찾을 수 없습니다."));
         }
         
-        Screening screening = screeningRepository.findByIdWithDetails(reservation.getScreeningId())
-                .orElseThrow(() -> new EntityNotFoundException("상영 정보를 찾을 수 없습니다."));
+        Screening screening = findScreening(reservation.getScreeningId());
         
         // 좌석 번호들을 문자열로 합치기
-        String seats = reservation.getTickets().stream()
-                .map(ticket -> {
-                    ScreeningSeat screeningSeat = screeningSeatRepository.findById(
-                        new ScreeningSeat.ScreeningSeatId(ticket.getScreeningId(), ticket.getSeatId())
-                    ).orElse(null);
-                    return screeningSeat != null ? screeningSeat.getSeat().getSeatNumber() : "정보없음";
-                })
-                .collect(Collectors.joining(", "));
+        String seats = String.join(", ", seatNumbersOf(reservation, findSeatNumbers(List.of(reservation)), "정보없음"));
         
         // 상영 종료 시간 계산
         LocalDateTime screeningEndTime = screening.getScreeningTime().plusMinutes(screening.getMovie().getDuration());
@@ -545,7 +496,7 @@ public class ReservationService {
             screening.getMovie().getMovieRating().getRatingName(),
             screening.getScreeningTime(),
             screeningEndTime,
-            screening.getScreeningRoom().getRoomName(),
+            roomNameOf(reservation, screening),
             seats,
             reservation.getTickets().size(),
             reserverName,
@@ -554,6 +505,55 @@ public class ReservationService {
         );
     }
 
+    // 예매 내역 조회용: 상영(영화 포함)을 좌석/상영관 없이 IN 절 한 번으로 조회합니다.
+    private Map<Long, Screening> findScreenings(List<Reservation> reservations) {
+        Set<Long> screeningIds = reservations.stream()
+                .map(Reservation::getScreeningId)
+                .collect(Collectors.toSet());
+        if (screeningIds.isEmpty()) {
+            return Map.of();
+        }
+        return screeningRepository.findAllWithMovieByIdIn(screeningIds).stream()
+                .collect(Collectors.toMap(Screening::getId, Function.identity()));
+    }
+
+    private Screening findScreening(Long screeningId) {
+        return screeningRepository.findAllWithMovieByIdIn(List.of(screeningId)).stream()
+                .findFirst()
+                .orElseThrow(() -> new EntityNotFoundException("상영 정보를 찾을 수 없습니다."));
+    }
+
+    // 예매 내역 조회용: 좌석 번호가 기록되지 않은(백필 전) 티켓의 좌석 번호만 IN 절 한 번으로 조회합니다.
+    private Map<Long, String> findSeatNumbers(List<Reservation> reservations) {
+        Set<Long> seatIds = reservations.stream()
+                .flatMap(reservation -> reservation.getTickets().stream())
+                .filter(ticket -> ticket.getSeatNumber() == null)
+                .map(Ticket::getSeatId)
+                .collect(Collectors.toSet());
+        if (seatIds.isEmpty()) {
+            return Map.of();
+        }
+        return seatRepository.findAllById(seatIds).stream()
+                .collect(Collectors.toMap(Seat::getId, Seat::getSeatNumber));
+    }
+
+    // 티켓에 기록된 상영관 이름을 사용하고, 기록되지 않은(백필 전) 예매만 상영관을 조회합니다.
+    private static String roomNameOf(Reservation reservation, Screening screening) {
+        return reservation.getTickets().stream()
+                .map(Ticket::getRoomName)
+                .filter(Objects::nonNull)
+                .findFirst()
+                .orElseGet(() -> screening.getScreeningRoom().getRoomName());
+    }
+
+    private static List<String> seatNumbersOf(Reservation reservation, Map<Long, String> seatNumbers, String unknownSeatNumber) {
+        return reservation.getTickets().stream()
+                .map(ticket -> ticket.getSeatNumber() != null
+                        ? ticket.getSeatNumber()
+                        : seatNumbers.getOrDefault(ticket.getSeatId(), unknownSeatNumber))
+                .collect(Collectors.toList());
+    }
+
     /**
      * 예매를 취소합니다.
      * 상영 시작 10분 후까지만 취소 가능하며, 취소 시 좌석을 해제하고 포인트를 환불합니다.
@@ -565,9 +565,9 @@ public class ReservationService {
      * @throws EntityNotFoundException 예약 정보를 찾을 수 없는 경우
      */
     @Transactional
-    public void cancelReservation(CancelReservationRequestDto dto, Map<String, Object> userInfo) {
-        String userType = (String) userInfo.get("type");
-        Long userId = (Long) userInfo.get("id");
+    public void cancelReservation(CancelReservationRequestDto dto, SessionPrincipal userInfo) {
+        String userType = userInfo.getType().getValue();
+        Long userId = userInfo.getId();
 
         Long reservationId = dto.getReservationId();
         
@@ -616,17 +616,15 @@ public class ReservationService {
         // 결제 취소 메서드 호출
         paymentService.refundPayment(reservationId, dto.getRefundReason(), userInfo);
 
-        // 좌석 상태를 AVAILABLE로 변경
-        for (Ticket ticket : reservation.getTickets()) {
-            ScreeningSeat screeningSeat = screeningSeatRepository.findById(
-                new ScreeningSeat.ScreeningSeatId(ticket.getScreeningId(), ticket.getSeatId())
-            ).orElseThrow(() -> new EntityNotFoundException("좌석 정보를 찾을 수 없습니다."));
-            
-            screeningSeat.setSeatStatus(SeatStatus.AVAILABLE);
-            screeningSeat.setHoldExpiresAt(null);
-            screeningSeat.setHoldCustomerId(null);
-            screeningSeat.setHoldGuestId(null);
+        // 좌석 상태를 AVAILABLE로 변경 (SOLD 행 삭제)
+        List<Long> seatIds = reservation.getTickets().stream().map(Ticket::getSeatId).toList();
+        int releasedCount = screeningSeatRepository.deleteBySeatStatus(reservation.getScreeningId(), seatIds, SeatStatus.SOLD);
+        if (releasedCount != seatIds.size()) {
+            log.warn("예매 취소 좌석 중 SOLD 상태가 아닌 좌석이 있습니다: reservationId={}, 요청 {}건, 반영 {}건",
+                    reservationId, seatIds.size(), releasedCount);
         }
+        seatStateEngine.markAvailable(reservation.getScreeningId(), seatIds);
+        movieRankingBoard.addAudience(screening.getMovie().getId(), -seatIds.size());
         
         log.info("예매 취소 완료: reservationId={}", reservationId);
     }
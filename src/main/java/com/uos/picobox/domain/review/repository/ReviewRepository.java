@@ -7,6 +7,8 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 
 public interface ReviewRepository extends JpaRepository<Review, Long> {
@@ -39,6 +41,21 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
     @Query("SELECT AVG(r.rating) FROM Review r WHERE r.movie.id = :movieId")
     Double calculateAverageRatingByMovieId(@Param("movieId") Long movieId);
 
+    /**
+     * 영화별 평점 합계와 리뷰 개수 [영화 ID, 평점 합계, 리뷰 개수] (MovieRankingBoard 재집계 시 사용)
+     */
+    @Query("SELECT r.movie.id, SUM(r.rating), COUNT(r) FROM Review r GROUP BY r.movie.id")
+    List<Object[]> sumRatingGroupByMovieId();
+
+    /**
+     * 상영 중/상영 예정 영화의 평균 평점과 리뷰 개수 [영화 ID, 평균 평점, 리뷰 개수]
+     * 영화 ID 목록 대신 MovieRepository.findActiveAndUpcomingMovies와 같은 조건으로 거르므로 영화 수와 관계없이 쿼리 한 번입니다.
+     */
+    @Query("SELECT m.id, AVG(r.rating), COUNT(r) FROM Review r JOIN r.movie m " +
+            "WHERE (m.screeningEndDate IS NULL OR m.screeningEndDate >= :today) OR m.releaseDate > :today " +
+            "GROUP BY m.id")
+    List<Object[]> calculateRatingStatsOfActiveAndUpcomingMovies(@Param("today") LocalDate today);
+
     /**
      * 특정 영화의 총 리뷰 개수
      */
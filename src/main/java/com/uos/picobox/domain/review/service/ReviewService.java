@@ -1,6 +1,7 @@
 package com.uos.picobox.domain.review.service;
 
 import com.uos.picobox.domain.movie.entity.Movie;
+import com.uos.picobox.domain.movie.ranking.MovieRankingBoard;
 import com.uos.picobox.domain.movie.repository.MovieRepository;
 import com.uos.picobox.domain.reservation.entity.Reservation;
 import com.uos.picobox.global.enumClass.TicketStatus;
@@ -40,6 +41,7 @@ public class ReviewService {
     private final CustomerRepository customerRepository;
     private final MovieRepository movieRepository;
     private final ScreeningRepository screeningRepository;
+    private final MovieRankingBoard movieRankingBoard;
 
     /**
      * 리뷰 작성 - 관람 완료한 영화에 대해서만 작성 가능
@@ -98,6 +100,7 @@ public class ReviewService {
                 .build();
 
         Review savedReview = reviewRepository.save(review);
+        movieRankingBoard.changeReview(dto.getMovieId(), null, savedReview.getRating());
         log.info("리뷰 작성 완료: reviewId={}, customerId={}, movieId={}", savedReview.getId(), customerId, dto.getMovieId());
 
         return new ReviewResponseDto(savedReview);
@@ -121,7 +124,9 @@ public class ReviewService {
             throw new IllegalArgumentException("평점은 0.5 단위로 0.5~5.0 사이의 값이어야 합니다.");
         }
 
+        Double oldRating = review.getRating();
         review.updateReview(dto.getRating(), dto.getComment());
+        movieRankingBoard.changeReview(review.getMovie().getId(), oldRating, review.getRating());
         log.info("리뷰 수정 완료: reviewId={}, customerId={}", reviewId, customerId);
 
         return new ReviewResponseDto(review);
@@ -141,6 +146,7 @@ public class ReviewService {
         }
 
         reviewRepository.delete(review);
+        movieRankingBoard.changeReview(review.getMovie().getId(), review.getRating(), null);
         log.info("리뷰 삭제 완료: reviewId={}, customerId={}", reviewId, customerId);
     }
 
@@ -282,6 +288,7 @@ public class ReviewService {
                 .orElseThrow(() -> new EntityNotFoundException("리뷰를 찾을 수 없습니다: " + reviewId));
         
         reviewRepository.delete(review);
+        movieRankingBoard.changeReview(review.getMovie().getId(), review.getRating(), null);
         log.info("관리자에 의한 리뷰 삭제 완료: reviewId={}, 작성자={}", reviewId, review.getCustomer().getName());
     }
 
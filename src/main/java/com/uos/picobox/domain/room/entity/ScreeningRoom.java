@@ -16,7 +16,8 @@ import java.util.List;
 public class ScreeningRoom {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "screening_room_seq")
+    @SequenceGenerator(name = "screening_room_seq", sequenceName = "SCREENING_ROOM_SEQ", allocationSize = 50)
     @Column(name = "ROOM_ID")
     private Long id;
 
@@ -18,7 +18,8 @@ import lombok.Setter;
 public class Seat {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "seat_seq")
+    @SequenceGenerator(name = "seat_seq", sequenceName = "SEAT_SEQ", allocationSize = 50)
     @Column(name = "SEAT_ID")
     private Long id;
 
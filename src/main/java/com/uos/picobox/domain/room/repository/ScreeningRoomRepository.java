@@ -1,9 +1,24 @@
 package com.uos.picobox.domain.room.repository;
 
 import com.uos.picobox.domain.room.entity.ScreeningRoom;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface ScreeningRoomRepository extends JpaRepository<ScreeningRoom, Long> {
     Optional<ScreeningRoom> findByRoomName(String roomName);
+
+    @Query("SELECT sr FROM ScreeningRoom sr LEFT JOIN FETCH sr.seats WHERE sr.id IN :ids")
+    List<ScreeningRoom> findAllWithSeatsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 상영관 행을 ID 순서대로 잠금 (같은 상영관에 상영을 저장하는 트랜잭션끼리 서버와 관계없이 순서대로 겹침을 확인하도록 사용)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT sr FROM ScreeningRoom sr WHERE sr.id IN :ids ORDER BY sr.id")
+    List<ScreeningRoom> findAllByIdInWithPessimisticLock(@Param("ids") Collection<Long> ids);
 }
\ No newline at end of file
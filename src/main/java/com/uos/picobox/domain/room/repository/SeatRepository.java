@@ -6,9 +6,27 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
+
 public interface SeatRepository extends JpaRepository<Seat, Long> {
 
     @Modifying
     @Query("DELETE FROM Seat s WHERE s.screeningRoom.id = :roomId")
     void deleteAllByScreeningRoomId(@Param("roomId") Long roomId);
+
+    boolean existsByScreeningRoomId(Long roomId);
+
+    // 상영관 좌석 배치 조회 [좌석 ID, 좌석 번호] (상영 좌석 행은 선점/판매된 좌석만 있으므로 전체 좌석은 배치에서 구합니다)
+    @Query("SELECT s.id, s.seatNumber FROM Seat s WHERE s.screeningRoom.id = :roomId")
+    List<Object[]> findIdAndSeatNumberByScreeningRoomId(@Param("roomId") Long roomId);
+
+    // 상영의 상영관 좌석 ID 조회 (SeatStateEngine 적재 시 사용)
+    @Query("SELECT seat.id FROM Screening sc JOIN sc.screeningRoom sr JOIN sr.seats seat WHERE sc.id = :screeningId")
+    List<Long> findIdsByScreeningId(@Param("screeningId") Long screeningId);
+
+    // 상영별 전체 좌석 수 조회 [상영 ID, 좌석 수] (상영 시간표의 예매 가능 좌석 수 계산 시 사용)
+    @Query("SELECT sc.id, COUNT(seat) FROM Screening sc JOIN sc.screeningRoom sr JOIN sr.seats seat " +
+            "WHERE sc.id IN :screeningIds GROUP BY sc.id")
+    List<Object[]> countByScreeningIds(@Param("screeningIds") Collection<Long> screeningIds);
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.uos.picobox.domain.room.service;
 
+import com.uos.picobox.domain.price.service.PriceCatalog;
 import com.uos.picobox.domain.room.dto.RowDefinitionDto;
 import com.uos.picobox.domain.room.dto.ScreeningRoomRequestDto;
 import com.uos.picobox.domain.room.dto.ScreeningRoomResponseDto;
@@ -8,9 +9,11 @@ import com.uos.picobox.domain.room.entity.Seat;
 import com.uos.picobox.domain.room.repository.ScreeningRoomRepository;
 import com.uos.picobox.domain.room.repository.SeatRepository;
 import com.uos.picobox.domain.screening.repository.ScreeningRepository;
+import com.uos.picobox.global.cache.CatalogueChangedEvent;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -27,6 +30,8 @@ public class ScreeningRoomService {
     private final ScreeningRoomRepository screeningRoomRepository;
     private final SeatRepository seatRepository;
     private final ScreeningRepository screeningRepository;
+    private final PriceCatalog priceCatalog;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public ScreeningRoomResponseDto registerScreeningRoom(ScreeningRoomRequestDto requestDto) {
@@ -82,6 +87,11 @@ public class ScreeningRoomService {
                         throw new IllegalArgumentException("이미 존재하는 상영관 이름입니다: " + requestDto.getRoomName());
                     });
             screeningRoom.updateRoomName(requestDto.getRoomName());
+            // 상영 스케줄에는 상영관 이름이 포함되어 있습니다.
+            eventPublisher.publishEvent(CatalogueChangedEvent.builder()
+                    .target(CatalogueChangedEvent.Target.SCREENING_ROOM)
+                    .screeningDates(screeningRepository.findScreeningDatesByScreeningRoomId(roomId))
+                    .build());
         }
 
         if (requestDto.getRowDefinitions() != null) {
@@ -135,5 +145,6 @@ public class ScreeningRoomService {
         }
         log.warn("상영관 ID {} 및 연관된 모든 좌석이 삭제됩니다.", roomId);
         screeningRoomRepository.delete(screeningRoom);
+        priceCatalog.refreshAfterCommit();
     }
 }
\ No newline at end of file
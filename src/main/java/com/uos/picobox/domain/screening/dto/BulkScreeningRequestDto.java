@@ -0,0 +1,56 @@
+package com.uos.picobox.domain.screening.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class BulkScreeningRequestDto {
+
+    @NotEmpty(message = "상영할 영화는 최소 하나 이상 있어야 합니다.")
+    @Schema(description = "상영할 영화 ID 목록. 상영관마다 다른 영화부터 시작하여 순서대로 돌아가며 배정됩니다.", example = "[1, 2, 3]", requiredMode = Schema.RequiredMode.REQUIRED)
+    private List<Long> movieIds;
+
+    @NotEmpty(message = "상영관은 최소 하나 이상 있어야 합니다.")
+    @Schema(description = "스케줄을 만들 상영관 ID 목록", example = "[1, 2]", requiredMode = Schema.RequiredMode.REQUIRED)
+    private List<Long> roomIds;
+
+    @NotNull(message = "시작 날짜는 필수입니다.")
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd")
+    @Schema(description = "시작 날짜 (yyyy-MM-dd)", type = "string", example = "2025-06-02", requiredMode = Schema.RequiredMode.REQUIRED)
+    private LocalDate startDate;
+
+    @NotNull(message = "종료 날짜는 필수입니다.")
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd")
+    @Schema(description = "종료 날짜 (yyyy-MM-dd, 포함)", type = "string", example = "2025-06-08", requiredMode = Schema.RequiredMode.REQUIRED)
+    private LocalDate endDate;
+
+    @NotNull(message = "첫 상영 시작 시간은 필수입니다.")
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "HH:mm")
+    @Schema(description = "하루 첫 상영 시작 시간 (HH:mm)", type = "string", example = "09:00", requiredMode = Schema.RequiredMode.REQUIRED)
+    private LocalTime firstStartTime;
+
+    @NotNull(message = "마지막 상영 시작 시간은 필수입니다.")
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "HH:mm")
+    @Schema(description = "하루 마지막 상영 시작 가능 시간 (HH:mm)", type = "string", example = "23:00", requiredMode = Schema.RequiredMode.REQUIRED)
+    private LocalTime lastStartTime;
+
+    @NotNull(message = "상영 간 정리 시간은 필수입니다.")
+    @Min(value = 0, message = "상영 간 정리 시간은 0분 이상이어야 합니다.")
+    @Schema(description = "상영 종료 후 다음 상영까지의 정리 시간 (분)", example = "20", requiredMode = Schema.RequiredMode.REQUIRED)
+    private Integer turnaroundMinutes;
+
+    @Schema(description = "true면 저장하지 않고 계산된 시간표만 반환합니다.", example = "false")
+    private boolean dryRun;
+}
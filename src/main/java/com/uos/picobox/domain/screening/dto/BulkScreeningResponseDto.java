@@ -0,0 +1,25 @@
+package com.uos.picobox.domain.screening.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class BulkScreeningResponseDto {
+
+    @Schema(description = "저장 여부 (dryRun이면 false)", example = "true")
+    private boolean saved;
+
+    @Schema(description = "생성된(dryRun이면 생성될) 상영 수", example = "84")
+    private int screeningCount;
+
+    @Schema(description = "생성된 상영 목록 (상영관, 시간 순)")
+    private List<ScreeningResponseDto> screenings;
+
+    public BulkScreeningResponseDto(boolean saved, List<ScreeningResponseDto> screenings) {
+        this.saved = saved;
+        this.screeningCount = screenings.size();
+        this.screenings = screenings;
+    }
+}
@@ -0,0 +1,122 @@
+package com.uos.picobox.domain.screening.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.uos.picobox.domain.screening.entity.SeatStatus;
+import com.uos.picobox.global.utils.SeatNumberUtils;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 좌석 배치도의 압축 표현입니다.
+ * 행 배치 정보를 한 번만 보내고, 좌석 상태는 행 → 열 순서로 좌석당 2비트씩 묶은 뒤 Base64로 인코딩합니다.
+ * i번째 좌석의 상태는 (byte[i / 4] >> (6 - (i % 4) * 2)) & 0b11 이며, 값은 statusCodes의 인덱스입니다.
+ */
+@Getter
+public class CompactSeatMapResponseDto {
+
+    private static final int BITS_PER_SEAT = 2;
+    private static final int SEATS_PER_BYTE = 8 / BITS_PER_SEAT;
+
+    @Schema(description = "상영 ID", example = "1")
+    private final Long screeningId;
+
+    @Schema(description = "상태 코드 표 (packed 값 → 상태)", example = "[\"AVAILABLE\", \"HOLD\", \"SOLD\", \"BLOCKED\"]")
+    private final List<String> statusCodes;
+
+    @Schema(description = "좌석당 비트 수", example = "2")
+    private final int bitsPerSeat = BITS_PER_SEAT;
+
+    @Schema(description = "전체 좌석 수", example = "120")
+    private final int seatCount;
+
+    @Schema(description = "행 배치 정보 (행 순서)")
+    private final List<RowLayout> rows;
+
+    @Schema(description = "좌석 상태 (행 → 열 순서, 좌석당 2비트, 상위 비트부터, Base64)", example = "AAAAkAA=")
+    private final String statuses;
+
+    private CompactSeatMapResponseDto(Long screeningId, int seatCount, List<RowLayout> rows, String statuses) {
+        this.screeningId = screeningId;
+        this.statusCodes = Arrays.stream(SeatStatus.values()).map(SeatStatus::name).toList();
+        this.seatCount = seatCount;
+        this.rows = rows;
+        this.statuses = statuses;
+    }
+
+    /**
+     * @param sortedSeats 행 → 열 순서로 정렬된 [좌석 ID, 좌석 번호] 목록
+     * @param seatStatuses 좌석 ID별 상태 (없으면 AVAILABLE)
+     */
+    public static CompactSeatMapResponseDto of(Long screeningId, List<Object[]> sortedSeats, Map<Long, SeatStatus> seatStatuses) {
+        byte[] packed = new byte[(sortedSeats.size() + SEATS_PER_BYTE - 1) / SEATS_PER_BYTE];
+        List<RowLayout> rows = new ArrayList<>();
+        int from = 0;
+        for (int i = 0; i < sortedSeats.size(); i++) {
+            Long seatId = (Long) sortedSeats.get(i)[0];
+            SeatStatus status = seatStatuses.getOrDefault(seatId, SeatStatus.AVAILABLE);
+            packed[i / SEATS_PER_BYTE] |= (byte) (status.ordinal() << (8 - BITS_PER_SEAT - (i % SEATS_PER_BYTE) * BITS_PER_SEAT));
+
+            String row = SeatNumberUtils.rowOf((String) sortedSeats.get(i)[1]);
+            boolean rowEnds = i + 1 == sortedSeats.size()
+                    || !row.equals(SeatNumberUtils.rowOf((String) sortedSeats.get(i + 1)[1]));
+            if (rowEnds) {
+                rows.add(RowLayout.of(row, sortedSeats.subList(from, i + 1)));
+                from = i + 1;
+            }
+        }
+        return new CompactSeatMapResponseDto(screeningId, sortedSeats.size(), rows,
+                Base64.getEncoder().encodeToString(packed));
+    }
+
+    @Getter
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class RowLayout {
+        @Schema(description = "행 식별자", example = "A")
+        private final String row;
+
+        @Schema(description = "행 좌석 수", example = "10")
+        private final int seatCount;
+
+        @Schema(description = "행 첫 좌석 ID. seatIds가 없으면 좌석 ID는 열 순서대로 1씩 증가합니다.", example = "101")
+        private final Long firstSeatId;
+
+        @Schema(description = "행 좌석 ID 목록 (좌석 ID가 연속되지 않는 경우에만 포함)")
+        private final List<Long> seatIds;
+
+        @Schema(description = "행 열 번호 목록 (열 번호가 1부터 연속되지 않는 경우에만 포함)")
+        private final List<Integer> columns;
+
+        private RowLayout(String row, int seatCount, Long firstSeatId, List<Long> seatIds, List<Integer> columns) {
+            this.row = row;
+            this.seatCount = seatCount;
+            this.firstSeatId = firstSeatId;
+            this.seatIds = seatIds;
+            this.columns = columns;
+        }
+
+        private static RowLayout of(String row, List<Object[]> rowSeats) {
+            Long firstSeatId = (Long) rowSeats.get(0)[0];
+            List<Long> seatIds = new ArrayList<>(rowSeats.size());
+            List<Integer> columns = new ArrayList<>(rowSeats.size());
+            boolean contiguousIds = true;
+            boolean contiguousColumns = true;
+            for (int i = 0; i < rowSeats.size(); i++) {
+                Long seatId = (Long) rowSeats.get(i)[0];
+                int column = SeatNumberUtils.columnOf((String) rowSeats.get(i)[1]);
+                seatIds.add(seatId);
+                columns.add(column);
+                contiguousIds &= seatId == firstSeatId + i;
+                contiguousColumns &= column == i + 1;
+            }
+            return new RowLayout(row, rowSeats.size(), firstSeatId,
+                    contiguousIds ? null : seatIds,
+                    contiguousColumns ? null : columns);
+        }
+    }
+}
@@ -52,17 +52,15 @@ public class ScreeningResponseDto {
         this.screeningSequence = screening.getScreeningSequence();
         this.screeningTime = screening.getScreeningTime();
 
-        // 사용 가능한 좌석 수 계산
+        // 사용 가능한 좌석 수 계산 (상영 좌석 행은 선점/판매된 좌석만 있으므로 전체 좌석 수에서 뺍니다)
+        if (this.totalSeats == null) this.totalSeats = 0;
         if (screening.getScreeningSeats() != null) {
-            if(this.totalSeats == null && screening.getScreeningRoom() == null) {
-                this.totalSeats = screening.getScreeningSeats().size();
-            }
-            this.availableSeats = screening.getScreeningSeats().stream()
-                    .filter(seat -> SeatStatus.AVAILABLE == seat.getSeatStatus())
+            long unavailableSeats = screening.getScreeningSeats().stream()
+                    .filter(seat -> SeatStatus.AVAILABLE != seat.getSeatStatus())
                     .count();
+            this.availableSeats = Math.max(0L, this.totalSeats - unavailableSeats);
         } else {
             this.availableSeats = 0L;
-            if(this.totalSeats == null) this.totalSeats = 0;
         }
     }
 
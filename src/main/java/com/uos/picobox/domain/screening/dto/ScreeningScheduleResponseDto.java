@@ -1,8 +1,9 @@
 package com.uos.picobox.domain.screening.dto;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.uos.picobox.domain.screening.engine.SeatCounts;
 import com.uos.picobox.domain.screening.entity.Screening;
-import com.uos.picobox.domain.screening.entity.SeatStatus;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Getter;
 
@@ -14,6 +15,9 @@ public class ScreeningScheduleResponseDto {
     @Schema(description = "상영 ID", example = "1")
     private Long screeningId;
 
+    @JsonIgnore
+    private Long movieId;
+
     @Schema(description = "영화 제목", example = "범죄도시4")
     private String movieTitle;
 
@@ -34,10 +38,14 @@ public class ScreeningScheduleResponseDto {
     @Schema(description = "전체 좌석 수", example = "120")
     private Integer totalSeatsCount;
 
+    /**
+     * 예매 가능 좌석 수를 제외한 스케줄 정보를 만듭니다. (날짜별 스케줄 캐시에 보관)
+     */
     public ScreeningScheduleResponseDto(Screening screening) {
         this.screeningId = screening.getId();
 
         if (screening.getMovie() != null) {
+            this.movieId = screening.getMovie().getId();
             this.movieTitle = screening.getMovie().getTitle();
             if (screening.getMovie().getDuration() != null) {
                 this.screeningEndTime = screening.getScreeningTime().plusMinutes(screening.getMovie().getDuration());
@@ -50,13 +58,23 @@ public class ScreeningScheduleResponseDto {
         }
 
         this.screeningStartTime = screening.getScreeningTime();
+    }
 
-        if (screening.getScreeningSeats() != null) {
-            this.availableSeatsCount = screening.getScreeningSeats().stream()
-                    .filter(seat -> seat.getSeatStatus() == SeatStatus.AVAILABLE)
-                    .count();
-        } else {
-            this.availableSeatsCount = 0L;
-        }
+    private ScreeningScheduleResponseDto(ScreeningScheduleResponseDto schedule, SeatCounts seatCounts) {
+        this.screeningId = schedule.screeningId;
+        this.movieId = schedule.movieId;
+        this.movieTitle = schedule.movieTitle;
+        this.roomName = schedule.roomName;
+        this.screeningStartTime = schedule.screeningStartTime;
+        this.screeningEndTime = schedule.screeningEndTime;
+        this.totalSeatsCount = schedule.totalSeatsCount;
+        this.availableSeatsCount = (long) seatCounts.getAvailable();
+    }
+
+    /**
+     * 캐시된 스케줄은 공유되므로 예매 가능 좌석 수를 채운 복사본을 반환합니다.
+     */
+    public ScreeningScheduleResponseDto withSeatCounts(SeatCounts seatCounts) {
+        return new ScreeningScheduleResponseDto(this, seatCounts);
     }
 }
\ No newline at end of file
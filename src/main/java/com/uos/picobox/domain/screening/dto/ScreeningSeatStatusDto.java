@@ -1,6 +1,6 @@
 package com.uos.picobox.domain.screening.dto;
 
-import com.uos.picobox.domain.screening.entity.ScreeningSeat;
+import com.uos.picobox.domain.screening.entity.SeatStatus;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Builder;
 import lombok.Getter;
@@ -17,11 +17,11 @@ public class ScreeningSeatStatusDto {
     @Schema(description = "좌석 상태", example = "AVAILABLE")
     private String status;
 
-    public static ScreeningSeatStatusDto fromEntity(ScreeningSeat screeningSeat) {
+    public static ScreeningSeatStatusDto of(Long seatId, String seatNumber, SeatStatus status) {
         return ScreeningSeatStatusDto.builder()
-                .seatId(screeningSeat.getSeat().getId())
-                .seatNumber(screeningSeat.getSeat().getSeatNumber())
-                .status(screeningSeat.getSeatStatus().name())
+                .seatId(seatId)
+                .seatNumber(seatNumber)
+                .status(status.name())
                 .build();
     }
 }
\ No newline at end of file
@@ -40,10 +40,14 @@ public class ScreeningTicketPricesResponseDto {
         @Schema(description = "가격", example = "14000")
         private Integer price;
 
-        public TicketPriceInfo(Long ticketTypeId, String typeName, Integer price) {
+        @Schema(description = "가격 규칙(조조할인 등) 적용 후 가격", example = "11000")
+        private Integer finalPrice;
+
+        public TicketPriceInfo(Long ticketTypeId, String typeName, Integer price, Integer finalPrice) {
             this.ticketTypeId = ticketTypeId;
             this.typeName = typeName;
             this.price = price;
+            this.finalPrice = finalPrice;
         }
     }
 } 
\ No newline at end of file
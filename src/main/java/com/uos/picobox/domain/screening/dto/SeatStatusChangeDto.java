@@ -0,0 +1,33 @@
+package com.uos.picobox.domain.screening.dto;
+
+import com.uos.picobox.domain.screening.engine.SeatStatusChangedEvent;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class SeatStatusChangeDto {
+    @Schema(description = "상영 ID", example = "1")
+    private Long screeningId;
+
+    @Schema(description = "상태가 바뀐 좌석 ID 목록", example = "[101, 102]")
+    private List<Long> seatIds;
+
+    @Schema(description = "바뀐 좌석 상태", example = "HOLD")
+    private String status;
+
+    @Schema(description = "변경 후 좌석 배치도 버전 (받은 snapshot의 버전이 이 값 이상이면 이미 반영된 변경)", example = "1718000000000001")
+    private Long version;
+
+    public static SeatStatusChangeDto fromEvent(SeatStatusChangedEvent event) {
+        return SeatStatusChangeDto.builder()
+                .screeningId(event.getScreeningId())
+                .seatIds(event.getSeatIds())
+                .status(event.getSeatStatus().name())
+                .version(event.getVersion())
+                .build();
+    }
+}
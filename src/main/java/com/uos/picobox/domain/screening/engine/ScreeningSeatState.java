@@ -0,0 +1,233 @@
+package com.uos.picobox.domain.screening.engine;
+
+import com.uos.picobox.domain.screening.entity.ScreeningSeat;
+import com.uos.picobox.domain.screening.entity.SeatStatus;
+import jakarta.persistence.EntityNotFoundException;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 한 상영의 좌석 상태를 좌석 ID 오름차순 배열로 보관합니다.
+ * 좌석 목록은 상영관 좌석 배치에서 만들고, DB에 행이 있는(선점/판매된) 좌석만 그 상태를 덮어씁니다.
+ * 좌석 한 개당 상태 1바이트 + 선점 정보 long 3개만 사용하며, 좌석 조회는 이진 탐색으로 처리합니다.
+ * 다른 서버의 변경은 syncWith로 DB에서 다시 읽은 상태를 덮어써서 반영합니다.
+ * 동기화는 호출 측(SeatStateEngine)에서 인스턴스 단위로 담당합니다.
+ */
+class ScreeningSeatState {
+
+    private static final SeatStatus[] STATUSES = SeatStatus.values();
+    private static final long NONE = 0L;
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+
+    private final long[] seatIds;
+    private final byte[] statuses;
+    private final long[] holdExpiresAt;
+    private final long[] holdCustomerIds;
+    private final long[] holdGuestIds;
+    private final int[] statusCounts = new int[STATUSES.length]; // 상태별 좌석 수 (변경 시마다 함께 갱신)
+    private long syncedAtMillis = System.currentTimeMillis(); // DB에서 마지막으로 읽은 시각
+
+    /**
+     * @param roomSeatIds 상영관의 전체 좌석 ID (행이 없는 좌석은 AVAILABLE)
+     * @param storedSeats SCREENING_SEAT에 저장된 선점/판매 좌석
+     */
+    ScreeningSeatState(List<Long> roomSeatIds, List<ScreeningSeat> storedSeats) {
+        int size = roomSeatIds.size();
+        this.seatIds = new long[size];
+        this.statuses = new byte[size];
+        this.holdExpiresAt = new long[size];
+        this.holdCustomerIds = new long[size];
+        this.holdGuestIds = new long[size];
+
+        for (int i = 0; i < size; i++) {
+            seatIds[i] = roomSeatIds.get(i);
+        }
+        Arrays.sort(seatIds);
+        statusCounts[SeatStatus.AVAILABLE.ordinal()] = size;
+
+        for (ScreeningSeat screeningSeat : storedSeats) {
+            int index = Arrays.binarySearch(seatIds, screeningSeat.getSeat().getId());
+            if (index < 0) {
+                continue; // 상영관 좌석 배치가 바뀌어 더 이상 없는 좌석
+            }
+            setStatus(index, screeningSeat.getSeatStatus());
+            holdExpiresAt[index] = toMillis(screeningSeat.getHoldExpiresAt());
+            holdCustomerIds[index] = orNone(screeningSeat.getHoldCustomerId());
+            holdGuestIds[index] = orNone(screeningSeat.getHoldGuestId());
+        }
+    }
+
+    /**
+     * 상영관에 없는 좌석이 포함되어 있으면 예외를 던집니다. (DB 반영 전 검증)
+     * @throws EntityNotFoundException 상영관에 존재하지 않는 좌석이 포함된 경우
+     */
+    void checkSeats(List<Long> seatIdsToCheck) {
+        indexesOf(seatIdsToCheck);
+    }
+
+    /**
+     * DB에서 선점이 확인된 좌석 전체를 HOLD로 변경합니다.
+     * 다른 서버의 판매 취소 등으로 메모리 상태가 DB보다 늦었을 수 있으므로 현재 상태와 관계없이 덮어씁니다.
+     */
+    void hold(List<Long> seatIdsToHold, SeatHolder holder, LocalDateTime expiresAt) {
+        long expiresAtMillis = toMillis(expiresAt);
+        for (int index : indexesOf(seatIdsToHold)) {
+            setStatus(index, SeatStatus.HOLD);
+            holdExpiresAt[index] = expiresAtMillis;
+            holdCustomerIds[index] = orNone(holder.getCustomerId());
+            holdGuestIds[index] = orNone(holder.getGuestId());
+        }
+    }
+
+    /**
+     * HOLD 상태인 좌석을 AVAILABLE로 되돌립니다. 소유 여부는 SeatLeaseStore와 DB에서 이미 확인한 상태여야 합니다.
+     * @return 실제로 되돌린 좌석 ID 목록
+     */
+    List<Long> release(List<Long> seatIdsToRelease) {
+        int[] indexes = indexesOf(seatIdsToRelease);
+        List<Long> releasedSeatIds = new ArrayList<>();
+        for (int i = 0; i < indexes.length; i++) {
+            if (STATUSES[statuses[indexes[i]]] == SeatStatus.HOLD) {
+                clear(indexes[i], SeatStatus.AVAILABLE);
+                releasedSeatIds.add(seatIdsToRelease.get(i));
+            }
+        }
+        return releasedSeatIds;
+    }
+
+    /**
+     * 만료 시각이 지난 HOLD 좌석을 AVAILABLE로 되돌립니다. 그 사이 다시 선점된 좌석은 만료 시각이 남아 있으므로 그대로 둡니다.
+     * @return 실제로 되돌린 좌석 ID 목록
+     */
+    List<Long> expire(List<Long> seatIdsToExpire, long nowMillis) {
+        List<Long> expiredSeatIds = new ArrayList<>();
+        for (Long seatId : seatIdsToExpire) {
+            int index = Arrays.binarySearch(seatIds, seatId);
+            if (index >= 0 && STATUSES[statuses[index]] == SeatStatus.HOLD
+                    && effectiveStatus(index, nowMillis) == SeatStatus.AVAILABLE) {
+                clear(index, SeatStatus.AVAILABLE);
+                expiredSeatIds.add(seatId);
+            }
+        }
+        return expiredSeatIds;
+    }
+
+    /**
+     * 결제 완료/예매 취소처럼 DB에 이미 반영된 상태를 그대로 적용합니다. 선점 정보는 지워집니다.
+     */
+    void overwrite(Iterable<Long> seatIdsToUpdate, SeatStatus seatStatus) {
+        for (Long seatId : seatIdsToUpdate) {
+            int index = Arrays.binarySearch(seatIds, seatId);
+            if (index >= 0) {
+                clear(index, seatStatus);
+            }
+        }
+    }
+
+    /**
+     * DB에서 다시 읽은 상태로 모든 좌석을 덮어씁니다. (다른 서버에서 선점/판매/해제한 좌석 반영)
+     * @param stored 같은 상영을 DB에서 새로 적재한 상태
+     * @return 표시 상태가 바뀐 좌석 ID (바뀐 뒤 상태별), 상영관 좌석 구성이 달라 덮어쓸 수 없으면 null
+     */
+    Map<SeatStatus, List<Long>> syncWith(ScreeningSeatState stored, long nowMillis) {
+        if (!Arrays.equals(seatIds, stored.seatIds)) {
+            return null;
+        }
+        Map<SeatStatus, List<Long>> changedSeatIds = new EnumMap<>(SeatStatus.class);
+        for (int i = 0; i < seatIds.length; i++) {
+            SeatStatus before = effectiveStatus(i, nowMillis);
+            setStatus(i, STATUSES[stored.statuses[i]]);
+            holdExpiresAt[i] = stored.holdExpiresAt[i];
+            holdCustomerIds[i] = stored.holdCustomerIds[i];
+            holdGuestIds[i] = stored.holdGuestIds[i];
+            SeatStatus after = effectiveStatus(i, nowMillis);
+            if (before != after) {
+                changedSeatIds.computeIfAbsent(after, status -> new ArrayList<>()).add(seatIds[i]);
+            }
+        }
+        syncedAtMillis = stored.syncedAtMillis;
+        return changedSeatIds;
+    }
+
+    /**
+     * @return DB에서 마지막으로 읽은 지 maxAgeMillis 이상 지났으면 true
+     */
+    boolean isStale(long nowMillis, long maxAgeMillis) {
+        return nowMillis - syncedAtMillis >= maxAgeMillis;
+    }
+
+    /**
+     * @return 좌석 ID별 현재 상태 (만료된 선점은 AVAILABLE로 표시)
+     */
+    Map<Long, SeatStatus> snapshot(long nowMillis) {
+        Map<Long, SeatStatus> snapshot = new LinkedHashMap<>(seatIds.length * 2);
+        for (int i = 0; i < seatIds.length; i++) {
+            snapshot.put(seatIds[i], effectiveStatus(i, nowMillis));
+        }
+        return snapshot;
+    }
+
+    /**
+     * @return 상태별 좌석 수 (만료 시각이 지났지만 아직 해제되지 않은 선점은 HOLD로 셉니다)
+     */
+    SeatCounts counts() {
+        return new SeatCounts(
+                statusCounts[SeatStatus.AVAILABLE.ordinal()],
+                statusCounts[SeatStatus.HOLD.ordinal()],
+                statusCounts[SeatStatus.SOLD.ordinal()]);
+    }
+
+    boolean isEmpty() {
+        return seatIds.length == 0;
+    }
+
+    private int[] indexesOf(List<Long> seatIdsToFind) {
+        int[] indexes = new int[seatIdsToFind.size()];
+        for (int i = 0; i < indexes.length; i++) {
+            Long seatId = seatIdsToFind.get(i);
+            int index = seatId == null ? -1 : Arrays.binarySearch(seatIds, seatId);
+            if (index < 0) {
+                throw new EntityNotFoundException("좌석 정보를 찾을 수 없습니다: " + seatId);
+            }
+            indexes[i] = index;
+        }
+        return indexes;
+    }
+
+    private SeatStatus effectiveStatus(int index, long nowMillis) {
+        SeatStatus status = STATUSES[statuses[index]];
+        // 만료 시각이 없는 선점(NONE)은 이미 만료된 것으로 봅니다.
+        if (status == SeatStatus.HOLD && holdExpiresAt[index] <= nowMillis) {
+            return SeatStatus.AVAILABLE;
+        }
+        return status;
+    }
+
+    private void setStatus(int index, SeatStatus seatStatus) {
+        statusCounts[statuses[index]]--;
+        statuses[index] = (byte) seatStatus.ordinal();
+        statusCounts[statuses[index]]++;
+    }
+
+    private void clear(int index, SeatStatus seatStatus) {
+        setStatus(index, seatStatus);
+        holdExpiresAt[index] = NONE;
+        holdCustomerIds[index] = NONE;
+        holdGuestIds[index] = NONE;
+    }
+
+    static long toMillis(LocalDateTime dateTime) {
+        return dateTime == null ? NONE : dateTime.atZone(ZONE).toInstant().toEpochMilli();
+    }
+
+    private static long orNone(Long id) {
+        return id == null ? NONE : id;
+    }
+}
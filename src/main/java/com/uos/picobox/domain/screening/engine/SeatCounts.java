@@ -0,0 +1,18 @@
+package com.uos.picobox.domain.screening.engine;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 한 상영의 상태별 좌석 수입니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class SeatCounts {
+
+    public static final SeatCounts EMPTY = new SeatCounts(0, 0, 0);
+
+    private final int available;
+    private final int held;
+    private final int sold;
+}
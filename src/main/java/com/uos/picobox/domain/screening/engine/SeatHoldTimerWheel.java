@@ -0,0 +1,81 @@
+package com.uos.picobox.domain.screening.engine;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 좌석 선점 만료 시각을 1초 단위 칸으로 나눈 hashed timer wheel입니다.
+ * 선점이 생길 때 만료 시각에 해당하는 칸에 등록해 두고, advance 호출 시 지나간 칸만 확인하므로
+ * 만료 좌석을 찾기 위해 전체 좌석을 조회할 필요가 없습니다.
+ *
+ * 선점이 먼저 해제/판매되어도 등록을 지우지 않습니다. 만료 처리 시 좌석이 아직 같은 선점 상태인지
+ * (HOLD 이고 만료 시각이 지났는지) 다시 확인하므로 남은 등록은 아무 좌석도 바꾸지 않습니다.
+ */
+class SeatHoldTimerWheel {
+
+    private static final long TICK_MILLIS = 1_000L;
+    private static final int WHEEL_SIZE = 1024; // 약 17분 (선점 시간보다 길게 잡아 대부분 한 바퀴 안에 만료)
+    private static final int MASK = WHEEL_SIZE - 1;
+
+    private final List<List<HoldTimeout>> buckets = new ArrayList<>(WHEEL_SIZE);
+    private long currentTick;
+
+    SeatHoldTimerWheel(long nowMillis) {
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            buckets.add(new ArrayList<>());
+        }
+        this.currentTick = nowMillis / TICK_MILLIS;
+    }
+
+    /**
+     * 좌석들의 만료 시각을 등록합니다. 이미 지난 시각이면 다음 advance에서 바로 만료됩니다.
+     */
+    synchronized void schedule(Long screeningId, List<Long> seatIds, long expiresAtMillis) {
+        long tick = Math.max(expiresAtMillis / TICK_MILLIS, currentTick);
+        List<HoldTimeout> bucket = buckets.get((int) (tick & MASK));
+        for (Long seatId : seatIds) {
+            bucket.add(new HoldTimeout(screeningId, seatId, expiresAtMillis));
+        }
+    }
+
+    /**
+     * 마지막 호출 이후 지나간 칸을 돌며 만료 시각이 된 좌석을 꺼냅니다.
+     * @return 상영 ID별 만료된 좌석 ID 목록
+     */
+    synchronized Map<Long, List<Long>> advance(long nowMillis) {
+        long targetTick = nowMillis / TICK_MILLIS;
+        // 오래 호출되지 않았더라도 한 바퀴만 돌면 모든 칸을 확인한 것과 같습니다.
+        long fromTick = Math.max(currentTick, targetTick - MASK);
+
+        Map<Long, List<Long>> expired = new LinkedHashMap<>();
+        for (long tick = fromTick; tick <= targetTick; tick++) {
+            Iterator<HoldTimeout> iterator = buckets.get((int) (tick & MASK)).iterator();
+            while (iterator.hasNext()) {
+                HoldTimeout timeout = iterator.next();
+                // 한 바퀴 이후에 만료될 등록은 그대로 둡니다.
+                if (timeout.expiresAtMillis <= nowMillis) {
+                    expired.computeIfAbsent(timeout.screeningId, id -> new ArrayList<>()).add(timeout.seatId);
+                    iterator.remove();
+                }
+            }
+        }
+        // 현재 칸에는 아직 만료되지 않은 등록이 남아 있을 수 있으므로 다음 호출에서 다시 확인합니다.
+        currentTick = targetTick;
+        return expired;
+    }
+
+    private static class HoldTimeout {
+        private final Long screeningId;
+        private final Long seatId;
+        private final long expiresAtMillis;
+
+        private HoldTimeout(Long screeningId, Long seatId, long expiresAtMillis) {
+            this.screeningId = screeningId;
+            this.seatId = seatId;
+            this.expiresAtMillis = expiresAtMillis;
+        }
+    }
+}
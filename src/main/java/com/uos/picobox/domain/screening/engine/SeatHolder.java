@@ -0,0 +1,41 @@
+package com.uos.picobox.domain.screening.engine;
+
+import com.uos.picobox.global.session.SessionPrincipal;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 좌석을 선점한 주체(회원 또는 게스트)를 나타냅니다.
+ * SCREENING_SEAT의 HOLD_CUSTOMER_ID / HOLD_GUEST_ID 컬럼과 1:1로 대응됩니다.
+ */
+@Getter
+@EqualsAndHashCode
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class SeatHolder {
+
+    private final Long customerId;
+    private final Long guestId;
+
+    public static SeatHolder of(Long customerId, Long guestId) {
+        return new SeatHolder(customerId, guestId);
+    }
+
+    /**
+     * 로그인 주체(회원 또는 게스트)로부터 선점 주체를 생성합니다.
+     */
+    public static SeatHolder from(SessionPrincipal principal) {
+        if (principal.isCustomer()) {
+            return new SeatHolder(principal.getId(), null);
+        }
+        return new SeatHolder(null, principal.getId());
+    }
+
+    /**
+     * SeatLeaseStore에 lease 소유자로 저장되는 값입니다. (예: customer:1, guest:3)
+     */
+    public String toLeaseValue() {
+        return customerId != null ? "customer:" + customerId : "guest:" + guestId;
+    }
+}
@@ -0,0 +1,279 @@
+package com.uos.picobox.domain.screening.engine;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.uos.picobox.domain.room.repository.SeatRepository;
+import com.uos.picobox.domain.screening.entity.SeatStatus;
+import com.uos.picobox.domain.screening.repository.ScreeningSeatRepository;
+import com.uos.picobox.global.utils.TransactionUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 상영별 좌석 상태를 메모리에 보관하여 좌석 배치도/좌석 수 조회와 선점 만료를 DB 조회 없이 처리합니다.
+ *
+ * - 좌석을 누가 선점하는지는 SeatLeaseStore가 판단하고, 선점/해제는 SeatStateWriter가 요청 처리 중에 DB에 먼저 반영합니다.
+ *   이 엔진은 DB에 반영된 결과를 메모리 상태에 맞추고 만료 타이머를 관리합니다.
+ * - SCREENING_SEAT에는 선점/판매된 좌석만 저장되며, 적재 시 상영관 좌석 배치에서 나머지 좌석을 AVAILABLE로 채웁니다.
+ * - 결제 완료(SOLD)/예매 취소는 호출 측 트랜잭션에서 DB에 반영하고, 커밋 이후에 메모리 상태를 맞춥니다.
+ * - 좌석 상태가 바뀔 때마다 상영별 배치도 버전을 올리고 SeatStatusChangedEvent를 발행합니다.
+ * - 다른 서버에서 선점/판매/해제한 좌석도 보이도록, 적재한 지 STATE_MAX_AGE가 지난 상영은 다음 사용 시 DB에서 다시 읽어
+ *   바뀐 좌석을 같은 방식(버전 증가 + 이벤트)으로 반영합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SeatStateEngine {
+
+    private static final Duration STATE_MAX_AGE = Duration.ofSeconds(5);
+
+    private final SeatRepository seatRepository;
+    private final ScreeningSeatRepository screeningSeatRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 항목은 DB와 다시 맞추며 계속 사용하고, 30분 동안 쓰이지 않으면 버립니다.
+    private final Cache<Long, ScreeningSeatState> states = Caffeine.newBuilder()
+            .expireAfterAccess(30, TimeUnit.MINUTES)
+            .maximumSize(2_000)
+            .build();
+
+    private final SeatHoldTimerWheel holdTimers = new SeatHoldTimerWheel(System.currentTimeMillis());
+
+    // 좌석 배치도 버전. 한 번 쓴 값은 다시 쓰지 않도록(재시작 포함) 현재 시각에서 시작하는 하나의 순번에서 발급합니다.
+    // 메모리에 적재하지 않은 상영은 다른 서버의 변경을 알 수 없으므로, 버전을 STATE_MAX_AGE마다 새로 발급해 DB에서 다시 읽게 합니다.
+    private final AtomicLong versionSequence = new AtomicLong(System.currentTimeMillis() * 1_000);
+    private final Cache<Long, Long> versions = Caffeine.newBuilder()
+            .expireAfterWrite(STATE_MAX_AGE)
+            .maximumSize(10_000)
+            .build();
+
+    /**
+     * 상영관에 없는 좌석이 포함되어 있는지 DB 반영 전에 확인합니다.
+     * @throws jakarta.persistence.EntityNotFoundException 상영에 존재하지 않는 좌석이 포함된 경우
+     */
+    public void checkSeats(Long screeningId, List<Long> seatIds) {
+        ScreeningSeatState state = loadState(screeningId);
+        synchronized (state) {
+            state.checkSeats(seatIds);
+        }
+    }
+
+    /**
+     * DB에 선점이 반영된 좌석 전체를 HOLD로 변경하고 만료 타이머를 등록합니다.
+     */
+    public void hold(Long screeningId, List<Long> seatIds, SeatHolder holder, LocalDateTime expiresAt) {
+        ScreeningSeatState state = loadState(screeningId);
+        synchronized (state) {
+            state.hold(seatIds, holder, expiresAt);
+            publishChange(screeningId, seatIds, SeatStatus.HOLD);
+        }
+        holdTimers.schedule(screeningId, seatIds, ScreeningSeatState.toMillis(expiresAt));
+    }
+
+    /**
+     * DB에서 선점이 해제된 좌석을 AVAILABLE로 되돌립니다.
+     */
+    public void release(Long screeningId, List<Long> seatIds) {
+        ScreeningSeatState state = loadState(screeningId);
+        synchronized (state) {
+            publishChange(screeningId, state.release(seatIds), SeatStatus.AVAILABLE);
+        }
+    }
+
+    /**
+     * 결제 완료로 SOLD 처리된 좌석을 메모리에 반영합니다. 트랜잭션 안에서 호출되면 커밋 이후에 반영됩니다.
+     */
+    public void markSold(Long screeningId, Collection<Long> seatIds) {
+        TransactionUtils.afterCommit(() -> overwrite(screeningId, seatIds, SeatStatus.SOLD));
+    }
+
+    /**
+     * 예매 취소로 다시 판매 가능해진 좌석을 메모리에 반영합니다. 트랜잭션 안에서 호출되면 커밋 이후에 반영됩니다.
+     */
+    public void markAvailable(Long screeningId, Collection<Long> seatIds) {
+        TransactionUtils.afterCommit(() -> overwrite(screeningId, seatIds, SeatStatus.AVAILABLE));
+    }
+
+    /**
+     * 이미 메모리에 적재된 상영의 좌석 상태를 반환합니다. 적재되지 않은 상영은 DB 상태가 최신이므로 빈 Map을 반환합니다.
+     */
+    public Map<Long, SeatStatus> findLoadedStatuses(Long screeningId) {
+        ScreeningSeatState state = loadedState(screeningId);
+        if (state == null) {
+            return Map.of();
+        }
+        synchronized (state) {
+            return state.snapshot(System.currentTimeMillis());
+        }
+    }
+
+    /**
+     * 이미 메모리에 적재된 상영의 상태별 좌석 수를 반환합니다. 적재되지 않은 상영은 결과에 포함되지 않습니다.
+     */
+    public Map<Long, SeatCounts> findLoadedCounts(Collection<Long> screeningIds) {
+        Map<Long, SeatCounts> seatCounts = new HashMap<>();
+        for (Long screeningId : screeningIds) {
+            ScreeningSeatState state = loadedState(screeningId);
+            if (state == null) {
+                continue;
+            }
+            synchronized (state) {
+                seatCounts.put(screeningId, state.counts());
+            }
+        }
+        return seatCounts;
+    }
+
+    /**
+     * 상영의 좌석 구성이 바뀌었거나(상영관 변경, 삭제) DB와 상태가 어긋난 경우 메모리 상태를 버립니다.
+     * 다음 요청 시 DB에서 다시 적재됩니다. 트랜잭션 안에서 호출되면 커밋 이후에 버립니다.
+     */
+    public void invalidate(Long screeningId) {
+        TransactionUtils.afterCommit(() -> {
+            states.invalidate(screeningId);
+            bumpVersion(screeningId);
+        });
+    }
+
+    /**
+     * 상영 좌석 배치도의 현재 버전을 반환합니다. 좌석 상태가 바뀌거나 상영 정보가 바뀌면 새 버전이 됩니다.
+     */
+    public long currentVersion(Long screeningId) {
+        // 적재된 상영은 DB와 다시 맞출 때가 되었으면 먼저 맞춰 다른 서버의 변경이 버전에 반영되게 합니다.
+        loadedState(screeningId);
+        return versions.get(screeningId, id -> versionSequence.incrementAndGet());
+    }
+
+    /**
+     * 상영의 좌석 상태를 적재하고, 적재한 지 STATE_MAX_AGE가 지났으면 DB와 다시 맞춥니다.
+     * 구독자가 있는 상영에 다른 서버의 변경을 주기적으로 전달하는 데 사용합니다.
+     */
+    public void refresh(Long screeningId) {
+        loadState(screeningId);
+    }
+
+    /**
+     * 좌석 선점의 만료 시각을 등록합니다. (서버 시작 시 DB에 남아 있는 선점 복구, DB 반영 실패 시 재시도에 사용)
+     */
+    public void scheduleExpiry(Long screeningId, List<Long> seatIds, LocalDateTime expiresAt) {
+        holdTimers.schedule(screeningId, seatIds, ScreeningSeatState.toMillis(expiresAt));
+    }
+
+    /**
+     * 만료 시각이 된 선점을 메모리에서 해제하고, DB에도 해제해야 할 좌석을 반환합니다.
+     * @return 상영 ID별 만료 시각이 된 좌석 ID 목록
+     */
+    public Map<Long, List<Long>> expireDueHolds() {
+        long nowMillis = System.currentTimeMillis();
+        Map<Long, List<Long>> dueSeatIds = holdTimers.advance(nowMillis);
+        dueSeatIds.forEach((screeningId, seatIds) -> {
+            ScreeningSeatState state = states.getIfPresent(screeningId);
+            if (state == null) {
+                // 메모리에 없는 상영은 DB에서 해제되므로 배치도 버전만 올립니다.
+                bumpVersion(screeningId);
+                return;
+            }
+            synchronized (state) {
+                publishChange(screeningId, state.expire(seatIds, nowMillis), SeatStatus.AVAILABLE);
+            }
+        });
+        return dueSeatIds;
+    }
+
+    private ScreeningSeatState loadState(Long screeningId) {
+        ScreeningSeatState state = states.get(screeningId, this::load);
+        if (state == null) {
+            // 존재하지 않는 상영(또는 좌석이 없는 상영)은 캐싱하지 않고 빈 상태로 처리합니다.
+            return new ScreeningSeatState(List.of(), List.of());
+        }
+        return syncIfStale(screeningId, state);
+    }
+
+    // 이미 적재된 상영만 반환합니다. (적재되지 않았으면 null)
+    private ScreeningSeatState loadedState(Long screeningId) {
+        ScreeningSeatState state = states.getIfPresent(screeningId);
+        return state == null ? null : syncIfStale(screeningId, state);
+    }
+
+    /**
+     * 적재한 지 STATE_MAX_AGE가 지난 상태를 DB에서 다시 읽어 덮어쓰고, 표시 상태가 바뀐 좌석을 발행합니다.
+     * 선점/판매/해제는 DB에 먼저 반영한 뒤 같은 잠금 안에서 메모리에 적용하므로, 잠금 안에서 DB를 읽으면 반영된 변경을 되돌리지 않습니다.
+     */
+    private ScreeningSeatState syncIfStale(Long screeningId, ScreeningSeatState state) {
+        long maxAgeMillis = STATE_MAX_AGE.toMillis();
+        if (!state.isStale(System.currentTimeMillis(), maxAgeMillis)) {
+            return state;
+        }
+        synchronized (state) {
+            long nowMillis = System.currentTimeMillis();
+            if (!state.isStale(nowMillis, maxAgeMillis)) {
+                return state; // 다른 스레드가 이미 맞춘 경우
+            }
+            ScreeningSeatState stored = load(screeningId);
+            if (stored == null) {
+                states.asMap().remove(screeningId, state);
+                bumpVersion(screeningId);
+                return new ScreeningSeatState(List.of(), List.of());
+            }
+            Map<SeatStatus, List<Long>> changedSeatIds = state.syncWith(stored, nowMillis);
+            if (changedSeatIds == null) {
+                // 상영관 좌석 구성이 바뀐 경우 새로 읽은 상태로 바꿉니다.
+                states.asMap().replace(screeningId, state, stored);
+                bumpVersion(screeningId);
+                return stored;
+            }
+            changedSeatIds.forEach((seatStatus, seatIds) -> publishChange(screeningId, seatIds, seatStatus));
+            return state;
+        }
+    }
+
+    private ScreeningSeatState load(Long screeningId) {
+        ScreeningSeatState state = new ScreeningSeatState(
+                seatRepository.findIdsByScreeningId(screeningId), screeningSeatRepository.findAllByScreeningId(screeningId));
+        if (state.isEmpty()) {
+            return null;
+        }
+        log.debug("상영 ID {}의 좌석 상태를 메모리에 적재했습니다.", screeningId);
+        return state;
+    }
+
+    private void overwrite(Long screeningId, Collection<Long> seatIds, SeatStatus seatStatus) {
+        ScreeningSeatState state = states.getIfPresent(screeningId);
+        if (state == null) {
+            // 적재되지 않은 상영은 메모리에서 순서를 맞출 상태가 없으므로 버전 순서만으로 전달합니다.
+            publishChange(screeningId, List.copyOf(seatIds), seatStatus);
+            return;
+        }
+        synchronized (state) {
+            state.overwrite(seatIds, seatStatus);
+            publishChange(screeningId, List.copyOf(seatIds), seatStatus);
+        }
+    }
+
+    // 같은 좌석의 변경이 발생 순서대로 전달되도록 state 잠금 안에서 호출합니다.
+    // 구독자(SeatMapStreamService)는 전송 대기열에 넣기만 하므로 잠금이 길어지지 않습니다.
+    private void publishChange(Long screeningId, List<Long> seatIds, SeatStatus seatStatus) {
+        if (!seatIds.isEmpty()) {
+            long version = bumpVersion(screeningId);
+            eventPublisher.publishEvent(new SeatStatusChangedEvent(screeningId, seatIds, seatStatus, version));
+        }
+    }
+
+    private long bumpVersion(Long screeningId) {
+        long version = versionSequence.incrementAndGet();
+        // 잠금 밖에서 올리는 경우(무효화 등)와 겹쳐도 버전이 뒤로 가지 않도록 큰 값을 남깁니다.
+        versions.asMap().merge(screeningId, version, Math::max);
+        return version;
+    }
+}
@@ -0,0 +1,87 @@
+package com.uos.picobox.domain.screening.engine;
+
+import com.uos.picobox.domain.screening.repository.ScreeningSeatRepository;
+import com.uos.picobox.global.exception.SeatConflictException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 좌석 선점/해제를 SCREENING_SEAT에 반영합니다. 요청 처리 중에 바로 호출되며, DB 결과가 선점 성공 여부를 결정합니다.
+ * 선점은 HOLD 행을 MERGE로 추가/변경하고, 해제는 HOLD 행을 삭제합니다. (행이 없는 좌석은 AVAILABLE)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SeatStateWriter {
+
+    private static final int MAX_IN_SIZE = 1000; // Oracle IN 절 최대 개수
+
+    private final ScreeningSeatRepository screeningSeatRepository;
+
+    /**
+     * 조건부 MERGE 한 번으로 좌석 전체를 선점합니다. 다른 서버에서 이미 선점/판매한 좌석이 하나라도 있으면 전체를 롤백합니다.
+     * @throws SeatConflictException 선점하지 못한 좌석이 있는 경우 (충돌 좌석 ID 전체 포함)
+     */
+    @Transactional
+    public void hold(Long screeningId, List<Long> seatIds, SeatHolder holder, LocalDateTime expiresAt) {
+        int heldCount;
+        try {
+            heldCount = screeningSeatRepository.holdSeatsIfAvailable(screeningId, seatIds,
+                    expiresAt, holder.getCustomerId(), holder.getGuestId(), LocalDateTime.now());
+        } catch (DataIntegrityViolationException e) {
+            // 다른 서버가 같은 좌석 행을 동시에 추가하면 MERGE의 INSERT가 유일 키 위반(ORA-00001)으로 실패하고 문장 전체가 취소됩니다.
+            throw conflictOf(screeningId, seatIds, holder);
+        }
+        if (heldCount == seatIds.size()) {
+            return;
+        }
+        throw conflictOf(screeningId, seatIds, holder);
+    }
+
+    // 선점이 실패했을 때만 실제로 holder가 선점한 좌석을 조회해 나머지를 충돌 좌석으로 계산합니다.
+    private SeatConflictException conflictOf(Long screeningId, List<Long> seatIds, SeatHolder holder) {
+        Set<Long> heldSeatIds = new HashSet<>(screeningSeatRepository.findSeatIdsHeldBy(
+                screeningId, seatIds, holder.getCustomerId(), holder.getGuestId()));
+        List<Long> conflictSeatIds = seatIds.stream()
+                .filter(seatId -> !heldSeatIds.contains(seatId))
+                .toList();
+        log.info("좌석 선점 충돌: screeningId={}, 충돌 좌석={}", screeningId, conflictSeatIds);
+        return new SeatConflictException("이미 선택된 좌석입니다", conflictSeatIds);
+    }
+
+    /**
+     * holder가 선점한 HOLD 행을 삭제합니다. 이미 만료되어 해제된 좌석은 건너뜁니다.
+     * @return 해제된 좌석 수
+     */
+    @Transactional
+    public int release(Long screeningId, List<Long> seatIds, SeatHolder holder) {
+        return screeningSeatRepository.deleteHoldsBy(screeningId, seatIds, holder.getCustomerId(), holder.getGuestId());
+    }
+
+    /**
+     * 만료 시각이 된 선점을 IN 절 DELETE로 해제합니다. 그 사이 다시 선점되었거나 판매된 좌석은 변경되지 않습니다.
+     * @param seatIdsByScreening 상영 ID별 만료 시각이 된 좌석 ID 목록
+     * @return 해제된 좌석 수
+     */
+    @Transactional
+    public int releaseExpiredHolds(Map<Long, List<Long>> seatIdsByScreening, LocalDateTime now) {
+        int releasedCount = 0;
+        for (Map.Entry<Long, List<Long>> entry : seatIdsByScreening.entrySet()) {
+            List<Long> seatIds = entry.getValue();
+            for (int from = 0; from < seatIds.size(); from += MAX_IN_SIZE) {
+                List<Long> chunk = seatIds.subList(from, Math.min(from + MAX_IN_SIZE, seatIds.size()));
+                releasedCount += screeningSeatRepository.releaseExpiredHolds(entry.getKey(), chunk, now);
+            }
+        }
+        return releasedCount;
+    }
+}
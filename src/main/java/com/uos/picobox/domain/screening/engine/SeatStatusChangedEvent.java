@@ -0,0 +1,21 @@
+package com.uos.picobox.domain.screening.engine;
+
+import com.uos.picobox.domain.screening.entity.SeatStatus;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * SeatStateEngine에서 좌석 상태가 바뀌었을 때 발행됩니다. 한 번의 선점/해제/판매로 바뀐 좌석을 묶어서 전달합니다.
+ * version은 이 변경으로 올라간 좌석 배치도 버전이며, 같은 상영 안에서는 변경 순서대로 커집니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class SeatStatusChangedEvent {
+
+    private final Long screeningId;
+    private final List<Long> seatIds;
+    private final SeatStatus seatStatus;
+    private final long version;
+}
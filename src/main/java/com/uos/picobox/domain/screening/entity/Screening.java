@@ -21,7 +21,8 @@ import java.util.List;
 public class Screening {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "screening_seq")
+    @SequenceGenerator(name = "screening_seq", sequenceName = "SCREENING_SEQ", allocationSize = 50)
     @Column(name = "SCREENING_ID")
     private Long id;
 
@@ -64,29 +65,4 @@ public class Screening {
     public void updateScreeningSequence(Integer screeningSequence) {
         this.screeningSequence = screeningSequence;
     }
-
-    public void addScreeningSeat(ScreeningSeat screeningSeat) {
-        this.screeningSeats.add(screeningSeat);
-        screeningSeat.setScreening(this);
-    }
-
-    public void clearScreeningSeats() {
-        for (ScreeningSeat seat : new ArrayList<>(this.screeningSeats)) {
-            removeScreeningSeat(seat);
-        }
-    }
-
-    private void removeScreeningSeat(ScreeningSeat screeningSeat) {
-        this.screeningSeats.remove(screeningSeat);
-        screeningSeat.setScreening(null);
-    }
-
-    public void replaceScreeningSeats(List<ScreeningSeat> newSeats) {
-        this.clearScreeningSeats();
-        if (newSeats != null) {
-            for (ScreeningSeat seat : newSeats) {
-                this.addScreeningSeat(seat);
-            }
-        }
-    }
-}
\ No newline at end of file
+}
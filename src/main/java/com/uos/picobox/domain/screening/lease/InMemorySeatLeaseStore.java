@@ -0,0 +1,119 @@
+package com.uos.picobox.domain.screening.lease;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.uos.picobox.domain.screening.engine.SeatHolder;
+import com.uos.picobox.domain.screening.entity.ScreeningSeat;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 애플리케이션 메모리에 lease를 보관하는 SeatLeaseStore 구현체입니다.
+ * lease마다 TTL을 따로 지정할 수 있도록 Caffeine의 엔트리별 만료를 사용하며, 만료된 lease는 조회 시점에 바로 없는 것으로 처리됩니다.
+ */
+@Component
+@ConditionalOnProperty(name = "picobox.seat-lease.store", havingValue = "memory", matchIfMissing = true)
+public class InMemorySeatLeaseStore implements SeatLeaseStore {
+
+    private final Cache<ScreeningSeat.ScreeningSeatId, SeatLease> leases = Caffeine.newBuilder()
+            .expireAfter(new Expiry<ScreeningSeat.ScreeningSeatId, SeatLease>() {
+                @Override
+                public long expireAfterCreate(ScreeningSeat.ScreeningSeatId key, SeatLease lease, long currentTime) {
+                    return lease.ttl.toNanos();
+                }
+
+                @Override
+                public long expireAfterUpdate(ScreeningSeat.ScreeningSeatId key, SeatLease lease, long currentTime, long currentDuration) {
+                    return lease.ttl.toNanos();
+                }
+
+                @Override
+                public long expireAfterRead(ScreeningSeat.ScreeningSeatId key, SeatLease lease, long currentTime, long currentDuration) {
+                    return currentDuration; // 조회로는 연장하지 않습니다.
+                }
+            })
+            .build();
+
+    // 여러 좌석을 한 번에 확인하고 변경해야 하므로 상영 단위로 동기화합니다. 잠금 객체는 사용 중인 동안에만 유지됩니다.
+    private final Cache<Long, Object> screeningLocks = Caffeine.newBuilder()
+            .weakValues()
+            .build();
+
+    @Override
+    public List<Long> acquire(Long screeningId, List<Long> seatIds, SeatHolder holder, Duration ttl) {
+        synchronized (lockOf(screeningId)) {
+            return acquireLocked(screeningId, seatIds, holder, ttl);
+        }
+    }
+
+    @Override
+    public List<Long> release(Long screeningId, List<Long> seatIds, SeatHolder holder) {
+        synchronized (lockOf(screeningId)) {
+            List<Long> notOwnedSeatIds = findSeatsNotHeldBy(screeningId, seatIds, holder);
+            if (notOwnedSeatIds.isEmpty()) {
+                seatIds.forEach(seatId -> leases.invalidate(keyOf(screeningId, seatId)));
+            }
+            return notOwnedSeatIds;
+        }
+    }
+
+    // 조회만 하므로 잠그지 않습니다. (좌석별 조회는 Caffeine이 원자적으로 처리)
+    @Override
+    public List<Long> findSeatsNotHeldBy(Long screeningId, List<Long> seatIds, SeatHolder holder) {
+        String holderValue = holder.toLeaseValue();
+        List<Long> notHeldSeatIds = new ArrayList<>();
+        for (Long seatId : seatIds) {
+            SeatLease lease = leases.getIfPresent(keyOf(screeningId, seatId));
+            if (lease == null || !lease.holder.equals(holderValue)) {
+                notHeldSeatIds.add(seatId);
+            }
+        }
+        return notHeldSeatIds;
+    }
+
+    @Override
+    public void remove(Long screeningId, Collection<Long> seatIds) {
+        synchronized (lockOf(screeningId)) {
+            seatIds.forEach(seatId -> leases.invalidate(keyOf(screeningId, seatId)));
+        }
+    }
+
+    private List<Long> acquireLocked(Long screeningId, List<Long> seatIds, SeatHolder holder, Duration ttl) {
+        List<Long> conflictSeatIds = new ArrayList<>();
+        for (Long seatId : seatIds) {
+            if (leases.getIfPresent(keyOf(screeningId, seatId)) != null) {
+                conflictSeatIds.add(seatId);
+            }
+        }
+        if (!conflictSeatIds.isEmpty()) {
+            return conflictSeatIds;
+        }
+        SeatLease lease = new SeatLease(holder.toLeaseValue(), ttl);
+        seatIds.forEach(seatId -> leases.put(keyOf(screeningId, seatId), lease));
+        return conflictSeatIds;
+    }
+
+    private Object lockOf(Long screeningId) {
+        return screeningLocks.get(screeningId, id -> new Object());
+    }
+
+    private static ScreeningSeat.ScreeningSeatId keyOf(Long screeningId, Long seatId) {
+        return new ScreeningSeat.ScreeningSeatId(screeningId, seatId);
+    }
+
+    private static class SeatLease {
+        private final String holder;
+        private final Duration ttl;
+
+        private SeatLease(String holder, Duration ttl) {
+            this.holder = holder;
+            this.ttl = ttl;
+        }
+    }
+}
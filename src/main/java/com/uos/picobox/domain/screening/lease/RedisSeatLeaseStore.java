@@ -0,0 +1,112 @@
+package com.uos.picobox.domain.screening.lease;
+
+import com.uos.picobox.domain.screening.engine.SeatHolder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Redis에 lease를 보관하는 SeatLeaseStore 구현체입니다.
+ * 좌석마다 "seat-lease:{상영 ID}:좌석 ID" 키에 선점 주체를 저장하고 PX로 TTL을 지정합니다.
+ * 여러 좌석을 한 번에 확인하고 변경해야 하는 선점/해제는 Lua 스크립트로 원자적으로 처리합니다.
+ * (키의 {상영 ID} 부분은 Redis Cluster에서 한 상영의 좌석 키가 같은 슬롯에 배치되도록 하기 위한 hash tag입니다.)
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "picobox.seat-lease.store", havingValue = "redis")
+public class RedisSeatLeaseStore implements SeatLeaseStore {
+
+    private static final String KEY_PREFIX = "seat-lease:";
+
+    // 이미 lease가 있는 키의 순번(1부터)을 반환하고, 없을 때만 전체 키에 lease를 설정합니다.
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> ACQUIRE_SCRIPT = RedisScript.of("""
+            local conflicts = {}
+            for i, key in ipairs(KEYS) do
+                if redis.call('EXISTS', key) == 1 then
+                    conflicts[#conflicts + 1] = i
+                end
+            end
+            if #conflicts == 0 then
+                for _, key in ipairs(KEYS) do
+                    redis.call('SET', key, ARGV[1], 'PX', ARGV[2])
+                end
+            end
+            return conflicts
+            """, List.class);
+
+    // 본인 lease가 아닌 키의 순번(1부터)을 반환하고, 모두 본인 lease일 때만 전체 키를 삭제합니다.
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> RELEASE_SCRIPT = RedisScript.of("""
+            local notOwned = {}
+            for i, key in ipairs(KEYS) do
+                if redis.call('GET', key) ~= ARGV[1] then
+                    notOwned[#notOwned + 1] = i
+                end
+            end
+            if #notOwned == 0 then
+                redis.call('DEL', unpack(KEYS))
+            end
+            return notOwned
+            """, List.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Override
+    public List<Long> acquire(Long screeningId, List<Long> seatIds, SeatHolder holder, Duration ttl) {
+        List<?> conflictIndexes = redisTemplate.execute(ACQUIRE_SCRIPT, keysOf(screeningId, seatIds),
+                holder.toLeaseValue(), String.valueOf(ttl.toMillis()));
+        return seatIdsAt(seatIds, conflictIndexes);
+    }
+
+    @Override
+    public List<Long> release(Long screeningId, List<Long> seatIds, SeatHolder holder) {
+        List<?> notOwnedIndexes = redisTemplate.execute(RELEASE_SCRIPT, keysOf(screeningId, seatIds),
+                holder.toLeaseValue());
+        return seatIdsAt(seatIds, notOwnedIndexes);
+    }
+
+    @Override
+    public List<Long> findSeatsNotHeldBy(Long screeningId, List<Long> seatIds, SeatHolder holder) {
+        List<String> holders = redisTemplate.opsForValue().multiGet(keysOf(screeningId, seatIds));
+        String holderValue = holder.toLeaseValue();
+        List<Long> notHeldSeatIds = new ArrayList<>();
+        for (int i = 0; i < seatIds.size(); i++) {
+            if (holders == null || !Objects.equals(holders.get(i), holderValue)) {
+                notHeldSeatIds.add(seatIds.get(i));
+            }
+        }
+        return notHeldSeatIds;
+    }
+
+    @Override
+    public void remove(Long screeningId, Collection<Long> seatIds) {
+        if (!seatIds.isEmpty()) {
+            redisTemplate.delete(keysOf(screeningId, seatIds));
+        }
+    }
+
+    private static List<String> keysOf(Long screeningId, Collection<Long> seatIds) {
+        return seatIds.stream()
+                .map(seatId -> KEY_PREFIX + "{" + screeningId + "}:" + seatId)
+                .toList();
+    }
+
+    // Lua 스크립트가 반환한 1부터 시작하는 순번을 좌석 ID로 바꿉니다.
+    private static List<Long> seatIdsAt(List<Long> seatIds, List<?> indexes) {
+        if (indexes == null) {
+            return List.of();
+        }
+        return indexes.stream()
+                .map(index -> seatIds.get(((Number) index).intValue() - 1))
+                .toList();
+    }
+}
@@ -0,0 +1,40 @@
+package com.uos.picobox.domain.screening.lease;
+
+import com.uos.picobox.domain.screening.engine.SeatHolder;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 상영+좌석 단위의 선점(lease)을 보관합니다. 좌석을 누가 선점하고 있는지는 이 저장소가 판단합니다.
+ * lease는 TTL이 지나면 저장소에서 스스로 사라지므로 만료된 선점을 찾기 위한 스캔이 필요 없습니다.
+ *
+ * picobox.seat-lease.store 값으로 구현체를 선택합니다.
+ * - memory (기본값): 애플리케이션 메모리에 보관합니다. 서버가 한 대이거나 테스트 환경에서 사용합니다.
+ * - redis: Redis에 보관하여 여러 서버가 같은 선점 정보를 공유합니다.
+ */
+public interface SeatLeaseStore {
+
+    /**
+     * 요청한 좌석 전체에 lease를 부여합니다. 하나라도 이미 lease가 있으면 아무 좌석도 변경하지 않습니다.
+     * @return 이미 선점된 좌석 ID 목록 (비어 있으면 선점 성공)
+     */
+    List<Long> acquire(Long screeningId, List<Long> seatIds, SeatHolder holder, Duration ttl);
+
+    /**
+     * holder의 lease를 한 번에 반납합니다. 본인 lease가 아닌 좌석이 섞여 있으면 아무 좌석도 변경하지 않습니다.
+     * @return holder가 선점하지 않은 좌석 ID 목록 (비어 있으면 해제 성공)
+     */
+    List<Long> release(Long screeningId, List<Long> seatIds, SeatHolder holder);
+
+    /**
+     * @return holder의 lease가 없는(만료 포함) 좌석 ID 목록
+     */
+    List<Long> findSeatsNotHeldBy(Long screeningId, List<Long> seatIds, SeatHolder holder);
+
+    /**
+     * 결제가 완료된 좌석처럼 더 이상 선점 대상이 아닌 좌석의 lease를 소유자와 관계없이 삭제합니다.
+     */
+    void remove(Long screeningId, Collection<Long> seatIds);
+}
@@ -6,22 +6,48 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface ScreeningRepository extends JpaRepository<Screening, Long> {
 
     /**
-     * 특정 상영관의 특정 날짜에 예정된 모든 상영 스케줄을 조회합니다.
-     * (겹침 확인 및 회차 재정렬 시 사용 가능)
+     * 상영 시간 인덱스 적재용: 특정 상영관의 모든 상영 시작 시각과 영화 상영 시간을 조회합니다.
      * @param roomId 상영관 ID
-     * @param screeningDate 상영 날짜
-     * @return 해당 날짜, 해당 상영관의 스케줄 목록 (영화 정보 포함)
+     * @return [상영 ID, 상영 시작 시각, 영화 상영 시간(분), 영화 제목] 목록
      */
-    @Query("SELECT s FROM Screening s JOIN FETCH s.movie m WHERE s.screeningRoom.id = :roomId AND s.screeningDate = :screeningDate ORDER BY s.screeningTime ASC")
-    List<Screening> findByScreeningRoomIdAndScreeningDateOrderByScreeningTimeAsc(
-            @Param("roomId") Long roomId,
-            @Param("screeningDate") LocalDate screeningDate
+    @Query("SELECT s.id, s.screeningTime, m.duration, m.title FROM Screening s JOIN s.movie m WHERE s.screeningRoom.id = :roomId")
+    List<Object[]> findScheduleByScreeningRoomId(@Param("roomId") Long roomId);
+
+    /**
+     * 상영 등록/수정 시 겹침 확인용: 특정 상영관에서 주어진 시각 범위에 시작하는 상영의 시작 시각과 영화 상영 시간을 조회합니다.
+     * @param roomId 상영관 ID
+     * @param from 시작 시각 하한 (포함)
+     * @param to 시작 시각 상한 (포함)
+     * @return [상영 ID, 상영 시작 시각, 영화 상영 시간(분), 영화 제목] 목록
+     */
+    @Query("SELECT s.id, s.screeningTime, m.duration, m.title FROM Screening s JOIN s.movie m " +
+            "WHERE s.screeningRoom.id = :roomId AND s.screeningTime BETWEEN :from AND :to")
+    List<Object[]> findScheduleByScreeningRoomIdAndScreeningTimeBetween(@Param("roomId") Long roomId,
+                                                                       @Param("from") LocalDateTime from,
+                                                                       @Param("to") LocalDateTime to);
+
+    /**
+     * 여러 상영관의 기간 내 상영 스케줄을 영화 정보와 함께 조회합니다. (일괄 등록 시 겹침 확인 및 회차 계산용)
+     * @param roomIds 상영관 ID 목록
+     * @param startDate 시작 날짜 (포함)
+     * @param endDate 종료 날짜 (포함)
+     * @return 상영 스케줄 목록 (상영 시간 오름차순)
+     */
+    @Query("SELECT s FROM Screening s JOIN FETCH s.movie m " +
+            "WHERE s.screeningRoom.id IN :roomIds AND s.screeningDate BETWEEN :startDate AND :endDate " +
+            "ORDER BY s.screeningTime ASC")
+    List<Screening> findAllWithMovieByRoomIdInAndScreeningDateBetween(
+            @Param("roomIds") Collection<Long> roomIds,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
     );
 
     /**
@@ -31,14 +57,39 @@ public interface ScreeningRepository extends JpaRepository<Screening, Long> {
      */
     boolean existsByScreeningRoomId(Long roomId);
 
+    /**
+     * 상영을 영화, 상영관 정보와 함께 조회합니다.
+     * 좌석은 fetch join 하지 않습니다. (상영 좌석 행은 선점/판매된 좌석만 있으며, 좌석 배치는 SeatRepository에서 조회)
+     */
     @Query("SELECT s FROM Screening s " +
             "JOIN FETCH s.movie m " +
             "JOIN FETCH s.screeningRoom sr " +
-            "LEFT JOIN FETCH s.screeningSeats ss " +
-            "LEFT JOIN FETCH ss.seat seat " +
             "WHERE s.id = :id")
     Optional<Screening> findByIdWithDetails(@Param("id") Long id);
 
+    @Query("SELECT s.movie.id FROM Screening s WHERE s.id = :id")
+    Optional<Long> findMovieIdById(@Param("id") Long id);
+
+    /**
+     * 가격 계산용: 상영별 상영관 ID와 상영 시각만 조회합니다.
+     * @param ids 상영 ID 목록
+     * @return [상영 ID, 상영관 ID, 상영 시각] 목록
+     */
+    @Query("SELECT s.id, s.screeningRoom.id, s.screeningTime FROM Screening s WHERE s.id IN :ids")
+    List<Object[]> findRoomIdAndScreeningTimeByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 예매 내역 조회용: 여러 상영을 영화(관람 등급 포함) 정보와 함께 한 번에 조회합니다. (좌석, 상영관은 조회하지 않음)
+     * 상영관 이름은 티켓에 기록된 값을 사용합니다.
+     * @param ids 상영 ID 목록
+     * @return 상영 목록
+     */
+    @Query("SELECT s FROM Screening s " +
+            "JOIN FETCH s.movie m " +
+            "LEFT JOIN FETCH m.movieRating mr " +
+            "WHERE s.id IN :ids")
+    List<Screening> findAllWithMovieByIdIn(@Param("ids") Collection<Long> ids);
+
     @Query("SELECT DISTINCT s FROM Screening s " +
             "JOIN FETCH s.movie m " +
             "JOIN FETCH s.screeningRoom sr " +
@@ -46,35 +97,29 @@ public interface ScreeningRepository extends JpaRepository<Screening, Long> {
     List<Screening> findAllWithMovieAndRoom();
 
     /**
-     * 사용자용: 특정 날짜의 모든 상영 스케줄을 조회합니다. (시간 오름차순 정렬)
-     * 상영 시작 후 10분까지는 예매 가능합니다.
+     * 사용자용: 특정 날짜의 모든 상영 스케줄을 영화/상영관 정보와 함께 조회합니다. (시간 오름차순 정렬)
+     * 예매 가능 여부(상영 시작 후 10분까지)는 조회 시점마다 달라지므로 호출하는 쪽에서 거릅니다.
      * @param date 조회할 날짜
-     * @param currentDateTimeMinus10Min 현재 시간 - 10분 (이 시간 이후 시작 상영만 조회)
-     * @return 해당 날짜의 모든 상영 스케줄 목록 (예매 가능한 상영만)
+     * @return 해당 날짜의 모든 상영 스케줄 목록
      */
-    @Query("SELECT DISTINCT s FROM Screening s " +
+    @Query("SELECT s FROM Screening s " +
             "JOIN FETCH s.movie m " +
             "JOIN FETCH s.screeningRoom sr " +
-            "LEFT JOIN FETCH s.screeningSeats ss " +
-            "WHERE s.screeningDate = :date AND s.screeningTime > :currentDateTimeMinus10Min " +
+            "WHERE s.screeningDate = :date " +
             "ORDER BY s.screeningTime ASC")
-    List<Screening> findByScreeningDateForUser(@Param("date") LocalDate date, @Param("currentDateTimeMinus10Min") java.time.LocalDateTime currentDateTimeMinus10Min);
+    List<Screening> findAllWithMovieAndRoomByScreeningDate(@Param("date") LocalDate date);
 
     /**
-     * 사용자용: 특정 영화의 특정 날짜 상영 스케줄을 조회합니다. (시간 오름차순 정렬)
-     * 상영 시작 후 10분까지는 예매 가능합니다.
-     * @param movieId 영화 ID
-     * @param date 조회할 날짜
-     * @param currentDateTimeMinus10Min 현재 시간 - 10분 (이 시간 이후 시작 상영만 조회)
-     * @return 해당 영화, 해당 날짜의 상영 스케줄 목록 (예매 가능한 상영만)
+     * 카탈로그 캐시 무효화용: 특정 영화의 상영이 있는 날짜 목록을 조회합니다.
      */
-    @Query("SELECT DISTINCT s FROM Screening s " +
-            "JOIN FETCH s.movie m " +
-            "JOIN FETCH s.screeningRoom sr " +
-            "LEFT JOIN FETCH s.screeningSeats ss " +
-            "WHERE m.id = :movieId AND s.screeningDate = :date AND s.screeningTime > :currentDateTimeMinus10Min " +
-            "ORDER BY s.screeningTime ASC")
-    List<Screening> findByMovieIdAndScreeningDateForUser(@Param("movieId") Long movieId, @Param("date") LocalDate date, @Param("currentDateTimeMinus10Min") java.time.LocalDateTime currentDateTimeMinus10Min);
+    @Query("SELECT DISTINCT s.screeningDate FROM Screening s WHERE s.movie.id = :movieId")
+    List<LocalDate> findScreeningDatesByMovieId(@Param("movieId") Long movieId);
+
+    /**
+     * 카탈로그 캐시 무효화용: 특정 상영관의 상영이 있는 날짜 목록을 조회합니다.
+     */
+    @Query("SELECT DISTINCT s.screeningDate FROM Screening s WHERE s.screeningRoom.id = :roomId")
+    List<LocalDate> findScreeningDatesByScreeningRoomId(@Param("roomId") Long roomId);
 
     /**
      * 스케줄러용: 지정된 시간 이전에 시작한 상영들을 조회합니다.
@@ -9,6 +9,7 @@ import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -26,5 +27,127 @@ public interface ScreeningSeatRepository extends JpaRepository<ScreeningSeat, Sc
     @Query("SELECT ss FROM ScreeningSeat ss WHERE ss.screening.id = :screeningId AND ss.seat.id = :seatId")
     Optional<ScreeningSeat> findByIdWithPessimisticLock(@Param("screeningId") Long screeningId, @Param("seatId") Long seatId);
 
-    List<ScreeningSeat> findAllBySeatStatusAndHoldExpiresAtBefore(SeatStatus seatStatus, LocalDateTime now);
-}
\ No newline at end of file
+    // 선점 중인 좌석의 [상영 ID, 좌석 ID, 선점 만료 시각] 조회 (서버 시작 시 선점 만료 타이머 복구에 사용)
+    @Query("SELECT ss.screening.id, ss.seat.id, ss.holdExpiresAt FROM ScreeningSeat ss " +
+            "WHERE ss.seatStatus = com.uos.picobox.domain.screening.entity.SeatStatus.HOLD")
+    List<Object[]> findHoldExpirations();
+
+    // 상영별 상태별 좌석 수 조회 [상영 ID, 좌석 상태, 좌석 수] (상영 시간표의 예매 가능 좌석 수 계산 시 사용, AVAILABLE 행은 남아 있는 이전 데이터입니다)
+    @Query("SELECT ss.screening.id, ss.seatStatus, COUNT(ss) FROM ScreeningSeat ss " +
+            "WHERE ss.screening.id IN :screeningIds GROUP BY ss.screening.id, ss.seatStatus")
+    List<Object[]> countByScreeningIdsGroupBySeatStatus(@Param("screeningIds") List<Long> screeningIds);
+
+    // 특정 상영의 선점/판매된 좌석 상태 조회 (SeatStateEngine 적재, 좌석 배치도 조회 시 사용)
+    @Query("SELECT ss FROM ScreeningSeat ss WHERE ss.screening.id = :screeningId")
+    List<ScreeningSeat> findAllByScreeningId(@Param("screeningId") Long screeningId);
+
+    /**
+     * 요청한 좌석 전체를 MERGE 한 번으로 선점합니다. 상영 좌석 행은 선점/판매된 좌석만 존재하므로,
+     * 행이 없는 좌석은 HOLD 행을 추가하고, AVAILABLE 행(이전 방식으로 만들어진 행) 또는 선점 시간이 지난 HOLD 행만 변경합니다.
+     * 상영관에 없는 좌석은 대상에서 제외됩니다. 반환값이 요청 좌석 수보다 작으면
+     * findSeatIdsHeldBy로 실제 선점된 좌석을 확인해 충돌 좌석을 계산해야 합니다.
+     * @return 선점된 좌석 수
+     */
+    @Modifying
+    @Query(value = "MERGE INTO SCREENING_SEAT ss " +
+            "USING (SELECT SEAT_ID FROM SEAT WHERE SEAT_ID IN (:seatIds) " +
+            "AND ROOM_ID = (SELECT ROOM_ID FROM SCREENING WHERE SCREENING_ID = :screeningId)) seat " +
+            "ON (ss.SCREENING_ID = :screeningId AND ss.SEAT_ID = seat.SEAT_ID) " +
+            "WHEN MATCHED THEN UPDATE SET ss.SEAT_STATUS = 'HOLD', ss.HOLD_EXPIRES_AT = :holdExpiresAt, " +
+            "ss.HOLD_CUSTOMER_ID = :holdCustomerId, ss.HOLD_GUEST_ID = :holdGuestId " +
+            "WHERE ss.SEAT_STATUS = 'AVAILABLE' OR (ss.SEAT_STATUS = 'HOLD' AND (ss.HOLD_EXPIRES_AT IS NULL OR ss.HOLD_EXPIRES_AT < :now)) " +
+            "WHEN NOT MATCHED THEN INSERT (SCREENING_ID, SEAT_ID, SEAT_STATUS, HOLD_EXPIRES_AT, HOLD_CUSTOMER_ID, HOLD_GUEST_ID) " +
+            "VALUES (:screeningId, seat.SEAT_ID, 'HOLD', :holdExpiresAt, :holdCustomerId, :holdGuestId)", nativeQuery = true)
+    int holdSeatsIfAvailable(@Param("screeningId") Long screeningId,
+                             @Param("seatIds") List<Long> seatIds,
+                             @Param("holdExpiresAt") LocalDateTime holdExpiresAt,
+                             @Param("holdCustomerId") Long holdCustomerId,
+                             @Param("holdGuestId") Long holdGuestId,
+                             @Param("now") LocalDateTime now);
+
+    // 요청한 좌석 중 해당 회원/게스트가 선점하고 있는 좌석 ID 조회 (선점 충돌 좌석 계산 시 사용)
+    @Query("SELECT ss.seat.id FROM ScreeningSeat ss " +
+            "WHERE ss.screening.id = :screeningId AND ss.seat.id IN :seatIds " +
+            "AND ss.seatStatus = com.uos.picobox.domain.screening.entity.SeatStatus.HOLD " +
+            "AND (ss.holdCustomerId = :holdCustomerId OR (:holdCustomerId IS NULL AND ss.holdGuestId = :holdGuestId))")
+    List<Long> findSeatIdsHeldBy(@Param("screeningId") Long screeningId,
+                                 @Param("seatIds") List<Long> seatIds,
+                                 @Param("holdCustomerId") Long holdCustomerId,
+                                 @Param("holdGuestId") Long holdGuestId);
+
+    // 요청한 좌석 중 해당 회원/게스트의 선점이 유효한 좌석 행을 잠금과 함께 조회 (예매 생성 시 다른 서버에서 판매/재선점되지 않았는지 확인)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT ss FROM ScreeningSeat ss " +
+            "WHERE ss.screening.id = :screeningId AND ss.seat.id IN :seatIds " +
+            "AND ss.seatStatus = com.uos.picobox.domain.screening.entity.SeatStatus.HOLD AND ss.holdExpiresAt > :now " +
+            "AND (ss.holdCustomerId = :holdCustomerId OR (:holdCustomerId IS NULL AND ss.holdGuestId = :holdGuestId))")
+    List<ScreeningSeat> findAllHeldByWithPessimisticLock(@Param("screeningId") Long screeningId,
+                                                         @Param("seatIds") List<Long> seatIds,
+                                                         @Param("holdCustomerId") Long holdCustomerId,
+                                                         @Param("holdGuestId") Long holdGuestId,
+                                                         @Param("now") LocalDateTime now);
+
+    /**
+     * 결제 완료된 좌석을 MERGE 한 번으로 SOLD 처리합니다.
+     * 선점이 만료되어 행이 삭제되었을 수 있으므로 행이 없는 좌석은 SOLD 행을 추가하고, AVAILABLE/HOLD 행은 SOLD로 변경합니다.
+     * @return SOLD 처리된 좌석 수 (요청 좌석 수보다 작으면 이미 판매된 좌석이 포함된 것입니다)
+     */
+    @Modifying
+    @Query(value = "MERGE INTO SCREENING_SEAT ss " +
+            "USING (SELECT SEAT_ID FROM SEAT WHERE SEAT_ID IN (:seatIds) " +
+            "AND ROOM_ID = (SELECT ROOM_ID FROM SCREENING WHERE SCREENING_ID = :screeningId)) seat " +
+            "ON (ss.SCREENING_ID = :screeningId AND ss.SEAT_ID = seat.SEAT_ID) " +
+            "WHEN MATCHED THEN UPDATE SET ss.SEAT_STATUS = 'SOLD', ss.HOLD_EXPIRES_AT = NULL, " +
+            "ss.HOLD_CUSTOMER_ID = NULL, ss.HOLD_GUEST_ID = NULL " +
+            "WHERE ss.SEAT_STATUS IN ('AVAILABLE', 'HOLD') " +
+            "WHEN NOT MATCHED THEN INSERT (SCREENING_ID, SEAT_ID, SEAT_STATUS) " +
+            "VALUES (:screeningId, seat.SEAT_ID, 'SOLD')", nativeQuery = true)
+    int sellSeats(@Param("screeningId") Long screeningId, @Param("seatIds") List<Long> seatIds);
+
+    /**
+     * 현재 상태가 seatStatus인 좌석 행을 삭제해 AVAILABLE로 되돌립니다. (선점 해제, 예매 취소)
+     * @return 삭제된 좌석 수
+     */
+    @Modifying
+    @Query("DELETE FROM ScreeningSeat ss " +
+            "WHERE ss.screening.id = :screeningId AND ss.seat.id IN :seatIds AND ss.seatStatus = :seatStatus")
+    int deleteBySeatStatus(@Param("screeningId") Long screeningId,
+                           @Param("seatIds") List<Long> seatIds,
+                           @Param("seatStatus") SeatStatus seatStatus);
+
+    /**
+     * 해당 회원/게스트가 선점한 좌석 행을 삭제해 AVAILABLE로 되돌립니다. (선점 해제)
+     * @return 삭제된 좌석 수
+     */
+    @Modifying
+    @Query("DELETE FROM ScreeningSeat ss " +
+            "WHERE ss.screening.id = :screeningId AND ss.seat.id IN :seatIds " +
+            "AND ss.seatStatus = com.uos.picobox.domain.screening.entity.SeatStatus.HOLD " +
+            "AND (ss.holdCustomerId = :holdCustomerId OR (:holdCustomerId IS NULL AND ss.holdGuestId = :holdGuestId))")
+    int deleteHoldsBy(@Param("screeningId") Long screeningId,
+                      @Param("seatIds") List<Long> seatIds,
+                      @Param("holdCustomerId") Long holdCustomerId,
+                      @Param("holdGuestId") Long holdGuestId);
+
+    /**
+     * 만료 시각이 지난(또는 만료 시각이 없는) 선점을 해제합니다. 다시 선점되어 만료 시각이 남아 있거나 이미 판매된 좌석은 변경되지 않습니다.
+     * @return 해제된 좌석 수
+     */
+    @Modifying
+    @Query("DELETE FROM ScreeningSeat ss " +
+            "WHERE ss.screening.id = :screeningId AND ss.seat.id IN :seatIds " +
+            "AND ss.seatStatus = com.uos.picobox.domain.screening.entity.SeatStatus.HOLD " +
+            "AND (ss.holdExpiresAt IS NULL OR ss.holdExpiresAt <= :now)")
+    int releaseExpiredHolds(@Param("screeningId") Long screeningId,
+                            @Param("seatIds") List<Long> seatIds,
+                            @Param("now") LocalDateTime now);
+
+    /**
+     * 상영 등록 시 미리 만들어 두던 AVAILABLE 행을 최대 batchSize개 삭제합니다. (행이 없는 좌석은 AVAILABLE로 간주)
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM SCREENING_SEAT WHERE SEAT_STATUS = 'AVAILABLE' AND ROWNUM <= :batchSize", nativeQuery = true)
+    int deleteAvailableRows(@Param("batchSize") int batchSize);
+}
@@ -0,0 +1,175 @@
+package com.uos.picobox.domain.screening.schedule;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.uos.picobox.domain.room.repository.ScreeningRoomRepository;
+import com.uos.picobox.domain.screening.repository.ScreeningRepository;
+import com.uos.picobox.global.utils.TransactionUtils;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 상영관별 상영 시간 구간 [시작, 종료) 인덱스입니다. 상영 회차 계산을 DB 조회 없이 처리하고, 상영 저장 시 겹침을 확인합니다.
+ * 날짜가 아닌 시각으로 비교하므로 자정을 넘기는 상영도 겹침으로 확인됩니다.
+ *
+ * 겹침 확인은 서버마다 다른 인덱스가 아니라 DB를 기준으로 합니다. 저장하는 트랜잭션이 상영관 행을 잠근 뒤 DB에서 겹치는 상영을 조회하므로
+ * 다른 서버에서 같은 상영관에 동시에 등록하는 요청도 커밋 순서대로 확인됩니다.
+ * 인덱스는 상영관을 처음 사용할 때 DB에서 한 번 적재하고 등록/수정/삭제 트랜잭션 안에서 바로 반영합니다.
+ * 트랜잭션이 롤백되면 해당 상영관을 버리고 다음 사용 시 DB에서 다시 적재하며, 다른 서버에서 변경한 스케줄은 최대 5분 뒤에 회차 계산에 반영됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ScreeningScheduleIndex {
+
+    private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HH:mm");
+    private static final int MAX_DURATION_HOURS = 24; // 겹침 확인 시 이보다 먼저 시작한 상영은 조회하지 않습니다.
+
+    private final ScreeningRepository screeningRepository;
+    private final ScreeningRoomRepository screeningRoomRepository;
+
+    private final Cache<Long, ScreeningTimeline<ScheduledScreening>> timelines = Caffeine.newBuilder()
+            .expireAfterWrite(5, TimeUnit.MINUTES)
+            .build();
+    // 인덱스는 만료/롤백 시 새 객체로 바뀌므로 잠금은 상영관 ID별로 따로 둡니다.
+    private final Cache<Long, Object> roomLocks = Caffeine.newBuilder()
+            .weakValues()
+            .build();
+
+    /**
+     * 상영 시작 시각의 회차를 계산합니다. 같은 날 그보다 먼저 시작하는 상영 수 + 1 입니다.
+     * @param excludeScreeningId 수정 중인 상영 ID (없으면 null)
+     */
+    public int sequenceOf(Long roomId, LocalDateTime screeningTime, Long excludeScreeningId) {
+        synchronized (lockOf(roomId)) {
+            ScreeningTimeline<ScheduledScreening> timeline = timeline(roomId);
+            List<ScreeningTimeline.Slot<ScheduledScreening>> earlier =
+                    timeline.findStartingBetween(screeningTime.toLocalDate().atStartOfDay(), screeningTime);
+            return (int) earlier.stream()
+                    .filter(slot -> !slot.getValue().screeningId.equals(excludeScreeningId))
+                    .count() + 1;
+        }
+    }
+
+    /**
+     * 상영관 행을 ID 순서대로 잠급니다. 잠금은 트랜잭션이 끝날 때까지 유지되므로,
+     * 잠근 뒤 조회한 DB 스케줄에는 같은 상영관에 먼저 커밋된 상영이 모두 포함되고 이후 요청은 커밋을 기다립니다.
+     * 한 트랜잭션에서 여러 상영관에 상영을 저장하는 경우 교착을 피하도록 겹침 확인 전에 한 번에 잠가야 합니다.
+     */
+    public void lockRooms(Collection<Long> roomIds) {
+        screeningRoomRepository.findAllByIdInWithPessimisticLock(roomIds);
+    }
+
+    /**
+     * 상영관을 잠근 뒤 DB에서 겹침을 확인하고 상영 시간 구간을 등록합니다.
+     * 이미 등록된 같은 상영 ID(수정 대상)는 겹침 확인에서 제외합니다.
+     * @throws IllegalArgumentException 겹치는 상영 스케줄이 있는 경우
+     */
+    public void reserve(Long roomId, Long screeningId, String movieTitle, LocalDateTime start, LocalDateTime end) {
+        lockRooms(List.of(roomId));
+        List<Object[]> candidates = screeningRepository.findScheduleByScreeningRoomIdAndScreeningTimeBetween(
+                roomId, start.minusHours(MAX_DURATION_HOURS), end);
+        for (Object[] row : candidates) {
+            Long existingId = (Long) row[0];
+            LocalDateTime existingStart = (LocalDateTime) row[1];
+            Integer duration = (Integer) row[2];
+            if (existingId.equals(screeningId) || duration == null || duration <= 0) {
+                continue;
+            }
+            LocalDateTime existingEnd = existingStart.plusMinutes(duration);
+            if (start.isBefore(existingEnd) && end.isAfter(existingStart)) {
+                throw overlapException((String) row[3], existingStart, existingEnd);
+            }
+        }
+        reserveChecked(roomId, screeningId, movieTitle, start, end);
+    }
+
+    /**
+     * lockRooms로 상영관을 잠근 뒤 DB 스케줄로 겹침을 이미 확인한 상영을 인덱스에만 등록합니다. (일괄 등록용)
+     */
+    public void reserveChecked(Long roomId, Long screeningId, String movieTitle, LocalDateTime start, LocalDateTime end) {
+        synchronized (lockOf(roomId)) {
+            ScreeningTimeline<ScheduledScreening> timeline = timeline(roomId);
+            boolean stale = timeline.findOverlaps(start, end).stream()
+                    .anyMatch(overlap -> !overlap.getValue().screeningId.equals(screeningId));
+            if (stale) {
+                // DB에는 없는 상영(다른 서버에서 삭제/변경됨)이 남아 있으므로 다음 사용 시 다시 적재합니다.
+                timelines.invalidate(roomId);
+            } else {
+                timeline.add(start, end, new ScheduledScreening(screeningId, movieTitle));
+            }
+        }
+        TransactionUtils.afterRollback(() -> timelines.invalidate(roomId));
+    }
+
+    /**
+     * 상영 시간 구간을 제거합니다.
+     * @param start 제거할 상영의 (변경 전) 시작 시각
+     */
+    public void remove(Long roomId, Long screeningId, LocalDateTime start) {
+        synchronized (lockOf(roomId)) {
+            ScreeningTimeline<ScheduledScreening> timeline = timelines.getIfPresent(roomId);
+            if (timeline != null) {
+                timeline.remove(start, screening -> screening.screeningId.equals(screeningId));
+            }
+        }
+        TransactionUtils.afterRollback(() -> timelines.invalidate(roomId));
+    }
+
+    /**
+     * 영화 상영 시간 변경 등 여러 상영관의 구간이 바뀌는 변경이 커밋된 뒤 전체를 다시 적재하도록 합니다.
+     */
+    public void invalidateAllAfterCommit() {
+        TransactionUtils.afterCommit(timelines::invalidateAll);
+    }
+
+    private static IllegalArgumentException overlapException(String movieTitle, LocalDateTime start, LocalDateTime end) {
+        return new IllegalArgumentException(
+                String.format("선택한 시간에 이미 다른 상영 스케줄이 존재합니다. (겹치는 스케줄: 영화 '%s', 시간: %s - %s)",
+                        movieTitle, start.format(TIME_FORMATTER), end.format(TIME_FORMATTER)));
+    }
+
+    private Object lockOf(Long roomId) {
+        return roomLocks.get(roomId, id -> new Object());
+    }
+
+    private ScreeningTimeline<ScheduledScreening> timeline(Long roomId) {
+        return timelines.get(roomId, this::load);
+    }
+
+    private ScreeningTimeline<ScheduledScreening> load(Long roomId) {
+        ScreeningTimeline<ScheduledScreening> timeline = new ScreeningTimeline<>();
+        for (Object[] row : screeningRepository.findScheduleByScreeningRoomId(roomId)) {
+            Long screeningId = (Long) row[0];
+            LocalDateTime start = (LocalDateTime) row[1];
+            Integer duration = (Integer) row[2];
+            if (duration == null || duration <= 0) {
+                // 회차 계산에는 포함되도록 1분 구간으로 등록합니다.
+                log.warn("상영 스케줄 ID {}의 영화 상영시간 정보가 유효하지 않아 정확한 겹침 확인이 어렵습니다.", screeningId);
+                duration = 1;
+            }
+            timeline.add(start, start.plusMinutes(duration), new ScheduledScreening(screeningId, (String) row[3]));
+        }
+        return timeline;
+    }
+
+    @Getter
+    public static class ScheduledScreening {
+        private final Long screeningId;
+        private final String movieTitle;
+
+        private ScheduledScreening(Long screeningId, String movieTitle) {
+            this.screeningId = Objects.requireNonNull(screeningId);
+            this.movieTitle = movieTitle;
+        }
+    }
+}
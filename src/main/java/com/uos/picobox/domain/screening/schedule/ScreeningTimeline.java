@@ -0,0 +1,92 @@
+package com.uos.picobox.domain.screening.schedule;
+
+import lombok.Getter;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+
+/**
+ * 한 상영관의 상영 시간 구간 인덱스입니다.
+ * 구간을 시작 시각 순으로 보관하고 가장 긴 구간 길이를 기억하므로,
+ * 겹침 조회는 [시작 - 최대 길이, 종료) 범위의 구간만 확인합니다. (기존 데이터에 겹치는 구간이 있어도 정확합니다)
+ * 스레드 안전하지 않습니다.
+ *
+ * @param <T> 구간에 연결할 값 (상영 등)
+ */
+public class ScreeningTimeline<T> {
+
+    private final NavigableMap<LocalDateTime, List<Slot<T>>> slotsByStart = new TreeMap<>();
+    private Duration maxLength = Duration.ZERO;
+
+    /**
+     * @param start 시작 시각 (포함)
+     * @param end 종료 시각 (제외)
+     */
+    public void add(LocalDateTime start, LocalDateTime end, T value) {
+        if (!end.isAfter(start)) {
+            throw new IllegalArgumentException("종료 시각은 시작 시각보다 늦어야 합니다: " + start + " ~ " + end);
+        }
+        slotsByStart.computeIfAbsent(start, key -> new ArrayList<>(1)).add(new Slot<>(start, end, value));
+        Duration length = Duration.between(start, end);
+        if (length.compareTo(maxLength) > 0) {
+            maxLength = length;
+        }
+    }
+
+    public void remove(LocalDateTime start, Predicate<T> filter) {
+        List<Slot<T>> slots = slotsByStart.get(start);
+        if (slots == null) {
+            return;
+        }
+        slots.removeIf(slot -> filter.test(slot.value));
+        if (slots.isEmpty()) {
+            slotsByStart.remove(start);
+        }
+    }
+
+    /**
+     * @return [start, end)와 겹치는 구간 목록 (시작 시각 순)
+     */
+    public List<Slot<T>> findOverlaps(LocalDateTime start, LocalDateTime end) {
+        List<Slot<T>> overlaps = new ArrayList<>();
+        for (List<Slot<T>> slots : slotsByStart.subMap(start.minus(maxLength), false, end, false).values()) {
+            for (Slot<T> slot : slots) {
+                if (slot.end.isAfter(start)) {
+                    overlaps.add(slot);
+                }
+            }
+        }
+        return overlaps;
+    }
+
+    /**
+     * @return [from, to) 사이에 시작하는 구간 목록 (시작 시각 순)
+     */
+    public List<Slot<T>> findStartingBetween(LocalDateTime from, LocalDateTime to) {
+        List<Slot<T>> result = new ArrayList<>();
+        slotsByStart.subMap(from, true, to, false).values().forEach(result::addAll);
+        return result;
+    }
+
+    public boolean isEmpty() {
+        return slotsByStart.isEmpty();
+    }
+
+    @Getter
+    public static class Slot<T> {
+        private final LocalDateTime start;
+        private final LocalDateTime end;
+        private final T value;
+
+        private Slot(LocalDateTime start, LocalDateTime end, T value) {
+            this.start = start;
+            this.end = end;
+            this.value = value;
+        }
+    }
+}
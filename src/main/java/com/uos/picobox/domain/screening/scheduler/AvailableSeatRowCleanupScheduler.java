@@ -0,0 +1,39 @@
+package com.uos.picobox.domain.screening.scheduler;
+
+import com.uos.picobox.domain.screening.repository.ScreeningSeatRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AvailableSeatRowCleanupScheduler {
+
+    private static final int BATCH_SIZE = 5_000;
+
+    private final ScreeningSeatRepository screeningSeatRepository;
+
+    /**
+     * 서버 시작 시 상영 등록 때 미리 만들어 두던 AVAILABLE 상영 좌석 행을 나누어 삭제합니다.
+     * 행이 없는 좌석은 AVAILABLE로 간주하므로 삭제해도 좌석 상태는 바뀌지 않으며, 모두 삭제된 뒤에는 조회 한 번으로 끝납니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void deleteAvailableRows() {
+        int deletedCount = 0;
+        try {
+            int deleted;
+            do {
+                deleted = screeningSeatRepository.deleteAvailableRows(BATCH_SIZE);
+                deletedCount += deleted;
+            } while (deleted == BATCH_SIZE);
+        } catch (Exception e) {
+            log.error("AVAILABLE 상영 좌석 행 정리 중 오류 발생, 다음 서버 시작 시 이어서 정리합니다.", e);
+        }
+        if (deletedCount > 0) {
+            log.info("AVAILABLE 상영 좌석 행 {}개를 정리했습니다.", deletedCount);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.uos.picobox.domain.screening.scheduler;
+
+import com.uos.picobox.domain.screening.engine.SeatStateEngine;
+import com.uos.picobox.domain.screening.engine.SeatStateWriter;
+import com.uos.picobox.domain.screening.repository.ScreeningSeatRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SeatHoldExpiryScheduler {
+
+    private final SeatStateEngine seatStateEngine;
+    private final SeatStateWriter seatStateWriter;
+    private final ScreeningSeatRepository screeningSeatRepository;
+
+    /**
+     * 서버 시작 시 DB에 남아 있는 선점의 만료 시각을 다시 등록합니다.
+     * 이미 만료된 선점과 만료 시각이 없는 선점은 첫 주기에 해제됩니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void restoreHoldTimers() {
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> holdExpirations = screeningSeatRepository.findHoldExpirations();
+        for (Object[] holdExpiration : holdExpirations) {
+            LocalDateTime expiresAt = (LocalDateTime) holdExpiration[2];
+            seatStateEngine.scheduleExpiry((Long) holdExpiration[0], List.of((Long) holdExpiration[1]),
+                    expiresAt != null ? expiresAt : now);
+        }
+        log.info("좌석 선점 만료 타이머 {}건을 복구했습니다.", holdExpirations.size());
+    }
+
+    /**
+     * 1초마다 만료 시각이 된 좌석 선점만 골라 해제합니다.
+     */
+    @Scheduled(fixedDelay = 1000)
+    public void releaseExpiredHolds() {
+        Map<Long, List<Long>> dueSeatIds = seatStateEngine.expireDueHolds();
+        if (dueSeatIds.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            int releasedCount = seatStateWriter.releaseExpiredHolds(dueSeatIds, now);
+            log.info("만료된 좌석 선점 {}개를 해제했습니다.", releasedCount);
+        } catch (Exception e) {
+            log.error("만료된 좌석 선점 해제 중 오류 발생, 다음 주기에 재시도합니다.", e);
+            dueSeatIds.forEach((screeningId, seatIds) -> seatStateEngine.scheduleExpiry(screeningId, seatIds, now));
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.uos.picobox.domain.screening.scheduler;
+
+import com.uos.picobox.domain.screening.engine.SeatStateEngine;
+import com.uos.picobox.domain.screening.service.SeatMapStreamService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SeatMapStreamRefreshScheduler {
+
+    private final SeatStateEngine seatStateEngine;
+    private final SeatMapStreamService seatMapStreamService;
+
+    /**
+     * 5초마다 구독자가 있는 상영의 좌석 상태를 DB와 다시 맞춰, 다른 서버에서 바뀐 좌석을 구독자에게 전달합니다.
+     */
+    @Scheduled(fixedDelay = 5000) // 5초마다 실행
+    public void refreshSubscribedScreenings() {
+        for (Long screeningId : seatMapStreamService.findSubscribedScreeningIds()) {
+            try {
+                seatStateEngine.refresh(screeningId);
+            } catch (Exception e) {
+                log.error("좌석 배치도 동기화 중 오류 발생: screeningId={}, 다음 주기에 재시도합니다.", screeningId, e);
+            }
+        }
+    }
+}
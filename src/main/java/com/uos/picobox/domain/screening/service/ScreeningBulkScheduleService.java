@@ -0,0 +1,227 @@
+package com.uos.picobox.domain.screening.service;
+
+import com.uos.picobox.domain.movie.entity.Movie;
+import com.uos.picobox.domain.movie.repository.MovieRepository;
+import com.uos.picobox.domain.room.entity.ScreeningRoom;
+import com.uos.picobox.domain.room.repository.ScreeningRoomRepository;
+import com.uos.picobox.domain.screening.dto.BulkScreeningRequestDto;
+import com.uos.picobox.domain.screening.dto.BulkScreeningResponseDto;
+import com.uos.picobox.domain.screening.dto.ScreeningResponseDto;
+import com.uos.picobox.domain.screening.entity.Screening;
+import com.uos.picobox.domain.screening.repository.ScreeningRepository;
+import com.uos.picobox.domain.screening.schedule.ScreeningScheduleIndex;
+import com.uos.picobox.domain.screening.schedule.ScreeningTimeline;
+import com.uos.picobox.global.cache.CatalogueChangedEvent;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 영화/상영관/기간/정리 시간 템플릿으로 여러 날의 상영 스케줄을 한 번에 만듭니다.
+ *
+ * 기간 내 기존 스케줄을 한 번에 조회해 상영관별 ScreeningTimeline에 넣고, 시간표 전체를 메모리에서 계산합니다.
+ * 기존 스케줄과 겹치는 시간은 건너뛰며, 저장은 한 트랜잭션에서 상영만 배치 INSERT로 처리합니다. (상영 좌석 행은 선점/판매 시점에 생성)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ScreeningBulkScheduleService {
+
+    private static final int MAX_DAYS = 31;
+    private static final int START_TIME_UNIT_MINUTES = 5;
+
+    private final ScreeningRepository screeningRepository;
+    private final MovieRepository movieRepository;
+    private final ScreeningRoomRepository screeningRoomRepository;
+    private final ScreeningScheduleIndex screeningScheduleIndex;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional
+    public BulkScreeningResponseDto registerScreenings(BulkScreeningRequestDto requestDto) {
+        LocalDate startDate = requestDto.getStartDate();
+        LocalDate endDate = requestDto.getEndDate();
+        if (endDate.isBefore(startDate)) {
+            throw new IllegalArgumentException("종료 날짜는 시작 날짜보다 빠를 수 없습니다.");
+        }
+        if (ChronoUnit.DAYS.between(startDate, endDate) >= MAX_DAYS) {
+            throw new IllegalArgumentException("한 번에 최대 " + MAX_DAYS + "일까지 등록할 수 있습니다.");
+        }
+        if (requestDto.getLastStartTime().isBefore(requestDto.getFirstStartTime())) {
+            throw new IllegalArgumentException("마지막 상영 시작 시간은 첫 상영 시작 시간보다 빠를 수 없습니다.");
+        }
+
+        List<Long> movieIds = requestDto.getMovieIds().stream().distinct().toList();
+        List<Long> roomIds = requestDto.getRoomIds().stream().distinct().toList();
+        Map<Long, Movie> movies = findMovies(movieIds);
+        Map<Long, ScreeningRoom> rooms = findRooms(roomIds);
+        if (!requestDto.isDryRun()) {
+            // 다른 서버의 등록과 겹치지 않도록 기존 상영을 조회하기 전에 상영관을 잠가 둡니다. (커밋 시까지 유지)
+            screeningScheduleIndex.lockRooms(roomIds);
+        }
+
+        // 전날 늦게 시작한 상영이 시작 날짜로 넘어오는 경우와, 종료 날짜의 심야 상영이 다음 날 이른 상영과 겹치는 경우까지 겹침 확인에 포함합니다.
+        Map<Long, ScreeningTimeline<Screening>> timelines = new HashMap<>();
+        Map<Long, Map<LocalDate, List<Screening>>> existingByRoomAndDate = new HashMap<>();
+        for (Long roomId : roomIds) {
+            timelines.put(roomId, new ScreeningTimeline<>());
+            existingByRoomAndDate.put(roomId, new HashMap<>());
+        }
+        for (Screening existing : screeningRepository.findAllWithMovieByRoomIdInAndScreeningDateBetween(roomIds, startDate.minusDays(1), endDate.plusDays(1))) {
+            Long roomId = existing.getScreeningRoom().getId();
+            existingByRoomAndDate.get(roomId).computeIfAbsent(existing.getScreeningDate(), date -> new ArrayList<>()).add(existing);
+            Integer duration = existing.getMovie().getDuration();
+            if (duration == null || duration <= 0) {
+                log.warn("기존 상영 스케줄 ID {}의 영화 또는 상영시간 정보가 유효하지 않아 정확한 겹침 확인이 어렵습니다.", existing.getId());
+                continue;
+            }
+            timelines.get(roomId).add(existing.getScreeningTime(), existing.getScreeningTime().plusMinutes(duration), existing);
+        }
+
+        List<Screening> createdScreenings = new ArrayList<>();
+        for (int roomIndex = 0; roomIndex < roomIds.size(); roomIndex++) {
+            Long roomId = roomIds.get(roomIndex);
+            List<Screening> roomScreenings = planRoom(requestDto, rooms.get(roomId), timelines.get(roomId),
+                    movieIds.stream().map(movies::get).toList(), roomIndex);
+            assignSequences(roomScreenings, existingByRoomAndDate.get(roomId), requestDto.isDryRun());
+            createdScreenings.addAll(roomScreenings);
+        }
+
+        if (!requestDto.isDryRun()) {
+            screeningRepository.saveAll(createdScreenings);
+            // 잠근 뒤 조회한 DB 스케줄로 겹침을 확인했으므로 인덱스에만 반영합니다.
+            for (Screening screening : createdScreenings) {
+                screeningScheduleIndex.reserveChecked(screening.getScreeningRoom().getId(), screening.getId(), screening.getMovie().getTitle(),
+                        screening.getScreeningTime(), screening.getScreeningTime().plusMinutes(screening.getMovie().getDuration()));
+            }
+            eventPublisher.publishEvent(CatalogueChangedEvent.builder()
+                    .target(CatalogueChangedEvent.Target.SCREENING)
+                    .screeningDates(createdScreenings.stream().map(Screening::getScreeningDate).distinct().toList())
+                    .build());
+            log.info("상영 스케줄 {}건을 일괄 등록했습니다: 상영관 {}, 기간 {} ~ {}", createdScreenings.size(), roomIds, startDate, endDate);
+        }
+        List<ScreeningResponseDto> screenings = createdScreenings.stream()
+                .map(ScreeningResponseDto::new)
+                .toList();
+        return new BulkScreeningResponseDto(!requestDto.isDryRun(), screenings);
+    }
+
+    /**
+     * 한 상영관의 기간 내 시간표를 계산합니다.
+     * 영화는 상영관마다 다른 순서에서 시작해 돌아가며 배정하고, 앞뒤 정리 시간을 포함해 기존 상영과 겹치면 그 상영이 끝난 뒤로 미룹니다.
+     */
+    private List<Screening> planRoom(BulkScreeningRequestDto requestDto, ScreeningRoom room, ScreeningTimeline<Screening> timeline,
+                                     List<Movie> movies, int roomIndex) {
+        int turnaroundMinutes = requestDto.getTurnaroundMinutes();
+        List<Screening> screenings = new ArrayList<>();
+        int movieIndex = roomIndex;
+        for (LocalDate date = requestDto.getStartDate(); !date.isAfter(requestDto.getEndDate()); date = date.plusDays(1)) {
+            LocalDateTime startTime = date.atTime(requestDto.getFirstStartTime());
+            LocalDateTime lastStartTime = date.atTime(requestDto.getLastStartTime());
+            while (!startTime.isAfter(lastStartTime)) {
+                Movie movie = movies.get(movieIndex % movies.size());
+                LocalDateTime endTime = startTime.plusMinutes(movie.getDuration());
+
+                List<ScreeningTimeline.Slot<Screening>> overlaps = timeline.findOverlaps(
+                        startTime.minusMinutes(turnaroundMinutes), endTime.plusMinutes(turnaroundMinutes));
+                if (!overlaps.isEmpty()) {
+                    LocalDateTime latestEnd = overlaps.stream()
+                            .map(ScreeningTimeline.Slot::getEnd)
+                            .max(Comparator.naturalOrder())
+                            .get();
+                    startTime = roundUpStartTime(latestEnd.plusMinutes(turnaroundMinutes));
+                    continue;
+                }
+
+                Screening screening = Screening.builder()
+                        .movie(movie)
+                        .screeningRoom(room)
+                        .screeningTime(startTime)
+                        .screeningDate(startTime.toLocalDate())
+                        .screeningSequence(0)
+                        .build();
+                timeline.add(startTime, endTime, screening);
+                screenings.add(screening);
+
+                movieIndex++;
+                startTime = roundUpStartTime(endTime.plusMinutes(turnaroundMinutes));
+            }
+        }
+        return screenings;
+    }
+
+    /**
+     * 새 상영이 들어간 날짜의 회차를 시간 순으로 다시 매깁니다. 기존 상영의 회차는 실제 등록할 때만 변경합니다.
+     */
+    private void assignSequences(List<Screening> roomScreenings, Map<LocalDate, List<Screening>> existingByDate, boolean dryRun) {
+        Map<LocalDate, List<Screening>> byDate = roomScreenings.stream()
+                .collect(Collectors.groupingBy(Screening::getScreeningDate, LinkedHashMap::new, Collectors.toList()));
+        for (Map.Entry<LocalDate, List<Screening>> entry : byDate.entrySet()) {
+            List<Screening> screeningsOfDay = new ArrayList<>(entry.getValue());
+            List<Screening> existingOfDay = existingByDate.getOrDefault(entry.getKey(), List.of());
+            screeningsOfDay.addAll(existingOfDay);
+            screeningsOfDay.sort(Comparator.comparing(Screening::getScreeningTime));
+            for (int i = 0; i < screeningsOfDay.size(); i++) {
+                Screening screening = screeningsOfDay.get(i);
+                if (dryRun && existingOfDay.contains(screening)) {
+                    continue;
+                }
+                screening.updateScreeningSequence(i + 1);
+            }
+        }
+    }
+
+    private Map<Long, Movie> findMovies(List<Long> movieIds) {
+        Map<Long, Movie> movies = movieRepository.findAllById(movieIds).stream()
+                .collect(Collectors.toMap(Movie::getId, Function.identity()));
+        for (Long movieId : movieIds) {
+            Movie movie = movies.get(movieId);
+            if (movie == null) {
+                throw new EntityNotFoundException("영화를 찾을 수 없습니다: ID " + movieId);
+            }
+            if (movie.getDuration() == null || movie.getDuration() <= 0) {
+                throw new IllegalArgumentException("영화의 상영 시간(duration) 정보가 유효하지 않습니다: ID " + movieId);
+            }
+        }
+        return movies;
+    }
+
+    private Map<Long, ScreeningRoom> findRooms(List<Long> roomIds) {
+        Map<Long, ScreeningRoom> rooms = screeningRoomRepository.findAllWithSeatsByIdIn(roomIds).stream()
+                .collect(Collectors.toMap(ScreeningRoom::getId, Function.identity(), (first, second) -> first));
+        for (Long roomId : roomIds) {
+            ScreeningRoom room = rooms.get(roomId);
+            if (room == null) {
+                throw new EntityNotFoundException("상영관을 찾을 수 없습니다: ID " + roomId);
+            }
+            if (room.getSeats().isEmpty()) {
+                throw new IllegalStateException("상영관에 좌석이 설정되어 있지 않아 스케줄을 등록할 수 없습니다. (Room ID: " + roomId + ")");
+            }
+        }
+        return rooms;
+    }
+
+    private static LocalDateTime roundUpStartTime(LocalDateTime time) {
+        LocalDateTime truncated = time.truncatedTo(ChronoUnit.MINUTES);
+        if (truncated.isBefore(time)) {
+            truncated = truncated.plusMinutes(1);
+        }
+        int remainder = truncated.getMinute() % START_TIME_UNIT_MINUTES;
+        return remainder == 0 ? truncated : truncated.plusMinutes(START_TIME_UNIT_MINUTES - remainder);
+    }
+}
@@ -3,22 +3,31 @@ package com.uos.picobox.domain.screening.service;
 import com.uos.picobox.domain.movie.entity.Movie;
 import com.uos.picobox.domain.movie.repository.MovieRepository;
 import com.uos.picobox.domain.room.entity.ScreeningRoom;
-import com.uos.picobox.domain.room.entity.Seat;
 import com.uos.picobox.domain.room.repository.ScreeningRoomRepository;
+import com.uos.picobox.domain.room.repository.SeatRepository;
 import com.uos.picobox.domain.screening.dto.*;
+import com.uos.picobox.domain.screening.engine.SeatCounts;
+import com.uos.picobox.domain.screening.engine.SeatStateEngine;
 import com.uos.picobox.domain.screening.entity.Screening;
 import com.uos.picobox.domain.screening.entity.ScreeningSeat;
 import com.uos.picobox.domain.screening.entity.SeatStatus;
 import com.uos.picobox.domain.screening.repository.ScreeningRepository;
 import com.uos.picobox.domain.screening.repository.ScreeningSeatRepository;
+import com.uos.picobox.domain.screening.schedule.ScreeningScheduleIndex;
 import com.uos.picobox.domain.reservation.repository.ReservationRepository;
-import com.uos.picobox.domain.price.entity.RoomTicketTypePrice;
-import com.uos.picobox.domain.price.repository.RoomTicketTypePriceRepository;
+import com.uos.picobox.domain.price.engine.PricingEngine;
+import com.uos.picobox.domain.price.engine.TicketQuote;
 import com.uos.picobox.domain.ticket.entity.TicketType;
 import com.uos.picobox.domain.ticket.repository.TicketTypeRepository;
+import com.uos.picobox.global.cache.CatalogueCaches;
+import com.uos.picobox.global.cache.CatalogueChangedEvent;
+import com.uos.picobox.global.utils.SeatNumberUtils;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -26,7 +35,11 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -38,10 +51,16 @@ public class ScreeningService {
     private final ScreeningRepository screeningRepository;
     private final MovieRepository movieRepository;
     private final ScreeningRoomRepository screeningRoomRepository;
+    private final SeatRepository seatRepository;
     private final ScreeningSeatRepository screeningSeatRepository;
     private final ReservationRepository reservationRepository;
-    private final RoomTicketTypePriceRepository roomTicketTypePriceRepository;
+    private final PricingEngine pricingEngine;
     private final TicketTypeRepository ticketTypeRepository;
+    private final SeatStateEngine seatStateEngine;
+    private final SeatCountService seatCountService;
+    private final ScreeningScheduleIndex screeningScheduleIndex;
+    private final CacheManager cacheManager;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public ScreeningResponseDto registerScreening(ScreeningRequestDto requestDto) {
@@ -58,9 +77,9 @@ public class ScreeningService {
         LocalDate screeningDate = screeningStartTime.toLocalDate();
         LocalDateTime screeningEndTime = screeningStartTime.plusMinutes(movie.getDuration());
 
-        validateNoOverlap(screeningRoom.getId(), screeningStartTime, screeningEndTime, null, screeningDate);
-
-        int nextSequence = calculateNextScreeningSequence(screeningRoom.getId(), screeningDate, screeningStartTime);
+        // 같은 상영관에 동시에 등록되는 상영이 같은 회차를 받지 않도록, 상영관을 잠근 뒤 회차를 계산합니다. (reserve도 같은 잠금을 사용합니다)
+        screeningScheduleIndex.lockRooms(List.of(screeningRoom.getId()));
+        int nextSequence = screeningScheduleIndex.sequenceOf(screeningRoom.getId(), screeningStartTime, null);
 
         Screening screening = Screening.builder()
                 .movie(movie)
@@ -70,60 +89,22 @@ public class ScreeningService {
                 .screeningSequence(nextSequence)
                 .build();
 
-        List<ScreeningSeat> screeningSeats = createScreeningSeatsForScreening(screening, screeningRoom.getSeats());
-        screening.replaceScreeningSeats(screeningSeats);
+        // 상영 좌석 행은 선점/판매 시점에 만들어지므로 등록 시에는 상영관 좌석 존재 여부만 확인합니다.
+        validateRoomHasSeats(screeningRoom);
 
         Screening savedScreening = screeningRepository.save(screening);
+        // 겹치는 상영이 있으면 예외가 발생하고 트랜잭션이 롤백됩니다. (ID는 save 시점에 시퀀스에서 할당됩니다)
+        screeningScheduleIndex.reserve(screeningRoom.getId(), savedScreening.getId(), movie.getTitle(), screeningStartTime, screeningEndTime);
+        publishScheduleChanged(List.of(screeningDate));
         log.info("새로운 상영 스케줄이 등록되었습니다: ID {}, 영화: {}, 상영관: {}, 시간: {}, 회차: {}",
                 savedScreening.getId(), movie.getTitle(), screeningRoom.getRoomName(), screeningStartTime, nextSequence);
         return new ScreeningResponseDto(savedScreening);
     }
 
-    private List<ScreeningSeat> createScreeningSeatsForScreening(Screening screening, List<Seat> roomSeats) {
-        if (roomSeats == null || roomSeats.isEmpty()) {
-            log.warn("상영관 ID {}에 좌석 정보가 없습니다. 상영 좌석을 생성할 수 없습니다.", screening.getScreeningRoom().getId());
-            throw new IllegalStateException("상영관에 좌석이 설정되어 있지 않아 스케줄을 등록할 수 없습니다. (Room ID: " + screening.getScreeningRoom().getId() + ")");
-        }
-        return roomSeats.stream()
-                .map(seat -> ScreeningSeat.builder()
-                        .seat(seat)
-                        .seatStatus(SeatStatus.AVAILABLE)
-                        .build())
-                .collect(Collectors.toList());
-    }
-
-    private int calculateNextScreeningSequence(Long roomId, LocalDate screeningDate, LocalDateTime newScreeningTime) {
-        List<Screening> screeningsOnDate = screeningRepository.findByScreeningRoomIdAndScreeningDateOrderByScreeningTimeAsc(roomId, screeningDate);
-        List<LocalDateTime> allTimes = new ArrayList<>();
-        for (Screening s : screeningsOnDate) {
-            allTimes.add(s.getScreeningTime());
-        }
-        allTimes.add(newScreeningTime);
-        allTimes.sort(Comparator.naturalOrder());
-        return allTimes.indexOf(newScreeningTime) + 1;
-    }
-
-    private void validateNoOverlap(Long roomId, LocalDateTime newStartTime, LocalDateTime newEndTime, Long screeningIdToExclude, LocalDate targetDate) {
-        List<Screening> existingScreenings = screeningRepository.findByScreeningRoomIdAndScreeningDateOrderByScreeningTimeAsc(roomId, targetDate);
-        for (Screening existing : existingScreenings) {
-            if (existing.getId().equals(screeningIdToExclude)) {
-                continue;
-            }
-            if (existing.getMovie() == null || existing.getMovie().getDuration() == null || existing.getMovie().getDuration() <= 0) {
-                log.warn("기존 상영 스케줄 ID {}의 영화 또는 상영시간 정보가 유효하지 않아 정확한 겹침 확인이 어렵습니다.", existing.getId());
-                continue;
-            }
-            LocalDateTime existingStartTime = existing.getScreeningTime();
-            LocalDateTime existingEndTime = existingStartTime.plusMinutes(existing.getMovie().getDuration());
-
-            if (newStartTime.isBefore(existingEndTime) && newEndTime.isAfter(existingStartTime)) {
-                throw new IllegalArgumentException(
-                        String.format("선택한 시간에 이미 다른 상영 스케줄이 존재합니다. (겹치는 스케줄: 영화 '%s', 시간: %s - %s)",
-                                existing.getMovie().getTitle(),
-                                existingStartTime.format(java.time.format.DateTimeFormatter.ofPattern("HH:mm")),
-                                existingEndTime.format(java.time.format.DateTimeFormatter.ofPattern("HH:mm")))
-                );
-            }
+    private void validateRoomHasSeats(ScreeningRoom screeningRoom) {
+        if (!seatRepository.existsByScreeningRoomId(screeningRoom.getId())) {
+            log.warn("상영관 ID {}에 좌석 정보가 없습니다. 상영 스케줄을 등록할 수 없습니다.", screeningRoom.getId());
+            throw new IllegalStateException("상영관에 좌석이 설정되어 있지 않아 스케줄을 등록할 수 없습니다. (Room ID: " + screeningRoom.getId() + ")");
         }
     }
 
@@ -136,7 +117,6 @@ public class ScreeningService {
         boolean hasReservations = reservationRepository.existsByScreeningId(screeningId);
 
         LocalDateTime newScreeningStartTime = requestDto.getScreeningTime();
-        LocalDate newScreeningDate = newScreeningStartTime.toLocalDate();
 
         boolean timeChanged = !screening.getScreeningTime().equals(newScreeningStartTime);
         boolean movieChanged = !screening.getMovie().getId().equals(requestDto.getMovieId());
@@ -155,42 +135,36 @@ public class ScreeningService {
             throw new IllegalArgumentException("새로 선택한 영화의 상영 시간 정보가 유효하지 않습니다.");
         }
 
+        if (roomChanged) {
+            validateRoomHasSeats(newScreeningRoom);
+        }
+
         LocalDateTime newScreeningEndTime = newScreeningStartTime.plusMinutes(newMovie.getDuration());
+        LocalDate previousScreeningDate = screening.getScreeningDate();
 
-        validateNoOverlap(newScreeningRoom.getId(), newScreeningStartTime, newScreeningEndTime, screeningId, newScreeningDate);
+        screeningScheduleIndex.remove(screening.getScreeningRoom().getId(), screeningId, screening.getScreeningTime());
+        screeningScheduleIndex.reserve(newScreeningRoom.getId(), screeningId, newMovie.getTitle(), newScreeningStartTime, newScreeningEndTime);
 
         screening.setMovie(newMovie);
         screening.setScreeningRoom(newScreeningRoom);
         screening.updateScreeningTimeAndDate(newScreeningStartTime);
 
-        int newSequence = calculateNextScreeningSequenceForUpdate(newScreeningRoom.getId(), newScreeningDate, newScreeningStartTime, screeningId);
+        int newSequence = screeningScheduleIndex.sequenceOf(newScreeningRoom.getId(), newScreeningStartTime, screeningId);
         screening.updateScreeningSequence(newSequence);
 
-        if (!screening.getScreeningRoom().getId().equals(newScreeningRoom.getId()) || screening.getScreeningSeats().isEmpty()) {
-            log.info("상영관 변경 또는 기존 좌석 정보 없음. 상영 ID {}의 좌석 정보를 재생성합니다.", screeningId);
+        if (roomChanged) {
+            // 이전 상영관 좌석의 선점 정보는 새 상영관에서 의미가 없으므로 삭제합니다. (새 상영관 좌석은 모두 AVAILABLE)
+            log.info("상영관 변경. 상영 ID {}의 좌석 상태를 초기화합니다.", screeningId);
             screeningSeatRepository.deleteAllByScreeningId(screening.getId());
-            screening.clearScreeningSeats();
-            List<ScreeningSeat> newScreeningSeats = createScreeningSeatsForScreening(screening, newScreeningRoom.getSeats());
-            screening.replaceScreeningSeats(newScreeningSeats);
         }
 
         Screening updatedScreening = screeningRepository.save(screening);
+        seatStateEngine.invalidate(screeningId);
+        publishScheduleChanged(List.of(previousScreeningDate, updatedScreening.getScreeningDate()));
         log.info("상영 스케줄이 수정되었습니다: ID {}", screeningId);
         return new ScreeningResponseDto(updatedScreening);
     }
 
-    private int calculateNextScreeningSequenceForUpdate(Long roomId, LocalDate screeningDate, LocalDateTime newScreeningTime, Long excludeScreeningId) {
-        List<Screening> screeningsOnDate = screeningRepository.findByScreeningRoomIdAndScreeningDateOrderByScreeningTimeAsc(roomId, screeningDate);
-        List<LocalDateTime> allTimes = new ArrayList<>();
-        for (Screening s : screeningsOnDate) {
-            if (s.getId().equals(excludeScreeningId)) continue;
-            allTimes.add(s.getScreeningTime());
-        }
-        allTimes.add(newScreeningTime);
-        allTimes.sort(Comparator.naturalOrder());
-        return allTimes.indexOf(newScreeningTime) + 1;
-    }
-
     public List<ScreeningResponseDto> findAllScreenings() {
         return screeningRepository.findAllWithMovieAndRoom().stream()
                 .map(ScreeningResponseDto::new)
@@ -213,9 +187,19 @@ public class ScreeningService {
             throw new IllegalStateException("이미 예매가 진행된 상영 스케줄은 삭제할 수 없습니다. (Screening ID: " + screeningId + ")");
         }
         screeningRepository.delete(screening);
+        screeningScheduleIndex.remove(screening.getScreeningRoom().getId(), screeningId, screening.getScreeningTime());
+        seatStateEngine.invalidate(screeningId);
+        publishScheduleChanged(List.of(screening.getScreeningDate()));
         log.info("상영 스케줄이 삭제되었습니다: ID {}", screeningId);
     }
 
+    private void publishScheduleChanged(List<LocalDate> screeningDates) {
+        eventPublisher.publishEvent(CatalogueChangedEvent.builder()
+                .target(CatalogueChangedEvent.Target.SCREENING)
+                .screeningDates(screeningDates)
+                .build());
+    }
+
     // --- 사용자용 API 메소드 ---
 
     /**
@@ -226,10 +210,9 @@ public class ScreeningService {
      */
     public List<ScreeningScheduleResponseDto> getScreeningSchedulesByDate(LocalDate date) {
         LocalDateTime currentDateTimeMinus10Min = LocalDateTime.now().minusMinutes(10);
-        List<Screening> screenings = screeningRepository.findByScreeningDateForUser(date, currentDateTimeMinus10Min);
-        return screenings.stream()
-                .map(ScreeningScheduleResponseDto::new)
-                .collect(Collectors.toList());
+        return withSeatCounts(findSchedulesOfDate(date).stream()
+                .filter(schedule -> schedule.getScreeningStartTime().isAfter(currentDateTimeMinus10Min))
+                .toList());
     }
 
     /**
@@ -241,9 +224,27 @@ public class ScreeningService {
      */
     public List<ScreeningScheduleResponseDto> getScreeningSchedulesByMovieAndDate(Long movieId, LocalDate date) {
         LocalDateTime currentDateTimeMinus10Min = LocalDateTime.now().minusMinutes(10);
-        List<Screening> screenings = screeningRepository.findByMovieIdAndScreeningDateForUser(movieId, date, currentDateTimeMinus10Min);
-        return screenings.stream()
+        return withSeatCounts(findSchedulesOfDate(date).stream()
+                .filter(schedule -> movieId.equals(schedule.getMovieId()))
+                .filter(schedule -> schedule.getScreeningStartTime().isAfter(currentDateTimeMinus10Min))
+                .toList());
+    }
+
+    // 날짜별 스케줄은 카탈로그 캐시에서 가져오고(관리자 수정 시 무효화), 자주 바뀌는 예매 가능 좌석 수만 매번 채웁니다.
+    private List<ScreeningScheduleResponseDto> findSchedulesOfDate(LocalDate date) {
+        Cache cache = Objects.requireNonNull(cacheManager.getCache(CatalogueCaches.SCREENING_SCHEDULE));
+        return cache.get(date, () -> screeningRepository.findAllWithMovieAndRoomByScreeningDate(date).stream()
                 .map(ScreeningScheduleResponseDto::new)
+                .toList());
+    }
+
+    // 좌석 행을 조회하지 않고 상영별 좌석 수만 모아서 예매 가능 좌석 수를 채웁니다.
+    private List<ScreeningScheduleResponseDto> withSeatCounts(List<ScreeningScheduleResponseDto> schedules) {
+        Map<Long, SeatCounts> seatCounts = seatCountService.getSeatCounts(
+                schedules.stream().map(ScreeningScheduleResponseDto::getScreeningId).toList());
+        return schedules.stream()
+                .map(schedule -> schedule.withSeatCounts(
+                        seatCounts.getOrDefault(schedule.getScreeningId(), SeatCounts.EMPTY)))
                 .collect(Collectors.toList());
     }
 
@@ -253,44 +254,80 @@ public class ScreeningService {
      * @return 좌석 배치 및 상태 정보
      */
     public ScreeningSeatsResponseDto getSeatsForScreening(Long screeningId) {
-        // findByIdWithDetails를 사용하면 상영 정보와 좌석 정보가 모두 fetch join 되어 쿼리 효율이 좋습니다.
         Screening screening = screeningRepository.findByIdWithDetails(screeningId)
                 .orElseThrow(() -> new EntityNotFoundException("해당 ID의 상영 스케줄을 찾을 수 없습니다: " + screeningId));
 
-        List<ScreeningSeatStatusDto> seatDtos = screening.getScreeningSeats().stream()
-                .map(ScreeningSeatStatusDto::fromEntity)
-                // 좌석 번호 순으로 정렬 (예: A1, A2, B1, B2...)
-                .sorted(Comparator.comparing(ScreeningSeatStatusDto::getSeatNumber))
+        Map<Long, SeatStatus> seatStatuses = findSeatStatuses(screeningId, screening::getScreeningSeats);
+        List<ScreeningSeatStatusDto> seatDtos = seatRepository.findIdAndSeatNumberByScreeningRoomId(screening.getScreeningRoom().getId()).stream()
+                .map(seat -> ScreeningSeatStatusDto.of((Long) seat[0], (String) seat[1],
+                        seatStatuses.getOrDefault((Long) seat[0], SeatStatus.AVAILABLE)))
+                // 행 → 열 순으로 정렬 (예: A1, A2, ..., A10, B1...)
+                .sorted(Comparator.comparing(ScreeningSeatStatusDto::getSeatNumber, SeatNumberUtils.NATURAL_ORDER))
                 .collect(Collectors.toList());
 
         return ScreeningSeatsResponseDto.toDto(screening, seatDtos);
     }
 
+    /**
+     * 특정 상영의 좌석 상태를 압축 형식(행 배치 정보 + 좌석당 2비트 상태)으로 조회합니다. (사용자용)
+     * @param screeningId 상영 ID
+     * @return 압축된 좌석 배치도
+     */
+    public CompactSeatMapResponseDto getCompactSeatsForScreening(Long screeningId) {
+        Object[] screening = screeningRepository.findRoomIdAndScreeningTimeByIdIn(List.of(screeningId)).stream()
+                .findFirst()
+                .orElseThrow(() -> new EntityNotFoundException("해당 ID의 상영 스케줄을 찾을 수 없습니다: " + screeningId));
+
+        Map<Long, SeatStatus> seatStatuses = findSeatStatuses(screeningId, () -> screeningSeatRepository.findAllByScreeningId(screeningId));
+        List<Object[]> seats = new ArrayList<>(seatRepository.findIdAndSeatNumberByScreeningRoomId((Long) screening[1]));
+        seats.sort(Comparator.comparing(seat -> (String) seat[1], SeatNumberUtils.NATURAL_ORDER));
+        return CompactSeatMapResponseDto.of(screeningId, seats, seatStatuses);
+    }
+
+    /**
+     * 선점/판매/해제는 DB에 먼저 반영한 뒤 메모리 상태에 옮기고, 메모리 상태는 적재한 지 5초가 지나면 DB에서 다시 읽으므로
+     * 적재된 상영은 DB 조회 없이 메모리 상태를 사용합니다.
+     * 적재되지 않은 상영은 DB에 저장된 선점/판매 좌석만 읽습니다. (결과에 없는 좌석은 AVAILABLE)
+     */
+    private Map<Long, SeatStatus> findSeatStatuses(Long screeningId, Supplier<List<ScreeningSeat>> storedSeats) {
+        Map<Long, SeatStatus> statuses = seatStateEngine.findLoadedStatuses(screeningId);
+        if (!statuses.isEmpty()) {
+            return statuses;
+        }
+        Map<Long, SeatStatus> storedStatuses = new HashMap<>();
+        for (ScreeningSeat screeningSeat : storedSeats.get()) {
+            storedStatuses.put(screeningSeat.getSeat().getId(), screeningSeat.getSeatStatus());
+        }
+        return storedStatuses;
+    }
+
     /**
      * 특정 상영의 티켓 유형별 가격 정보를 조회합니다.
      * @param screeningId 상영 ID
      * @return 티켓 유형별 가격 정보
      */
     public ScreeningTicketPricesResponseDto getTicketPricesForScreening(Long screeningId) {
-        Screening screening = screeningRepository.findByIdWithDetails(screeningId)
+        Object[] screening = screeningRepository.findRoomIdAndScreeningTimeByIdIn(List.of(screeningId)).stream()
+                .findFirst()
                 .orElseThrow(() -> new EntityNotFoundException("해당 ID의 상영 스케줄을 찾을 수 없습니다: " + screeningId));
+        Long roomId = (Long) screening[1];
+        LocalDateTime screeningTime = (LocalDateTime) screening[2];
 
-        // 해당 상영관의 모든 티켓 유형 가격 조회
-        List<RoomTicketTypePrice> roomPrices = roomTicketTypePriceRepository.findByScreeningRoomIdWithDetails(screening.getScreeningRoom().getId());
-        
+        // 해당 상영관의 모든 티켓 유형 가격 조회 (예매와 같은 가격 규칙 적용)
         List<ScreeningTicketPricesResponseDto.TicketPriceInfo> ticketPrices = new ArrayList<>();
         
-        for (RoomTicketTypePrice roomPrice : roomPrices) {
+        for (TicketQuote quote : pricingEngine.quoteAll(roomId, screeningTime)) {
             ticketPrices.add(new ScreeningTicketPricesResponseDto.TicketPriceInfo(
-                    roomPrice.getTicketType().getId(),
-                    roomPrice.getTicketType().getTypeName(),
-                    roomPrice.getPrice()
+                    quote.getTicketTypeId(),
+                    quote.getTypeName(),
+                    quote.getBasePrice(),
+                    quote.getPrice()
             ));
         }
 
         return new ScreeningTicketPricesResponseDto(
-                screening.getId(),
-                screening.getScreeningRoom().getId(),
+                screeningId,
+                roomId,
                 ticketPrices
         );
     }
@@ -0,0 +1,97 @@
+package com.uos.picobox.domain.screening.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.uos.picobox.domain.room.repository.SeatRepository;
+import com.uos.picobox.domain.screening.engine.SeatCounts;
+import com.uos.picobox.domain.screening.engine.SeatStateEngine;
+import com.uos.picobox.domain.screening.entity.SeatStatus;
+import com.uos.picobox.domain.screening.repository.ScreeningSeatRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 상영 시간표에 표시할 상영별 좌석 수를 제공합니다.
+ *
+ * - SeatStateEngine에 적재된 상영은 선점/해제/판매 때마다 함께 갱신되는 메모리 카운터를 그대로 사용합니다.
+ * - 적재되지 않은 상영은 DB에서 상태별 COUNT만 조회하고, 좌석 배치도 버전이 바뀌기 전까지 재사용합니다.
+ *   SCREENING_SEAT에는 선점/판매된 좌석만 있으므로 AVAILABLE 수는 상영관 좌석 수에서 나머지를 빼서 구합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class SeatCountService {
+
+    private final SeatStateEngine seatStateEngine;
+    private final ScreeningSeatRepository screeningSeatRepository;
+    private final SeatRepository seatRepository;
+
+    private final Cache<Long, VersionedSeatCounts> storedCounts = Caffeine.newBuilder()
+            .expireAfterWrite(10, TimeUnit.MINUTES)
+            .maximumSize(2_000)
+            .build();
+
+    /**
+     * @return 상영 ID별 좌석 수 (좌석이 없는 상영은 SeatCounts.EMPTY)
+     */
+    public Map<Long, SeatCounts> getSeatCounts(Collection<Long> screeningIds) {
+        Map<Long, SeatCounts> seatCounts = new HashMap<>(seatStateEngine.findLoadedCounts(screeningIds));
+
+        // 조회 도중 좌석이 바뀌면 다음 조회에서 다시 읽도록 버전을 먼저 확인합니다.
+        Map<Long, Long> versionsToLoad = new HashMap<>();
+        for (Long screeningId : screeningIds) {
+            if (seatCounts.containsKey(screeningId)) {
+                continue;
+            }
+            long version = seatStateEngine.currentVersion(screeningId);
+            VersionedSeatCounts stored = storedCounts.getIfPresent(screeningId);
+            if (stored != null && stored.version == version) {
+                seatCounts.put(screeningId, stored.counts);
+            } else {
+                versionsToLoad.put(screeningId, version);
+            }
+        }
+        if (versionsToLoad.isEmpty()) {
+            return seatCounts;
+        }
+
+        List<Long> screeningIdsToLoad = new ArrayList<>(versionsToLoad.keySet());
+        Map<Long, Integer> totalCounts = new HashMap<>();
+        for (Object[] row : seatRepository.countByScreeningIds(screeningIdsToLoad)) {
+            totalCounts.put((Long) row[0], ((Number) row[1]).intValue());
+        }
+        Map<Long, int[]> loadedCounts = new HashMap<>();
+        for (Object[] row : screeningSeatRepository.countByScreeningIdsGroupBySeatStatus(screeningIdsToLoad)) {
+            int[] counts = loadedCounts.computeIfAbsent((Long) row[0], id -> new int[SeatStatus.values().length]);
+            counts[((SeatStatus) row[1]).ordinal()] = ((Number) row[2]).intValue();
+        }
+        versionsToLoad.forEach((screeningId, version) -> {
+            int total = totalCounts.getOrDefault(screeningId, 0);
+            int[] counts = loadedCounts.getOrDefault(screeningId, new int[SeatStatus.values().length]);
+            int held = counts[SeatStatus.HOLD.ordinal()];
+            int sold = counts[SeatStatus.SOLD.ordinal()];
+            // 남아 있는 이전 AVAILABLE 행은 행이 없는 좌석과 같으므로 따로 세지 않습니다.
+            int available = Math.max(0, total - held - sold - counts[SeatStatus.BLOCKED.ordinal()]);
+            SeatCounts loaded = total == 0 ? SeatCounts.EMPTY : new SeatCounts(available, held, sold);
+            storedCounts.put(screeningId, new VersionedSeatCounts(version, loaded));
+            seatCounts.put(screeningId, loaded);
+        });
+        return seatCounts;
+    }
+
+    private static class VersionedSeatCounts {
+        private final long version;
+        private final SeatCounts counts;
+
+        private VersionedSeatCounts(long version, SeatCounts counts) {
+            this.version = version;
+            this.counts = counts;
+        }
+    }
+}
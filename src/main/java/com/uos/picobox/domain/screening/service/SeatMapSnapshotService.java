@@ -0,0 +1,152 @@
+package com.uos.picobox.domain.screening.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.uos.picobox.domain.screening.engine.SeatStateEngine;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 상영별 좌석 배치도 응답(JSON)을 SeatStateEngine의 배치도 버전 단위로, 응답 형식(전체/압축)별로 캐싱합니다.
+ * 버전이 바뀌지 않았다면 DB 조회와 직렬화 없이 저장된 바이트를 그대로 사용하고,
+ * 클라이언트가 보낸 ETag가 현재 배치도의 ETag와 같으면 본문 없이 304로 응답할 수 있습니다.
+ *
+ * 버전은 서버마다 따로 발급되므로 ETag는 버전이 아닌 응답 본문의 해시로 만듭니다.
+ * 여러 서버가 같은 좌석 상태에는 같은 ETag를, 다른 좌석 상태에는 다른 ETag를 내므로 어느 서버로 요청이 가도 304 판단이 맞습니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class SeatMapSnapshotService {
+
+    private static final int ETAG_HASH_BYTES = 12;
+
+    private final ScreeningService screeningService;
+    private final SeatStateEngine seatStateEngine;
+    private final ObjectMapper objectMapper;
+
+    private final Map<SeatMapFormat, Cache<Long, SeatMapSnapshot>> snapshots = new EnumMap<>(Map.of(
+            SeatMapFormat.FULL, newSnapshotCache(),
+            SeatMapFormat.COMPACT, newSnapshotCache()));
+
+    /**
+     * @return 현재 버전의 좌석 배치도 ETag (버전이 바뀌지 않았으면 DB를 조회하지 않습니다)
+     */
+    public String currentETag(Long screeningId) {
+        return currentETag(screeningId, SeatMapFormat.FULL);
+    }
+
+    public String currentETag(Long screeningId, SeatMapFormat format) {
+        return getSnapshot(screeningId, format).getETag();
+    }
+
+    /**
+     * 현재 버전의 좌석 배치도를 반환합니다. 캐시된 버전이 현재 버전과 다를 때만 다시 만듭니다.
+     * @throws jakarta.persistence.EntityNotFoundException 상영 정보를 찾을 수 없는 경우
+     */
+    public SeatMapSnapshot getSnapshot(Long screeningId) {
+        return getSnapshot(screeningId, SeatMapFormat.FULL);
+    }
+
+    public SeatMapSnapshot getSnapshot(Long screeningId, SeatMapFormat format) {
+        // 만드는 도중 좌석이 바뀌어도 이전 버전으로 저장되어 다음 요청에서 다시 만들어지도록 버전을 먼저 읽습니다.
+        long version = seatStateEngine.currentVersion(screeningId);
+        Cache<Long, SeatMapSnapshot> cache = snapshots.get(format);
+        SeatMapSnapshot cached = cache.getIfPresent(screeningId);
+        if (cached != null && cached.version == version) {
+            return cached;
+        }
+
+        Object seats = format == SeatMapFormat.COMPACT
+                ? screeningService.getCompactSeatsForScreening(screeningId)
+                : screeningService.getSeatsForScreening(screeningId);
+        byte[] body;
+        try {
+            body = objectMapper.writeValueAsBytes(seats);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("좌석 배치도를 직렬화할 수 없습니다: " + screeningId, e);
+        }
+        SeatMapSnapshot snapshot = new SeatMapSnapshot(version, toETag(screeningId, body, format), body);
+        // 동시에 만들어진 경우 더 최신 버전을 남깁니다.
+        return cache.asMap().merge(screeningId, snapshot,
+                (existing, created) -> existing.version >= created.version ? existing : created);
+    }
+
+    /**
+     * If-None-Match 헤더 값에 현재 ETag가 포함되어 있는지 확인합니다.
+     */
+    public boolean isNotModified(Long screeningId, String ifNoneMatch) {
+        return isNotModified(screeningId, SeatMapFormat.FULL, ifNoneMatch);
+    }
+
+    public boolean isNotModified(Long screeningId, SeatMapFormat format, String ifNoneMatch) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        String currentETag = currentETag(screeningId, format);
+        for (String eTag : ifNoneMatch.split(",")) {
+            String candidate = eTag.trim();
+            if (candidate.startsWith("W/")) {
+                candidate = candidate.substring(2);
+            }
+            if (candidate.equals(currentETag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 형식마다 본문이 다르므로 ETag도 형식별로 구분합니다.
+    private static String toETag(Long screeningId, byte[] body, SeatMapFormat format) {
+        byte[] digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256").digest(body);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+        String hash = Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(digest, ETAG_HASH_BYTES));
+        return "\"" + screeningId + "-" + hash + format.eTagSuffix + "\"";
+    }
+
+    // 버전은 SeatStateEngine에서 최대 몇 초마다 바뀌므로, 만든 지 오래된 배치도는 쓰이지 않고 자리만 차지합니다.
+    private static Cache<Long, SeatMapSnapshot> newSnapshotCache() {
+        return Caffeine.newBuilder()
+                .expireAfterWrite(1, TimeUnit.MINUTES)
+                .maximumSize(500)
+                .build();
+    }
+
+    public enum SeatMapFormat {
+        FULL(""),
+        COMPACT("-c"); // 행 배치 정보 + 좌석당 2비트 상태 (CompactSeatMapResponseDto)
+
+        private final String eTagSuffix;
+
+        SeatMapFormat(String eTagSuffix) {
+            this.eTagSuffix = eTagSuffix;
+        }
+    }
+
+    @Getter
+    public static class SeatMapSnapshot {
+        private final long version;
+        private final String eTag;
+        private final byte[] body;
+
+        private SeatMapSnapshot(long version, String eTag, byte[] body) {
+            this.version = version;
+            this.eTag = eTag;
+            this.body = body;
+        }
+    }
+}
@@ -0,0 +1,221 @@
+package com.uos.picobox.domain.screening.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.uos.picobox.domain.screening.dto.SeatStatusChangeDto;
+import com.uos.picobox.domain.screening.engine.SeatStatusChangedEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 상영별 좌석 배치도 구독자(SSE)를 관리합니다.
+ * 구독 시 전체 좌석 상태(snapshot)를 한 번 보내고, 이후에는 SeatStatusChangedEvent로 바뀐 좌석만(seat-status) 보냅니다.
+ *
+ * 변경 내용은 이벤트당 한 번만 JSON으로 만들어 모든 구독자에게 그대로 전송합니다.
+ * 전송은 상영마다 따로 순서대로 처리하므로 구독자는 변경을 발생 순서대로 받고,
+ * 응답이 느린 구독자가 있어도 다른 상영의 전송은 늦어지지 않습니다.
+ * 각 변경에는 배치도 버전이 함께 담기므로 클라이언트는 snapshot보다 오래된 변경을 걸러낼 수 있습니다.
+ *
+ * SeatStatusChangedEvent는 서버 안에서만 발행되므로, 다른 서버에서 바뀐 좌석은 SeatMapStreamRefreshScheduler가
+ * 구독 중인 상영을 주기적으로 DB와 다시 맞출 때 이벤트로 발행되어 전달됩니다. (SeatStateEngine.STATE_MAX_AGE 이내)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SeatMapStreamService {
+
+    private static final long EMITTER_TIMEOUT_MILLIS = 30 * 60 * 1000L;
+    private static final String SNAPSHOT_EVENT = "snapshot";
+    private static final String SEAT_STATUS_EVENT = "seat-status";
+
+    private final SeatMapSnapshotService seatMapSnapshotService;
+    private final ObjectMapper objectMapper;
+
+    private final ConcurrentMap<Long, ScreeningStream> streams = new ConcurrentHashMap<>();
+    // 상영별 전송 작업을 실행합니다. 전송 중 대기하는 동안 플랫폼 스레드를 점유하지 않도록 가상 스레드를 사용합니다.
+    private final ExecutorService sender = Executors.newVirtualThreadPerTaskExecutor();
+
+    /**
+     * 상영의 좌석 배치도를 구독합니다.
+     * @throws jakarta.persistence.EntityNotFoundException 상영 정보를 찾을 수 없는 경우
+     */
+    public SseEmitter subscribe(Long screeningId) {
+        SeatMapSubscriber subscriber = new SeatMapSubscriber(new SseEmitter(EMITTER_TIMEOUT_MILLIS));
+        subscriber.emitter.onCompletion(() -> unsubscribe(screeningId, subscriber));
+        subscriber.emitter.onTimeout(() -> unsubscribe(screeningId, subscriber));
+        subscriber.emitter.onError(e -> unsubscribe(screeningId, subscriber));
+
+        // snapshot을 만드는 동안 바뀐 좌석을 놓치지 않도록 먼저 등록하고, 그 사이 변경은 snapshot 뒤에 이어서 보냅니다.
+        ScreeningStream stream = streams.compute(screeningId, (id, screeningStream) -> {
+            ScreeningStream result = screeningStream != null ? screeningStream : new ScreeningStream();
+            result.subscribers.add(subscriber);
+            return result;
+        });
+        try {
+            // 구독자가 몰려도 배치도 버전이 같으면 캐시된 JSON을 그대로 보냅니다.
+            SeatMapSnapshotService.SeatMapSnapshot snapshot = seatMapSnapshotService.getSnapshot(screeningId);
+            String data = new String(snapshot.getBody(), StandardCharsets.UTF_8);
+            stream.submit(() -> subscriber.sendSnapshot(snapshot.getVersion(), data));
+        } catch (RuntimeException e) {
+            unsubscribe(screeningId, subscriber);
+            throw e;
+        }
+        return subscriber.emitter;
+    }
+
+    /**
+     * @return 이 서버에 구독자가 있는 상영 ID 목록
+     */
+    public Set<Long> findSubscribedScreeningIds() {
+        return Set.copyOf(streams.keySet());
+    }
+
+    @EventListener
+    public void onSeatStatusChanged(SeatStatusChangedEvent event) {
+        ScreeningStream stream = streams.get(event.getScreeningId());
+        if (stream == null) {
+            return;
+        }
+        String data;
+        try {
+            data = objectMapper.writeValueAsString(SeatStatusChangeDto.fromEvent(event));
+        } catch (JsonProcessingException e) {
+            log.error("좌석 상태 변경 이벤트 직렬화 실패: screeningId={}", event.getScreeningId(), e);
+            return;
+        }
+        SeatChange change = new SeatChange(event.getVersion(), data);
+        stream.submit(() -> {
+            for (SeatMapSubscriber subscriber : stream.subscribers) {
+                subscriber.sendChange(change);
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sender.shutdownNow();
+        streams.values().forEach(stream ->
+                stream.subscribers.forEach(subscriber -> subscriber.emitter.complete()));
+    }
+
+    private void unsubscribe(Long screeningId, SeatMapSubscriber subscriber) {
+        streams.computeIfPresent(screeningId, (id, stream) -> {
+            stream.subscribers.remove(subscriber);
+            return stream.subscribers.isEmpty() ? null : stream;
+        });
+    }
+
+    /**
+     * 한 상영의 구독자 목록과 전송 대기열입니다.
+     * 대기열의 작업은 한 번에 하나의 sender 스레드만 꺼내 실행하므로 상영 안에서는 제출 순서대로 전송됩니다.
+     */
+    private class ScreeningStream {
+        private final Set<SeatMapSubscriber> subscribers = ConcurrentHashMap.newKeySet();
+        private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private void submit(Runnable task) {
+            tasks.add(task);
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            if (draining.compareAndSet(false, true)) {
+                try {
+                    sender.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    // 종료 중에는 남은 전송을 버립니다.
+                    draining.set(false);
+                }
+            }
+        }
+
+        private void drain() {
+            Runnable task;
+            while ((task = tasks.poll()) != null) {
+                try {
+                    task.run();
+                } catch (RuntimeException e) {
+                    log.warn("좌석 배치도 전송 중 오류 발생", e);
+                }
+            }
+            draining.set(false);
+            // 실행 권한을 내려놓는 사이 추가된 작업이 있으면 다시 실행합니다.
+            if (!tasks.isEmpty()) {
+                scheduleDrain();
+            }
+        }
+    }
+
+    /**
+     * 직렬화된 좌석 상태 변경과 그 변경으로 올라간 배치도 버전입니다.
+     */
+    private static class SeatChange {
+        private final long version;
+        private final String data;
+
+        private SeatChange(long version, String data) {
+            this.version = version;
+            this.data = data;
+        }
+    }
+
+    /**
+     * 구독자 한 명의 전송 상태입니다. 상영의 전송 대기열을 실행 중인 스레드에서만 접근합니다.
+     * 이벤트 id에는 배치도 버전을 담아, 클라이언트가 snapshot 버전 이하의 변경을 무시할 수 있게 합니다.
+     */
+    private static class SeatMapSubscriber {
+        private final SseEmitter emitter;
+        private List<SeatChange> pendingChanges = new ArrayList<>();
+        private boolean closed;
+
+        private SeatMapSubscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        private void sendSnapshot(long version, String snapshot) {
+            send(SseEmitter.event().id(String.valueOf(version)).name(SNAPSHOT_EVENT).data(snapshot));
+            List<SeatChange> changes = pendingChanges;
+            pendingChanges = null;
+            changes.forEach(this::sendChange);
+        }
+
+        private void sendChange(SeatChange change) {
+            if (pendingChanges != null) {
+                pendingChanges.add(change);
+                return;
+            }
+            send(SseEmitter.event().id(String.valueOf(change.version)).name(SEAT_STATUS_EVENT).data(change.data));
+        }
+
+        private void send(SseEmitter.SseEventBuilder event) {
+            if (closed) {
+                return;
+            }
+            try {
+                emitter.send(event);
+            } catch (IOException | IllegalStateException e) {
+                // 연결이 끊긴 구독자는 컨테이너가 호출하는 onError/onCompletion에서 목록에서 제거됩니다.
+                closed = true;
+            }
+        }
+    }
+}
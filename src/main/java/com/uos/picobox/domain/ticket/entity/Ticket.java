@@ -16,7 +16,8 @@ import lombok.NoArgsConstructor;
 public class Ticket {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "ticket_seq")
+    @SequenceGenerator(name = "ticket_seq", sequenceName = "TICKET_SEQ", allocationSize = 50)
     @Column(name = "TICKET_ID")
     private Long id;
 
@@ -40,14 +41,24 @@ public class Ticket {
     @Convert(converter = TicketStatusConverter.class)
     private TicketStatus ticketStatus;
 
+    // 예매 시점의 좌석 번호/상영관 이름 (조회 시 SEAT, SCREENING_ROOM 조인 없이 사용)
+    @Column(name = "SEAT_NUMBER", length = 10)
+    private String seatNumber;
+
+    @Column(name = "ROOM_NAME", length = 50)
+    private String roomName;
+
     @Builder
-    public Ticket(Reservation reservation, Long screeningId, Long seatId, Long ticketTypeId, Integer price, TicketStatus ticketStatus) {
+    public Ticket(Reservation reservation, Long screeningId, Long seatId, Long ticketTypeId, Integer price, TicketStatus ticketStatus,
+                  String seatNumber, String roomName) {
         this.reservation = reservation;
         this.screeningId = screeningId;
         this.seatId = seatId;
         this.ticketTypeId = ticketTypeId;
         this.price = price;
         this.ticketStatus = ticketStatus;
+        this.seatNumber = seatNumber;
+        this.roomName = roomName;
     }
 
     public void setReservation(Reservation reservation) {
@@ -4,9 +4,11 @@ import com.uos.picobox.domain.reservation.entity.Reservation;
 import com.uos.picobox.domain.ticket.entity.Ticket;
 import com.uos.picobox.global.enumClass.TicketStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -23,4 +25,27 @@ public interface TicketRepository extends JpaRepository<Ticket, Long> {
 
     @Query("SELECT t.reservation FROM Ticket t WHERE t.ticketStatus = :ticketStatus")
     List<Reservation> findReservationsByTicketStatus(@Param("ticketStatus") TicketStatus ticketStatus);
-}
\ No newline at end of file
+
+    // 좌석 번호가 기록되지 않은 티켓 ID 범위 조회 (좌석 번호 백필 시 사용, 좌석이 삭제되어 채울 수 없는 티켓은 제외)
+    @Query("SELECT MIN(t.id) FROM Ticket t WHERE t.seatNumber IS NULL " +
+            "AND EXISTS (SELECT 1 FROM Seat s WHERE s.id = t.seatId)")
+    Long findMinIdWithoutSeatNumber();
+
+    @Query("SELECT MAX(t.id) FROM Ticket t WHERE t.seatNumber IS NULL " +
+            "AND EXISTS (SELECT 1 FROM Seat s WHERE s.id = t.seatId)")
+    Long findMaxIdWithoutSeatNumber();
+
+    /**
+     * ID 범위 안에서 좌석 번호가 기록되지 않은 티켓에 좌석 번호와 상영관 이름을 채웁니다.
+     * 좌석이 삭제된 티켓은 채울 값이 없으므로 건너뜁니다. (조회 시 "정보없음"으로 표시)
+     * @return 변경된 티켓 수
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE Ticket t SET " +
+            "t.seatNumber = (SELECT s.seatNumber FROM Seat s WHERE s.id = t.seatId), " +
+            "t.roomName = (SELECT r.roomName FROM Seat s2 JOIN s2.screeningRoom r WHERE s2.id = t.seatId) " +
+            "WHERE t.id BETWEEN :fromId AND :toId AND t.seatNumber IS NULL " +
+            "AND EXISTS (SELECT 1 FROM Seat s3 WHERE s3.id = t.seatId)")
+    int fillSeatLabels(@Param("fromId") Long fromId, @Param("toId") Long toId);
+}
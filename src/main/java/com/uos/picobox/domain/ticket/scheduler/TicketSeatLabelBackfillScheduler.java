@@ -0,0 +1,41 @@
+package com.uos.picobox.domain.ticket.scheduler;
+
+import com.uos.picobox.domain.ticket.repository.TicketRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TicketSeatLabelBackfillScheduler {
+
+    private static final long BATCH_SIZE = 1_000L;
+
+    private final TicketRepository ticketRepository;
+
+    /**
+     * 서버 시작 시 좌석 번호/상영관 이름이 기록되지 않은 기존 티켓을 ID 범위 단위로 나누어 채웁니다.
+     * 모두 채워진 뒤에는(좌석이 삭제되어 채울 수 없는 티켓 제외) 조회 두 번으로 끝납니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillSeatLabels() {
+        Long minId = ticketRepository.findMinIdWithoutSeatNumber();
+        Long maxId = ticketRepository.findMaxIdWithoutSeatNumber();
+        if (minId == null || maxId == null) {
+            return;
+        }
+        log.info("티켓 좌석 번호 백필 시작: ticketId {} ~ {}", minId, maxId);
+        int filledCount = 0;
+        for (long fromId = minId; fromId <= maxId; fromId += BATCH_SIZE) {
+            try {
+                filledCount += ticketRepository.fillSeatLabels(fromId, fromId + BATCH_SIZE - 1);
+            } catch (Exception e) {
+                log.error("티켓 좌석 번호 백필 중 오류 발생: ticketId {} ~ {}", fromId, fromId + BATCH_SIZE - 1, e);
+            }
+        }
+        log.info("티켓 좌석 번호 백필 완료: {}개 티켓", filledCount);
+    }
+}
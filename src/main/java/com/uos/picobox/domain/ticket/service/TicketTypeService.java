@@ -1,6 +1,7 @@
 package com.uos.picobox.domain.ticket.service;
 
 import com.uos.picobox.domain.price.repository.RoomTicketTypePriceRepository;
+import com.uos.picobox.domain.price.service.PriceCatalog;
 import com.uos.picobox.domain.ticket.dto.TicketTypeRequestDto;
 import com.uos.picobox.domain.ticket.dto.TicketTypeResponseDto;
 import com.uos.picobox.domain.ticket.entity.TicketType;
@@ -23,6 +24,7 @@ public class TicketTypeService {
 
     private final TicketTypeRepository ticketTypeRepository;
     private final RoomTicketTypePriceRepository roomTicketTypePriceRepository;
+    private final PriceCatalog priceCatalog;
 
     @Transactional
     public TicketTypeResponseDto registerTicketType(TicketTypeRequestDto requestDto) {
@@ -65,6 +67,8 @@ public class TicketTypeService {
         }
 
         ticketType.updateDetails(requestDto.getTypeName(), requestDto.getDescription());
+        // 가격표에 티켓 종류명이 함께 저장되어 있으므로 다시 만들도록 합니다.
+        priceCatalog.refreshAfterCommit();
         log.info("티켓 종류 정보가 수정되었습니다: ID {}", ticketTypeId);
         return new TicketTypeResponseDto(ticketType);
     }
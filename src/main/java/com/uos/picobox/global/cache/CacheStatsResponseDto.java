@@ -0,0 +1,36 @@
+package com.uos.picobox.global.cache;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+
+@Getter
+public class CacheStatsResponseDto {
+
+    @Schema(description = "캐시 이름", example = "movieDetail")
+    private final String cacheName;
+
+    @Schema(description = "현재 항목 수 (추정치)", example = "42")
+    private final long size;
+
+    @Schema(description = "적중 횟수", example = "1200")
+    private final long hitCount;
+
+    @Schema(description = "미적중 횟수", example = "58")
+    private final long missCount;
+
+    @Schema(description = "적중률 (0~1)", example = "0.954")
+    private final double hitRate;
+
+    @Schema(description = "크기/TTL 초과로 제거된 항목 수", example = "3")
+    private final long evictionCount;
+
+    public CacheStatsResponseDto(String cacheName, long size, CacheStats stats) {
+        this.cacheName = cacheName;
+        this.size = size;
+        this.hitCount = stats.hitCount();
+        this.missCount = stats.missCount();
+        this.hitRate = stats.hitRate();
+        this.evictionCount = stats.evictionCount();
+    }
+}
@@ -0,0 +1,32 @@
+package com.uos.picobox.global.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.stereotype.Service;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+@Service
+@RequiredArgsConstructor
+public class CacheStatsService {
+
+    private final CacheManager cacheManager;
+
+    /**
+     * 등록된 모든 Caffeine 캐시의 적중/미적중 통계를 조회합니다. (서버 시작 이후 누적)
+     */
+    public List<CacheStatsResponseDto> getCacheStats() {
+        return cacheManager.getCacheNames().stream()
+                .map(cacheManager::getCache)
+                .filter(Objects::nonNull)
+                .filter(CaffeineCache.class::isInstance)
+                .map(CaffeineCache.class::cast)
+                .map(cache -> new CacheStatsResponseDto(cache.getName(),
+                        cache.getNativeCache().estimatedSize(), cache.getNativeCache().stats()))
+                .sorted(Comparator.comparing(CacheStatsResponseDto::getCacheName))
+                .toList();
+    }
+}
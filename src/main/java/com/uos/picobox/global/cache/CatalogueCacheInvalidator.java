@@ -0,0 +1,52 @@
+package com.uos.picobox.global.cache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collection;
+import java.util.Objects;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CatalogueCacheInvalidator {
+
+    private final CacheManager cacheManager;
+
+    /**
+     * 커밋된 변경만 반영하도록 커밋 후에 무효화합니다. (롤백되면 캐시는 그대로 유지)
+     * 커밋 직전에 읽은 값이 무효화 뒤에 저장되는 드문 경우는 캐시 TTL이 지나면 정리됩니다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCatalogueChanged(CatalogueChangedEvent event) {
+        switch (event.getTarget()) {
+            case GENRE -> clear(CatalogueCaches.MOVIE_GENRES);
+            case MOVIE_RATING -> clear(CatalogueCaches.MOVIE_RATINGS);
+            case DISTRIBUTOR -> clear(CatalogueCaches.DISTRIBUTORS);
+            default -> {
+            }
+        }
+        evict(CatalogueCaches.MOVIE_DETAIL, event.getMovieIds());
+        evict(CatalogueCaches.ACTOR_FILMOGRAPHY, event.getActorIds());
+        evict(CatalogueCaches.SCREENING_SCHEDULE, event.getScreeningDates());
+        log.debug("카탈로그 캐시 무효화: {} (영화 {}, 배우 {}, 상영 날짜 {})",
+                event.getTarget(), event.getMovieIds(), event.getActorIds(), event.getScreeningDates());
+    }
+
+    private void clear(String cacheName) {
+        Objects.requireNonNull(cacheManager.getCache(cacheName)).clear();
+    }
+
+    private void evict(String cacheName, Collection<?> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        Cache cache = Objects.requireNonNull(cacheManager.getCache(cacheName));
+        keys.forEach(cache::evict);
+    }
+}
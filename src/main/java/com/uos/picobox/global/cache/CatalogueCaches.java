@@ -0,0 +1,23 @@
+package com.uos.picobox.global.cache;
+
+/**
+ * 공개 카탈로그 조회 결과를 담는 캐시 이름입니다.
+ * 관리자 수정 시 CatalogueChangedEvent로 필요한 항목만 무효화하며, TTL은 놓친 변경이 남아 있는 최대 시간입니다.
+ */
+public final class CatalogueCaches {
+    /** 영화 상세 (key: 영화 ID) */
+    public static final String MOVIE_DETAIL = "movieDetail";
+    /** 배우 정보 + 필모그래피 (key: 배우 ID) */
+    public static final String ACTOR_FILMOGRAPHY = "actorFilmography";
+    /** 장르 전체 목록 */
+    public static final String MOVIE_GENRES = "movieGenres";
+    /** 영화 등급 전체 목록 */
+    public static final String MOVIE_RATINGS = "movieRatings";
+    /** 배급사 전체 목록 */
+    public static final String DISTRIBUTORS = "distributors";
+    /** 날짜별 상영 스케줄 (key: 상영 날짜, 예매 가능 좌석 수 제외) */
+    public static final String SCREENING_SCHEDULE = "screeningSchedule";
+
+    private CatalogueCaches() {
+    }
+}
@@ -0,0 +1,35 @@
+package com.uos.picobox.global.cache;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 관리자 수정으로 공개 카탈로그 내용이 바뀌었을 때 발행됩니다.
+ * 수정한 서비스가 영향을 받는 영화/배우/상영 날짜를 함께 담아 보내고, 커밋 후 해당 캐시 항목만 무효화됩니다.
+ */
+@Getter
+@Builder
+public class CatalogueChangedEvent {
+
+    public enum Target {
+        MOVIE, ACTOR, GENRE, MOVIE_RATING, DISTRIBUTOR, SCREENING, SCREENING_ROOM
+    }
+
+    private final Target target;
+
+    /** 상세 정보가 바뀐 영화 ID */
+    @Builder.Default
+    private final Collection<Long> movieIds = List.of();
+
+    /** 필모그래피가 바뀐 배우 ID */
+    @Builder.Default
+    private final Collection<Long> actorIds = List.of();
+
+    /** 상영 스케줄이 바뀐 날짜 */
+    @Builder.Default
+    private final Collection<LocalDate> screeningDates = List.of();
+}
@@ -2,6 +2,7 @@ package com.uos.picobox.global.config;
 
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.uos.picobox.global.cache.CatalogueCaches;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cache.caffeine.CaffeineCache;
@@ -22,14 +23,20 @@ public class CacheConfig {
     public CacheManager cacheManager() {
         Map<String, Caffeine<Object, Object>> caffeineConfigs = new HashMap<>();
         caffeineConfigs.put("emailAuthCode", Caffeine.newBuilder().expireAfterWrite(5, TimeUnit.MINUTES));
-        caffeineConfigs.put("userSession", Caffeine.newBuilder().expireAfterWrite(1, TimeUnit.HOURS));
-        caffeineConfigs.put("adminSession", Caffeine.newBuilder().expireAfterWrite(6, TimeUnit.HOURS));
         caffeineConfigs.put("payment", Caffeine.newBuilder().expireAfterWrite(30, TimeUnit.MINUTES));
         caffeineConfigs.put("resetPassword", Caffeine.newBuilder().expireAfterWrite(30, TimeUnit.MINUTES));
 
+        // 공개 카탈로그 조회 캐시 (관리자 수정 시 CatalogueChangedEvent로 무효화)
+        caffeineConfigs.put(CatalogueCaches.MOVIE_DETAIL, Caffeine.newBuilder().maximumSize(1_000).expireAfterWrite(30, TimeUnit.MINUTES));
+        caffeineConfigs.put(CatalogueCaches.ACTOR_FILMOGRAPHY, Caffeine.newBuilder().maximumSize(2_000).expireAfterWrite(30, TimeUnit.MINUTES));
+        caffeineConfigs.put(CatalogueCaches.MOVIE_GENRES, Caffeine.newBuilder().maximumSize(1).expireAfterWrite(6, TimeUnit.HOURS));
+        caffeineConfigs.put(CatalogueCaches.MOVIE_RATINGS, Caffeine.newBuilder().maximumSize(1).expireAfterWrite(6, TimeUnit.HOURS));
+        caffeineConfigs.put(CatalogueCaches.DISTRIBUTORS, Caffeine.newBuilder().maximumSize(1).expireAfterWrite(6, TimeUnit.HOURS));
+        caffeineConfigs.put(CatalogueCaches.SCREENING_SCHEDULE, Caffeine.newBuilder().maximumSize(60).expireAfterWrite(10, TimeUnit.MINUTES));
+
         SimpleCacheManager cacheManager = new SimpleCacheManager();
         List<CaffeineCache> caches = caffeineConfigs.entrySet().stream()
-                .map(entry -> new CaffeineCache(entry.getKey(), entry.getValue().build()))
+                .map(entry -> new CaffeineCache(entry.getKey(), entry.getValue().recordStats().build()))
                 .collect(Collectors.toList());
 
         cacheManager.setCaches(caches);
@@ -21,6 +21,7 @@ import software.amazon.awssdk.services.s3.model.S3Exception;
 import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @Slf4j
@@ -34,6 +35,7 @@ public class GlobalExceptionHandler {
         private final String message;
         private final String path;
         private Map<String, String> validationErrors;
+        private List<Long> conflictSeatIds;
 
         public ErrorResponse(HttpStatus status, String message, String path) {
             this.status = status.value();
@@ -50,6 +52,11 @@ public class GlobalExceptionHandler {
             this.path = path;
         }
 
+        public ErrorResponse(HttpStatus status, String message, List<Long> conflictSeatIds, String path) {
+            this(status, message, path);
+            this.conflictSeatIds = conflictSeatIds;
+        }
+
         // Getters
         public LocalDateTime getTimestamp() { return timestamp; }
         public int getStatus() { return status; }
@@ -57,6 +64,7 @@ public class GlobalExceptionHandler {
         public String getMessage() { return message; }
         public String getPath() { return path; }
         public Map<String, String> getValidationErrors() { return validationErrors; }
+        public List<Long> getConflictSeatIds() { return conflictSeatIds; }
     }
 
     // @Valid 유효성 검사 실패 시
@@ -159,6 +167,20 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errorResponse, HttpStatus.NOT_FOUND);
     }
 
+    // 409 Conflict (충돌 좌석 목록 포함)
+    @ExceptionHandler(SeatConflictException.class)
+    public ResponseEntity<ErrorResponse> handleSeatConflict(SeatConflictException ex, WebRequest request) {
+        String requestPath = request.getDescription(false).replace("uri=", "");
+        log.warn("Seat conflict for request path [{}]: {}", requestPath, ex.getMessage());
+        ErrorResponse errorResponse = new ErrorResponse(
+                HttpStatus.CONFLICT,
+                ex.getMessage(),
+                ex.getConflictSeatIds(),
+                requestPath
+        );
+        return new ResponseEntity<>(errorResponse, HttpStatus.CONFLICT);
+    }
+
     // 409 Conflict
     @ExceptionHandler(IllegalStateException.class)
     public ResponseEntity<ErrorResponse> handleIllegalState(IllegalStateException ex, WebRequest request) {
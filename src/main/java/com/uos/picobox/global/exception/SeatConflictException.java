@@ -0,0 +1,20 @@
+package com.uos.picobox.global.exception;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 요청한 좌석 중 일부를 선점/예매할 수 없을 때 발생합니다.
+ * 충돌한 좌석 ID 전체를 담아 409 응답으로 내려주므로, 클라이언트는 한 번에 다시 좌석을 고를 수 있습니다.
+ */
+@Getter
+public class SeatConflictException extends IllegalStateException {
+
+    private final List<Long> conflictSeatIds;
+
+    public SeatConflictException(String message, List<Long> conflictSeatIds) {
+        super(message + ": " + conflictSeatIds);
+        this.conflictSeatIds = List.copyOf(conflictSeatIds);
+    }
+}
@@ -1,6 +1,7 @@
 package com.uos.picobox.global.filter;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.uos.picobox.global.session.SessionPrincipal;
 import com.uos.picobox.global.utils.SessionUtils;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -9,7 +10,6 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.InsufficientAuthenticationException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.AuthenticationEntryPoint;
 import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
@@ -32,7 +32,7 @@ public class SessionFilter extends OncePerRequestFilter {
 
         if (customerMatcher.matches(request)) {
             try {
-                authenticateBySession(request, response, "userSession", "CUSTOMER");
+                authenticateBySession(request, response, "userSession");
             } catch (Exception e) {
                 return;
             }
@@ -40,14 +40,14 @@ public class SessionFilter extends OncePerRequestFilter {
         }
         else if (adminMatcher.matches(request)) {
             try {
-                authenticateBySession(request, response, "adminSession", "ADMIN");
+                authenticateBySession(request, response, "adminSession");
             } catch (Exception e) {
                 return;
             }
         }
         else if (guestMatcher.matches(request)) {
             try {
-                authenticateBySession(request, response, "userSession", "GUEST");
+                authenticateBySession(request, response, "userSession");
             } catch (Exception e) {
                 return;
             }
@@ -56,7 +56,7 @@ public class SessionFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
-    private void authenticateBySession(HttpServletRequest request, HttpServletResponse response, String cacheName, String role) throws ServletException, IOException {
+    private void authenticateBySession(HttpServletRequest request, HttpServletResponse response, String cacheName) throws ServletException, IOException {
         String sessionId = request.getHeader("Authorization");
         if (sessionId == null) {
             authenticationEntryPoint.commence(
@@ -67,13 +67,12 @@ public class SessionFilter extends OncePerRequestFilter {
             throw new IOException("Authorization 헤더가 존재하지 않습니다.");
         }
 
-        String value = sessionUtils.existSession(cacheName, sessionId);
-        List<SimpleGrantedAuthority> authorities =
-                Collections.singletonList(new SimpleGrantedAuthority(role));
+        // 로그인 시 확정한 주체(유형, ID, 권한)를 그대로 사용합니다.
+        SessionPrincipal principal = sessionUtils.existSession(cacheName, sessionId);
 
         // Authentication 객체 생성
         UsernamePasswordAuthenticationToken authentication =
-                new UsernamePasswordAuthenticationToken(value, null, authorities);
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
         SecurityContextHolder.getContext().setAuthentication(authentication);
     }
 }
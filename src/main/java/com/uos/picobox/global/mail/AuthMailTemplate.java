@@ -0,0 +1,111 @@
+package com.uos.picobox.global.mail;
+
+import lombok.Getter;
+import org.springframework.web.util.HtmlUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 이메일 인증 번호 메일의 목적별 템플릿입니다.
+ * 공통 레이아웃에 목적별 문구를 넣은 HTML을 서버 시작 시 한 번만 만들어 고정 문자열과 치환 위치로 나누어 두고,
+ * 발송할 때는 이름/인증 번호/만료 시간만 이어 붙입니다.
+ */
+public enum AuthMailTemplate {
+    SIGNUP("회원가입 인증 번호를 보내드려요.", "<strong>Pico Box 회원가입</strong>을 위해"),
+    FIND_LOGIN_ID("아이디 찾기를 위한 인증 번호를 보내드려요.", "<strong>Pico Box {{name}}님의 아이디 찾기</strong>를 위해"),
+    FIND_PASSWORD("비밀번호 찾기를 위한 인증 번호를 보내드려요.", "<strong>Pico Box {{name}} 계정의 비밀번호 찾기</strong>를 위해");
+
+    private static final String LAYOUT = """
+            <html>
+              <body style="font-family: 'Apple SD Gothic Neo', Arial, sans-serif; background-color: #f6f6f6; padding: 40px;">
+                <div style="max-width: 600px; margin: auto; background-color: #fff; border-radius: 12px; box-shadow: 0 4px 12px rgba(0,0,0,0.08); padding: 40px; text-align: center;">
+                  <div style="display: flex; justify-content: center; gap: 2px; margin-bottom: 30px;">
+                    <span style="background-color: #2D6FF2; color: white; font-size: 30px; font-weight: bold; width: 40px; height: 52px; display: flex; align-items: center; justify-content: center; border-radius: 6px; letter-spacing: 1px; font-family: 'Arial Black', 'Arial Bold', Gadget, sans-serif;">P</span>
+                    <span style="background-color: #2D6FF2; color: white; font-size: 30px; font-weight: bold; width: 40px; height: 52px; display: flex; align-items: center; justify-content: center; border-radius: 6px; letter-spacing: 1px; font-family: 'Arial Black', 'Arial Bold', Gadget, sans-serif;">I</span>
+                    <span style="background-color: #2D6FF2; color: white; font-size: 30px; font-weight: bold; width: 40px; height: 52px; display: flex; align-items: center; justify-content: center; border-radius: 6px; letter-spacing: 1px; font-family: 'Arial Black', 'Arial Bold', Gadget, sans-serif;">C</span>
+                    <span style="background-color: #2D6FF2; color: white; font-size: 30px; font-weight: bold; width: 40px; height: 52px; display: flex; align-items: center; justify-content: center; border-radius: 6px; letter-spacing: 1px; font-family: 'Arial Black', 'Arial Bold', Gadget, sans-serif;">O</span>
+                    <span style="background-color: #2D6FF2; color: white; font-size: 30px; font-weight: bold; width: 40px; height: 52px; display: flex; align-items: center; justify-content: center; border-radius: 6px; letter-spacing: 1px; font-family: 'Arial Black', 'Arial Bold', Gadget, sans-serif;">B</span>
+                    <span style="background-color: #2D6FF2; color: white; font-size: 30px; font-weight: bold; width: 40px; height: 52px; display: flex; align-items: center; justify-content: center; border-radius: 6px; letter-spacing: 1px; font-family: 'Arial Black', 'Arial Bold', Gadget, sans-serif;">O</span>
+                    <span style="background-color: #2D6FF2; color: white; font-size: 30px; font-weight: bold; width: 40px; height: 52px; display: flex; align-items: center; justify-content: center; border-radius: 6px; letter-spacing: 1px; font-family: 'Arial Black', 'Arial Bold', Gadget, sans-serif;">X</span>
+                  </div>
+                  <p style="color: #333; font-size: 16px; margin-bottom: 10px;">{{headline}} 인증번호를 보내드려요.<br/>이메일 인증 화면에서 아래의 인증 번호를 입력하고 인증을 완료해주세요.</p>
+                  <p style="font-size: 32px; font-weight: bold; color: #2D6FF2; letter-spacing: 4px; margin: 30px auto;">{{code}}</p>
+                  <p style="color: #999; font-size: 14px; margin-bottom: 4px;">이 인증번호는 5분 후 만료됩니다.</p>
+                  <p style="color: #999; font-size: 14px; margin-bottom: 30px;">만료 시간: {{expiration}}</p>
+                  <p style="color: #555; font-size: 14px; line-height: 1.6;">
+                    혹시 요청하지 않은 인증 메일을 받으셨나요?<br/>
+                    누군가 실수로 메일 주소를 잘못 입력했을 수 있어요. 계정이 도용된 것은 아니니 안심하세요.<br/>
+                    직접 요청한 인증 메일이 아닌 경우 무시해주세요.
+                  </p>
+                  <hr style="margin: 40px 0; border: none; border-top: 1px solid #eee;" />
+                  <p style="color: #666; font-size: 13px;">이 메일은 발신 전용 메일이에요.</p>
+                  <p style="color: #777; font-size: 11px;">Copyright © Pico Box All rights reserved.</p>
+                </div>
+              </body>
+            </html>
+            """;
+
+    private enum Placeholder {
+        NAME("{{name}}"), CODE("{{code}}"), EXPIRATION("{{expiration}}");
+
+        private final String token;
+
+        Placeholder(String token) {
+            this.token = token;
+        }
+    }
+
+    @Getter
+    private final String subject;
+    // literals[i] 다음에 placeholders[i] 값이 들어가고, 마지막 literal로 끝납니다.
+    private final String[] literals;
+    private final Placeholder[] placeholders;
+    private final int literalLength;
+
+    AuthMailTemplate(String subject, String headline) {
+        this.subject = subject;
+        String html = LAYOUT.replace("{{headline}}", headline);
+
+        List<String> literalList = new ArrayList<>();
+        List<Placeholder> placeholderList = new ArrayList<>();
+        int from = 0;
+        while (true) {
+            int next = -1;
+            Placeholder nextPlaceholder = null;
+            for (Placeholder placeholder : Placeholder.values()) {
+                int index = html.indexOf(placeholder.token, from);
+                if (index >= 0 && (next < 0 || index < next)) {
+                    next = index;
+                    nextPlaceholder = placeholder;
+                }
+            }
+            if (nextPlaceholder == null) {
+                literalList.add(html.substring(from));
+                break;
+            }
+            literalList.add(html.substring(from, next));
+            placeholderList.add(nextPlaceholder);
+            from = next + nextPlaceholder.token.length();
+        }
+        this.literals = literalList.toArray(new String[0]);
+        this.placeholders = placeholderList.toArray(new Placeholder[0]);
+        this.literalLength = literalList.stream().mapToInt(String::length).sum();
+    }
+
+    /**
+     * @param name 회원 이름 또는 로그인 ID (회원가입은 사용하지 않음, HTML 이스케이프하여 삽입)
+     */
+    public String render(String name, String code, String expiration) {
+        StringBuilder body = new StringBuilder(literalLength + 64);
+        for (int i = 0; i < placeholders.length; i++) {
+            body.append(literals[i]);
+            switch (placeholders[i]) {
+                case NAME -> body.append(name == null ? "" : HtmlUtils.htmlEscape(name));
+                case CODE -> body.append(code);
+                case EXPIRATION -> body.append(expiration);
+            }
+        }
+        return body.append(literals[literals.length - 1]).toString();
+    }
+}
@@ -0,0 +1,43 @@
+package com.uos.picobox.global.mail;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * 메일을 보내지 않고 로그와 메모리에만 남기는 MailTransport 구현체입니다.
+ * SMTP 계정 없이 로컬에서 실행하거나 테스트에서 발송된 메일(인증 번호 등)을 확인할 때 사용합니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "picobox.mail.transport", havingValue = "log")
+public class LoggingMailTransport implements MailTransport {
+
+    private static final int MAX_KEPT_MAILS = 100;
+
+    private final Deque<OutboundMail> sentMails = new ArrayDeque<>();
+
+    @Override
+    public synchronized List<OutboundMail> send(List<OutboundMail> mails) {
+        for (OutboundMail mail : mails) {
+            log.info("메일 발송(로그 전용): {} - {}", mail.getTo(), mail.getSubject());
+            sentMails.addLast(mail);
+            if (sentMails.size() > MAX_KEPT_MAILS) {
+                sentMails.removeFirst();
+            }
+        }
+        return List.of();
+    }
+
+    /**
+     * @return 최근 발송된 메일 (오래된 순, 최대 100건)
+     */
+    public synchronized List<OutboundMail> getSentMails() {
+        return new ArrayList<>(sentMails);
+    }
+}
@@ -0,0 +1,143 @@
+package com.uos.picobox.global.mail;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 메일을 요청 스레드 밖에서 보냅니다.
+ *
+ * - enqueue()는 크기가 제한된 큐에 넣고 바로 반환하므로 요청 스레드는 SMTP 연결/전송을 기다리지 않습니다.
+ * - 가상 스레드 WORKER_COUNT개가 큐에서 최대 BATCH_SIZE개씩 꺼내 MailTransport로 한 번에 보냅니다.
+ * - 실패한 메일은 2초, 4초, 8초 간격으로 다시 시도하고, MAX_ATTEMPTS번 모두 실패하면 로그를 남기고 버립니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MailDispatcher {
+
+    private static final int QUEUE_CAPACITY = 1_000;
+    private static final int WORKER_COUNT = 2;
+    private static final int BATCH_SIZE = 20;
+    private static final int MAX_ATTEMPTS = 4;
+    private static final Duration INITIAL_BACKOFF = Duration.ofSeconds(2);
+    private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(5);
+
+    private final MailTransport mailTransport;
+
+    private final BlockingQueue<OutboundMail> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+    private final List<Thread> workers = new ArrayList<>();
+    private volatile boolean running = false;
+
+    /**
+     * 메일을 발송 큐에 넣습니다.
+     * @throws IllegalStateException 발송 대기 메일이 너무 많은 경우
+     */
+    public void enqueue(OutboundMail mail) {
+        if (!queue.offer(mail)) {
+            throw new IllegalStateException("메일 발송 요청이 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        for (int i = 0; i < WORKER_COUNT; i++) {
+            workers.add(Thread.ofVirtual().name("mail-sender-" + i).start(this::drain));
+        }
+    }
+
+    /**
+     * 서버 종료 시 작업 스레드가 보내던 묶음을 마칠 때까지 기다린 뒤 큐에 남은 메일을 한 번 더 보냅니다.
+     * (종료 중 실패한 메일은 큐로 돌려 함께 보내고, 이미 재시도 대기 중인 메일은 버립니다.)
+     */
+    @EventListener(ContextClosedEvent.class)
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        for (Thread worker : workers) {
+            try {
+                if (!worker.join(SHUTDOWN_TIMEOUT)) {
+                    log.warn("메일 발송 스레드가 {}초 안에 끝나지 않아 중단합니다: {}", SHUTDOWN_TIMEOUT.toSeconds(), worker.getName());
+                    worker.interrupt();
+                    worker.join(SHUTDOWN_TIMEOUT);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        workers.clear();
+        List<OutboundMail> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            List<OutboundMail> failedMails = mailTransport.send(remaining);
+            log.info("서버 종료 전 대기 메일 {}건 발송 (실패 {}건)", remaining.size(), failedMails.size());
+        }
+    }
+
+    private void drain() {
+        List<OutboundMail> batch = new ArrayList<>(BATCH_SIZE);
+        while (running) {
+            try {
+                OutboundMail first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, BATCH_SIZE - 1);
+                mailTransport.send(batch).forEach(this::retryLater);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("메일 발송 중 오류 발생, {}건을 다시 시도합니다.", batch.size(), e);
+                batch.forEach(this::retryLater);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void retryLater(OutboundMail mail) {
+        OutboundMail retry = mail.nextAttempt();
+        if (retry.getAttempts() >= MAX_ATTEMPTS) {
+            log.error("메일 발송 {}회 실패, 발송하지 않습니다: {}", MAX_ATTEMPTS, mail.getTo());
+            return;
+        }
+        if (!running) {
+            // 종료 중에는 대기 스레드를 만들지 않고 큐로 돌려 stop()의 마지막 발송에 포함시킵니다.
+            if (!queue.offer(retry)) {
+                log.error("메일 발송 큐가 가득 차 재시도하지 못했습니다: {}", retry.getTo());
+            }
+            return;
+        }
+        Duration backoff = INITIAL_BACKOFF.multipliedBy(1L << (retry.getAttempts() - 1));
+        // 가상 스레드는 대기 중 캐리어 스레드를 점유하지 않으므로 재시도마다 하나씩 만들어 기다립니다.
+        Thread.ofVirtual().name("mail-retry").start(() -> {
+            try {
+                Thread.sleep(backoff);
+                if (!queue.offer(retry)) {
+                    log.error("메일 발송 큐가 가득 차 재시도하지 못했습니다: {}", retry.getTo());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+    }
+}
@@ -0,0 +1,19 @@
+package com.uos.picobox.global.mail;
+
+import java.util.List;
+
+/**
+ * MailDispatcher가 모아 둔 메일을 실제로 보냅니다.
+ *
+ * picobox.mail.transport 값으로 구현체를 선택합니다.
+ * - smtp (기본값): spring.mail 설정의 SMTP 서버로 보냅니다.
+ * - log: 보내지 않고 로그와 메모리에만 남깁니다. 로컬/테스트 환경에서 사용합니다.
+ */
+public interface MailTransport {
+
+    /**
+     * 메일을 한 번에 보냅니다. (SMTP는 한 연결로 전송)
+     * @return 다시 시도할 메일 목록 (비어 있으면 모두 성공)
+     */
+    List<OutboundMail> send(List<OutboundMail> mails);
+}
@@ -0,0 +1,31 @@
+package com.uos.picobox.global.mail;
+
+import lombok.Getter;
+
+/**
+ * 발송 대기 중인 메일입니다. 본문은 큐에 넣기 전에 완성된 HTML입니다.
+ */
+@Getter
+public class OutboundMail {
+
+    private final String to;
+    private final String subject;
+    private final String htmlBody;
+    // 지금까지 발송을 시도한 횟수
+    private final int attempts;
+
+    public OutboundMail(String to, String subject, String htmlBody) {
+        this(to, subject, htmlBody, 0);
+    }
+
+    private OutboundMail(String to, String subject, String htmlBody, int attempts) {
+        this.to = to;
+        this.subject = subject;
+        this.htmlBody = htmlBody;
+        this.attempts = attempts;
+    }
+
+    OutboundMail nextAttempt() {
+        return new OutboundMail(to, subject, htmlBody, attempts + 1);
+    }
+}
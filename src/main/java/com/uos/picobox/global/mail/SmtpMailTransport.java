@@ -0,0 +1,69 @@
+package com.uos.picobox.global.mail;
+
+import com.uos.picobox.global.utils.EmailUtils;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * SMTP 서버로 메일을 보내는 MailTransport 구현체입니다.
+ * JavaMailSender.send(MimeMessage...)는 한 번의 호출에서 연결(Transport) 하나로 모든 메일을 보내므로, 메일마다 연결과 인증을 반복하지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "picobox.mail.transport", havingValue = "smtp", matchIfMissing = true)
+public class SmtpMailTransport implements MailTransport {
+
+    private final JavaMailSender mailSender;
+    private final EmailUtils emailUtils;
+
+    @Override
+    public List<OutboundMail> send(List<OutboundMail> mails) {
+        Map<MimeMessage, OutboundMail> mailsByMessage = new IdentityHashMap<>();
+        for (OutboundMail mail : mails) {
+            try {
+                mailsByMessage.put(emailUtils.createMail(mail.getTo(), mail.getSubject(), mail.getHtmlBody()), mail);
+            } catch (MessagingException e) {
+                // 주소 형식 오류 등은 다시 시도해도 실패하므로 버립니다.
+                log.error("메일 생성 실패, 발송하지 않습니다: {}", mail.getTo(), e);
+            }
+        }
+        if (mailsByMessage.isEmpty()) {
+            return List.of();
+        }
+        try {
+            mailSender.send(mailsByMessage.keySet().toArray(new MimeMessage[0]));
+            return List.of();
+        } catch (MailSendException e) {
+            // 실패한 메일만 다시 시도합니다. (실패 목록이 없으면 연결 자체가 실패한 것)
+            if (e.getFailedMessages().isEmpty()) {
+                log.warn("SMTP 연결 실패: {}", e.getMessage());
+                return new ArrayList<>(mailsByMessage.values());
+            }
+            List<OutboundMail> failedMails = new ArrayList<>();
+            e.getFailedMessages().forEach((message, cause) -> {
+                OutboundMail mail = mailsByMessage.get(message);
+                if (mail != null) {
+                    log.warn("메일 발송 실패: {} ({})", mail.getTo(), cause.getMessage());
+                    failedMails.add(mail);
+                }
+            });
+            return failedMails;
+        } catch (MailException e) {
+            log.warn("메일 발송 실패: {}", e.getMessage());
+            return new ArrayList<>(mailsByMessage.values());
+        }
+    }
+}
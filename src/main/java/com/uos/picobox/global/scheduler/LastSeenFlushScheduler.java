@@ -0,0 +1,37 @@
+package com.uos.picobox.global.scheduler;
+
+import com.uos.picobox.global.session.LastSeenRecorder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LastSeenFlushScheduler {
+
+    private final LastSeenRecorder lastSeenRecorder;
+
+    /**
+     * 1분마다 모아 둔 회원/관리자 최근 접속 시각을 DB에 저장합니다.
+     */
+    @Scheduled(fixedDelay = 60000) // 1분마다 실행
+    public void flushLastSeen() {
+        try {
+            lastSeenRecorder.flush();
+        } catch (Exception e) {
+            log.error("최근 접속 시각 저장 중 오류 발생, 다음 주기에 다시 저장합니다.", e);
+        }
+    }
+
+    /**
+     * 서버 종료 시 아직 저장하지 않은 최근 접속 시각을 저장합니다.
+     */
+    @EventListener(ContextClosedEvent.class)
+    public void flushOnShutdown() {
+        flushLastSeen();
+    }
+}
@@ -0,0 +1,27 @@
+package com.uos.picobox.global.scheduler;
+
+import com.uos.picobox.global.session.SessionStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SessionTouchFlushScheduler {
+
+    private final SessionStore sessionStore;
+
+    /**
+     * 5초마다 near-cache에서 조회된 세션의 만료 연장을 세션 저장소에 한 번에 반영합니다.
+     */
+    @Scheduled(fixedDelay = 5000) // 5초마다 실행
+    public void flushTouches() {
+        try {
+            sessionStore.flushTouches();
+        } catch (Exception e) {
+            log.error("세션 만료 연장 반영 중 오류 발생, 다음 주기에 다시 모아 반영합니다.", e);
+        }
+    }
+}
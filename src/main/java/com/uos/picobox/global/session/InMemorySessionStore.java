@@ -0,0 +1,77 @@
+package com.uos.picobox.global.session;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 애플리케이션 메모리에 세션을 보관하는 SessionStore 구현체입니다.
+ * 세션마다 TTL이 다르므로(회원/관리자) Caffeine의 엔트리별 만료를 사용하고, 조회할 때마다 만료 시점을 다시 계산합니다.
+ */
+@Component
+@ConditionalOnProperty(name = "picobox.session.store", havingValue = "memory", matchIfMissing = true)
+public class InMemorySessionStore implements SessionStore {
+
+    private final Cache<String, StoredSession> sessions = Caffeine.newBuilder()
+            .expireAfter(new Expiry<String, StoredSession>() {
+                @Override
+                public long expireAfterCreate(String key, StoredSession session, long currentTime) {
+                    return session.ttl.toNanos();
+                }
+
+                @Override
+                public long expireAfterUpdate(String key, StoredSession session, long currentTime, long currentDuration) {
+                    return session.ttl.toNanos();
+                }
+
+                @Override
+                public long expireAfterRead(String key, StoredSession session, long currentTime, long currentDuration) {
+                    return session.ttl.toNanos(); // 조회할 때마다 만료 시점을 늦춥니다.
+                }
+            })
+            .build();
+
+    @Override
+    public void save(String namespace, String sessionId, SessionPrincipal principal, Duration ttl) {
+        sessions.put(keyOf(namespace, sessionId), new StoredSession(principal, ttl));
+    }
+
+    @Override
+    public SessionPrincipal find(String namespace, String sessionId, Duration ttl) {
+        StoredSession session = sessions.getIfPresent(keyOf(namespace, sessionId));
+        return session == null ? null : session.principal;
+    }
+
+    @Override
+    public SessionPrincipal remove(String namespace, String sessionId) {
+        StoredSession session = sessions.asMap().remove(keyOf(namespace, sessionId));
+        return session == null ? null : session.principal;
+    }
+
+    @Override
+    public void removeAll(String namespace, SessionPrincipal.Type type, Long id) {
+        // 탈퇴 시에만 호출되므로 별도 색인 없이 전체 세션을 한 번 훑습니다.
+        String prefix = namespace + ":";
+        sessions.asMap().entrySet().removeIf(entry -> entry.getKey().startsWith(prefix)
+                && entry.getValue().principal.getType() == type
+                && entry.getValue().principal.getId().equals(id));
+    }
+
+    private static String keyOf(String namespace, String sessionId) {
+        return namespace + ":" + sessionId;
+    }
+
+    private static class StoredSession {
+        private final SessionPrincipal principal;
+        private final Duration ttl;
+
+        private StoredSession(SessionPrincipal principal, Duration ttl) {
+            this.principal = principal;
+            this.ttl = ttl;
+        }
+    }
+}
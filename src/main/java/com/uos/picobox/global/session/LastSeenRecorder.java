@@ -0,0 +1,98 @@
+package com.uos.picobox.global.session;
+
+import com.uos.picobox.admin.repository.AdminRepository;
+import com.uos.picobox.global.utils.TransactionUtils;
+import com.uos.picobox.user.repository.CustomerRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+
+/**
+ * 회원/관리자의 최근 접속 시각(LAST_LOGIN_AT)을 모아 두었다가 한 번에 저장합니다.
+ * 로그인과 인증된 요청마다 메모리에만 기록하고, LastSeenFlushScheduler가 주기적으로 분 단위로 묶어 UPDATE 합니다.
+ * (같은 분에 접속한 계정은 UPDATE ... WHERE ID IN (...) 한 번으로 저장)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LastSeenRecorder {
+
+    // Oracle IN 절 최대 항목 수
+    private static final int MAX_IN_SIZE = 1000;
+
+    private final CustomerRepository customerRepository;
+    private final AdminRepository adminRepository;
+
+    private final Map<Long, LocalDateTime> customerLastSeen = new ConcurrentHashMap<>();
+    private final Map<Long, LocalDateTime> adminLastSeen = new ConcurrentHashMap<>();
+
+    public void record(SessionPrincipal principal, LocalDateTime seenAt) {
+        switch (principal.getType()) {
+            case CUSTOMER -> customerLastSeen.put(principal.getId(), seenAt);
+            case ADMIN -> adminLastSeen.put(principal.getId(), seenAt);
+            default -> {
+                // 비회원은 접속 시각을 저장하지 않습니다.
+            }
+        }
+    }
+
+    /**
+     * 모아 둔 접속 시각을 저장합니다. 저장 중 들어온 기록은 다음 저장 때 반영됩니다.
+     * 저장이 실패해 롤백되면 꺼낸 기록을 되돌려 다음 저장 때 다시 시도합니다. (그 사이 들어온 더 늦은 기록은 유지)
+     */
+    @Transactional
+    public void flush() {
+        Map<Long, LocalDateTime> customers = drain(customerLastSeen);
+        Map<Long, LocalDateTime> admins = drain(adminLastSeen);
+        TransactionUtils.afterRollback(() -> {
+            restore(customerLastSeen, customers);
+            restore(adminLastSeen, admins);
+        });
+        int customerCount = save(customers, customerRepository::updateLastLoginAtByIdIn);
+        int adminCount = save(admins, adminRepository::updateLastLoginAtByIdIn);
+        if (customerCount + adminCount > 0) {
+            log.debug("최근 접속 시각 저장: 회원 {}명, 관리자 {}명", customerCount, adminCount);
+        }
+    }
+
+    private static Map<Long, LocalDateTime> drain(Map<Long, LocalDateTime> lastSeen) {
+        Map<Long, LocalDateTime> drained = new HashMap<>();
+        for (Long id : lastSeen.keySet()) {
+            LocalDateTime seenAt = lastSeen.remove(id);
+            if (seenAt != null) {
+                drained.put(id, seenAt);
+            }
+        }
+        return drained;
+    }
+
+    private static void restore(Map<Long, LocalDateTime> lastSeen, Map<Long, LocalDateTime> drained) {
+        drained.forEach((id, seenAt) -> lastSeen.merge(id, seenAt,
+                (current, previous) -> current.isAfter(previous) ? current : previous));
+    }
+
+    private static int save(Map<Long, LocalDateTime> lastSeen, BiFunction<List<Long>, LocalDateTime, Integer> update) {
+        Map<LocalDateTime, List<Long>> idsByMinute = new HashMap<>();
+        lastSeen.forEach((id, seenAt) ->
+                idsByMinute.computeIfAbsent(seenAt.truncatedTo(ChronoUnit.MINUTES), minute -> new ArrayList<>()).add(id));
+        int count = 0;
+        for (Map.Entry<LocalDateTime, List<Long>> entry : idsByMinute.entrySet()) {
+            List<Long> ids = entry.getValue();
+            for (int from = 0; from < ids.size(); from += MAX_IN_SIZE) {
+                update.apply(ids.subList(from, Math.min(from + MAX_IN_SIZE, ids.size())), entry.getKey());
+            }
+            count += ids.size();
+        }
+        return count;
+    }
+}
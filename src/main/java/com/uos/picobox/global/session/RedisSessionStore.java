@@ -0,0 +1,145 @@
+package com.uos.picobox.global.session;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Redis에 세션을 보관하는 SessionStore 구현체입니다.
+ * "session:{구분}:{세션 ID}" 키에 SessionPrincipal.serialize() 문자열을 저장하고 PX로 TTL을 지정합니다.
+ *
+ * - 앞단의 near-cache(서버 메모리, NEAR_CACHE_TTL)가 자주 쓰이는 세션을 보관하여 대부분의 인증 요청은 Redis를 거치지 않습니다.
+ * - near-cache에서 조회한 세션의 만료 연장은 모아 두었다가 SessionTouchFlushScheduler가 pipeline으로 한 번에 반영합니다.
+ * - 다른 서버에서 로그아웃한 세션은 이 서버의 near-cache에서 최대 NEAR_CACHE_TTL 동안 더 유효할 수 있습니다.
+ * - 계정별 세션 키는 "session-account:{구분}:{유형}:{ID}" Set에 모아 두어, 탈퇴 시 다른 기기의 세션까지 한 번에 삭제합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "picobox.session.store", havingValue = "redis")
+public class RedisSessionStore implements SessionStore {
+
+    private static final String KEY_PREFIX = "session:";
+    private static final String ACCOUNT_KEY_PREFIX = "session-account:";
+    // 계정별 세션 색인 유지 시간. 어떤 세션의 최대 유지 시간보다 길게 두고 로그인할 때마다 다시 연장합니다.
+    private static final Duration ACCOUNT_INDEX_TTL = Duration.ofDays(1);
+    private static final Duration NEAR_CACHE_TTL = Duration.ofSeconds(10);
+    private static final int NEAR_CACHE_MAX_SIZE = 10_000;
+
+    private final StringRedisTemplate redisTemplate;
+
+    private final Cache<String, SessionPrincipal> nearCache = Caffeine.newBuilder()
+            .maximumSize(NEAR_CACHE_MAX_SIZE)
+            .expireAfterWrite(NEAR_CACHE_TTL)
+            .build();
+    // 아직 Redis에 반영하지 않은 만료 연장 (키 → TTL)
+    private final Map<String, Duration> pendingTouches = new ConcurrentHashMap<>();
+
+    @Override
+    public void save(String namespace, String sessionId, SessionPrincipal principal, Duration ttl) {
+        String key = keyOf(namespace, sessionId);
+        redisTemplate.opsForValue().set(key, principal.serialize(), ttl);
+        String accountKey = accountKeyOf(namespace, principal.getType(), principal.getId());
+        redisTemplate.opsForSet().add(accountKey, key);
+        redisTemplate.expire(accountKey, ACCOUNT_INDEX_TTL);
+        nearCache.put(key, principal);
+    }
+
+    @Override
+    public SessionPrincipal find(String namespace, String sessionId, Duration ttl) {
+        String key = keyOf(namespace, sessionId);
+        SessionPrincipal principal = nearCache.getIfPresent(key);
+        if (principal != null) {
+            pendingTouches.put(key, ttl);
+            return principal;
+        }
+        // GETEX로 조회와 만료 연장을 한 번에 처리합니다.
+        String value = redisTemplate.opsForValue().getAndExpire(key, ttl);
+        if (value == null) {
+            return null;
+        }
+        principal = SessionPrincipal.deserialize(value);
+        nearCache.put(key, principal);
+        return principal;
+    }
+
+    @Override
+    public SessionPrincipal remove(String namespace, String sessionId) {
+        String key = keyOf(namespace, sessionId);
+        nearCache.invalidate(key);
+        pendingTouches.remove(key);
+        String value = redisTemplate.opsForValue().getAndDelete(key);
+        if (value == null) {
+            return null;
+        }
+        SessionPrincipal principal = SessionPrincipal.deserialize(value);
+        redisTemplate.opsForSet().remove(accountKeyOf(namespace, principal.getType(), principal.getId()), key);
+        return principal;
+    }
+
+    @Override
+    public void removeAll(String namespace, SessionPrincipal.Type type, Long id) {
+        String accountKey = accountKeyOf(namespace, type, id);
+        Set<String> keys = redisTemplate.opsForSet().members(accountKey);
+        List<String> keysToDelete = new ArrayList<>();
+        if (keys != null) {
+            keysToDelete.addAll(keys);
+        }
+        keysToDelete.forEach(key -> {
+            nearCache.invalidate(key);
+            pendingTouches.remove(key);
+        });
+        keysToDelete.add(accountKey);
+        // 이미 만료된 세션 키는 색인에만 남아 있을 수 있으며, 삭제해도 아무 일도 일어나지 않습니다.
+        Long deletedCount = redisTemplate.delete(keysToDelete);
+        log.debug("계정 세션을 모두 삭제했습니다: {} (키 {}개)", accountKey, deletedCount);
+    }
+
+    @Override
+    public void flushTouches() {
+        if (pendingTouches.isEmpty()) {
+            return;
+        }
+        List<Map.Entry<String, Duration>> touches = new ArrayList<>();
+        for (String key : pendingTouches.keySet()) {
+            Duration ttl = pendingTouches.remove(key);
+            if (ttl != null) {
+                touches.add(Map.entry(key, ttl));
+            }
+        }
+        // 이미 만료되었거나 로그아웃한 키에 대한 PEXPIRE는 아무 것도 하지 않으므로 세션이 되살아나지 않습니다.
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            touchAll(connection, touches);
+            return null;
+        });
+        log.debug("세션 만료 연장 {}건을 Redis에 반영했습니다.", touches.size());
+    }
+
+    private static void touchAll(RedisConnection connection, List<Map.Entry<String, Duration>> touches) {
+        for (Map.Entry<String, Duration> touch : touches) {
+            connection.keyCommands().pExpire(touch.getKey().getBytes(StandardCharsets.UTF_8), touch.getValue().toMillis());
+        }
+    }
+
+    private static String keyOf(String namespace, String sessionId) {
+        return KEY_PREFIX + namespace + ":" + sessionId;
+    }
+
+    private static String accountKeyOf(String namespace, SessionPrincipal.Type type, Long id) {
+        return ACCOUNT_KEY_PREFIX + namespace + ":" + type.getCode() + ":" + id;
+    }
+}
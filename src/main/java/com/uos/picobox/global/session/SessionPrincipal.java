@@ -0,0 +1,94 @@
+package com.uos.picobox.global.session;
+
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * 세션 저장소에 보관하는 로그인 주체입니다.
+ * 로그인 시점에 ID와 권한을 한 번만 확정하므로, 인증된 요청은 DB 조회 없이 이 객체를 Authentication의 principal로 사용합니다.
+ */
+@Getter
+public class SessionPrincipal implements Serializable {
+
+    @Getter
+    public enum Type {
+        CUSTOMER("customer", "CUSTOMER", 'C'),
+        GUEST("guest", "GUEST", 'G'),
+        ADMIN("admin", "ADMIN", 'A');
+
+        // 서비스 계층에서 사용하는 사용자 구분 값 (customer, guest, admin)
+        private final String value;
+        private final List<GrantedAuthority> authorities;
+        // 직렬화용 한 글자 코드
+        private final char code;
+
+        Type(String value, String role, char code) {
+            this.value = value;
+            this.authorities = List.of(new SimpleGrantedAuthority(role));
+            this.code = code;
+        }
+
+        private static Type ofCode(char code) {
+            for (Type type : values()) {
+                if (type.code == code) {
+                    return type;
+                }
+            }
+            throw new IllegalArgumentException("잘못된 session 정보입니다.");
+        }
+    }
+
+    private final Type type;
+    // 회원/비회원/관리자 ID
+    private final Long id;
+    // 회원/관리자는 로그인 ID, 비회원은 이메일
+    private final String name;
+    // 로그인 시각 (epoch millis). 슬라이딩 만료와 관계없이 세션의 최대 유지 시간을 계산하는 기준입니다.
+    private final long issuedAt;
+
+    private SessionPrincipal(Type type, Long id, String name, long issuedAt) {
+        this.type = type;
+        this.id = id;
+        this.name = name;
+        this.issuedAt = issuedAt;
+    }
+
+    public static SessionPrincipal customer(Long customerId, String loginId) {
+        return new SessionPrincipal(Type.CUSTOMER, customerId, loginId, System.currentTimeMillis());
+    }
+
+    public static SessionPrincipal guest(Long guestId, String email) {
+        return new SessionPrincipal(Type.GUEST, guestId, email, System.currentTimeMillis());
+    }
+
+    public static SessionPrincipal admin(Long adminId, String loginId) {
+        return new SessionPrincipal(Type.ADMIN, adminId, loginId, System.currentTimeMillis());
+    }
+
+    /**
+     * 외부 저장소에 보관할 짧은 문자열로 변환합니다. (예: "C:12:1718000000000:picobox01")
+     */
+    public String serialize() {
+        return type.code + ":" + id + ":" + issuedAt + ":" + name;
+    }
+
+    public static SessionPrincipal deserialize(String value) {
+        String[] parts = value.split(":", 4);
+        if (parts.length != 4 || parts[0].length() != 1) {
+            throw new IllegalArgumentException("잘못된 session 정보입니다.");
+        }
+        return new SessionPrincipal(Type.ofCode(parts[0].charAt(0)), Long.valueOf(parts[1]), parts[3], Long.parseLong(parts[2]));
+    }
+
+    public List<GrantedAuthority> getAuthorities() {
+        return type.getAuthorities();
+    }
+
+    public boolean isCustomer() {
+        return type == Type.CUSTOMER;
+    }
+}
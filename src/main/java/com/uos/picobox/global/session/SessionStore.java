@@ -0,0 +1,41 @@
+package com.uos.picobox.global.session;
+
+import java.time.Duration;
+
+/**
+ * 로그인 세션(세션 ID → SessionPrincipal)을 보관합니다.
+ * 세션은 마지막으로 조회된 시점부터 TTL 동안 유지되며(슬라이딩 만료), 그동안 조회가 없으면 저장소에서 스스로 사라집니다.
+ *
+ * picobox.session.store 값으로 구현체를 선택합니다.
+ * - memory (기본값): 애플리케이션 메모리에 보관합니다. 서버가 한 대이거나 테스트 환경에서 사용합니다.
+ * - redis: Redis에 보관하여 여러 서버가 같은 세션을 공유하고, 서버를 재시작해도 로그인이 유지됩니다.
+ */
+public interface SessionStore {
+
+    /**
+     * @param namespace 세션 구분 (userSession, adminSession)
+     */
+    void save(String namespace, String sessionId, SessionPrincipal principal, Duration ttl);
+
+    /**
+     * 세션을 조회하고 만료 시점을 조회 시점 + ttl로 늦춥니다.
+     * @return 로그인 주체 (없거나 만료되었으면 null)
+     */
+    SessionPrincipal find(String namespace, String sessionId, Duration ttl);
+
+    /**
+     * @return 삭제한 세션의 로그인 주체 (없거나 만료되었으면 null)
+     */
+    SessionPrincipal remove(String namespace, String sessionId);
+
+    /**
+     * 한 계정(type, id)의 세션을 모두 삭제합니다. 탈퇴처럼 다른 기기에서 로그인한 세션까지 끊어야 할 때 사용합니다.
+     */
+    void removeAll(String namespace, SessionPrincipal.Type type, Long id);
+
+    /**
+     * 모아 둔 만료 연장을 저장소에 반영합니다. 조회할 때 바로 연장하는 구현체는 아무 것도 하지 않습니다.
+     */
+    default void flushTouches() {
+    }
+}
@@ -28,10 +28,6 @@ public class EmailUtils {
         return message;
     }
 
-    public void sendMail(MimeMessage message) {
-        mailSender.send(message);
-    }
-
     public String createAuthCode() {
         int CODE_LENGTH = 6;
         Random random = new Random();
@@ -0,0 +1,85 @@
+package com.uos.picobox.global.utils;
+
+import java.util.Arrays;
+
+public class HangulUtils {
+    private static final char[] CHOSUNG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ', 'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+    private static final char SYLLABLE_BEGIN = '가';
+    private static final char SYLLABLE_END = '힣';
+    // 종성 수 (받침 없음 포함)
+    private static final int JONGSUNG_COUNT = 28;
+    // 초성 하나에 딸린 음절 수 (중성 21 × 종성 28)
+    private static final int SYLLABLES_PER_CHOSUNG = 21 * JONGSUNG_COUNT;
+
+    /** 검색용으로 소문자로 바꾸고 공백/기호를 제거합니다. (예: "범죄도시 4" → "범죄도시4") */
+    public static String normalize(String text) {
+        StringBuilder normalized = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                normalized.append(Character.toLowerCase(c));
+            }
+        }
+        return normalized.toString();
+    }
+
+    /** 한글 음절을 초성으로 바꾼 문자열을 반환합니다. 한글 음절이 아닌 글자는 그대로 둡니다. (예: "범죄도시4" → "ㅂㅈㄷㅅ4") */
+    public static String toChosung(String text) {
+        StringBuilder chosung = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            chosung.append(chosungOf(text.charAt(i)));
+        }
+        return chosung.toString();
+    }
+
+    /** 한글 음절이면 초성을, 아니면 글자를 그대로 반환합니다. */
+    public static char chosungOf(char c) {
+        if (!isSyllable(c)) {
+            return c;
+        }
+        return CHOSUNG[(c - SYLLABLE_BEGIN) / SYLLABLES_PER_CHOSUNG];
+    }
+
+    /** 초성으로 쓰이는 한글 자음(ㄱ~ㅎ)인지 확인합니다. */
+    public static boolean isChosung(char c) {
+        return Arrays.binarySearch(CHOSUNG, c) >= 0;
+    }
+
+    public static boolean containsChosung(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (isChosung(text.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** 검색어 글자가 대상 글자와 일치하는지 확인합니다. 검색어 글자가 초성이면 대상 글자의 초성과 비교합니다. (예: 'ㅂ'은 '범'과 일치) */
+    public static boolean matches(char queryChar, char targetChar) {
+        return queryChar == targetChar || isChosung(queryChar) && chosungOf(targetChar) == queryChar;
+    }
+
+    /**
+     * 입력 중인 마지막 글자를 비교합니다. matches에 더해 받침 없는 글자는 초성/중성이 같은 받침 있는 글자와도 일치합니다.
+     * (예: "범" 입력 도중의 '버'는 '범'과 일치)
+     */
+    public static boolean matchesTyping(char queryChar, char targetChar) {
+        if (matches(queryChar, targetChar)) {
+            return true;
+        }
+        return isSyllable(queryChar) && isSyllable(targetChar)
+                && (queryChar - SYLLABLE_BEGIN) % JONGSUNG_COUNT == 0
+                && (queryChar - SYLLABLE_BEGIN) / JONGSUNG_COUNT == (targetChar - SYLLABLE_BEGIN) / JONGSUNG_COUNT;
+    }
+
+    /** 초성만으로 일치하거나 받침이 덧붙을 수 있어 여러 글자와 일치할 수 있는 글자인지 확인합니다. */
+    public static boolean matchesMany(char queryChar, boolean typing) {
+        return isChosung(queryChar) || typing && isSyllable(queryChar) && (queryChar - SYLLABLE_BEGIN) % JONGSUNG_COUNT == 0;
+    }
+
+    private static boolean isSyllable(char c) {
+        return c >= SYLLABLE_BEGIN && c <= SYLLABLE_END;
+    }
+}
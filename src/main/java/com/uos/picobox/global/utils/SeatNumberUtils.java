@@ -0,0 +1,37 @@
+package com.uos.picobox.global.utils;
+
+import java.util.Comparator;
+
+public class SeatNumberUtils {
+    /** 행 → 열 순서로 좌석 번호를 비교합니다. (A2가 A10보다 앞, Z 다음에 AA) */
+    public static final Comparator<String> NATURAL_ORDER = Comparator
+            .comparing(SeatNumberUtils::rowOf, Comparator.comparingInt(String::length).thenComparing(Comparator.naturalOrder()))
+            .thenComparingInt(SeatNumberUtils::columnOf)
+            .thenComparing(Comparator.naturalOrder());
+
+    /** 좌석 번호의 행 식별자를 반환합니다. (예: "A12" → "A") */
+    public static String rowOf(String seatNumber) {
+        return seatNumber.substring(0, digitStart(seatNumber));
+    }
+
+    /** 좌석 번호의 열 번호를 반환합니다. 숫자 부분이 없으면 0 입니다. (예: "A12" → 12) */
+    public static int columnOf(String seatNumber) {
+        int start = digitStart(seatNumber);
+        if (start == seatNumber.length()) {
+            return 0;
+        }
+        try {
+            return Integer.parseInt(seatNumber.substring(start));
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private static int digitStart(String seatNumber) {
+        int index = seatNumber.length();
+        while (index > 0 && Character.isDigit(seatNumber.charAt(index - 1))) {
+            index--;
+        }
+        return index;
+    }
+}
@@ -1,16 +1,17 @@
 package com.uos.picobox.global.utils;
 
-import com.uos.picobox.admin.service.AdminDeleteService;
-import com.uos.picobox.user.service.FindIdSevice;
+import com.uos.picobox.global.session.LastSeenRecorder;
+import com.uos.picobox.global.session.SessionPrincipal;
+import com.uos.picobox.global.session.SessionStore;
 import lombok.RequiredArgsConstructor;
-import org.springframework.cache.Cache;
-import org.springframework.cache.CacheManager;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Component;
 
-import java.io.Serializable;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.util.Map;
 import java.util.Objects;
@@ -18,136 +19,133 @@ import java.util.Objects;
 @Component
 @RequiredArgsConstructor
 public class SessionUtils {
-    private final CacheManager cacheManager;
-    private final FindIdSevice findIdSevice;
-    private final AdminDeleteService adminDeleteService;
+    private static final DateTimeFormatter EXPIRATION_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
 
-    public Map<String, String> createSession(String cacheName, String value) {
-        String sessionId = java.util.UUID.randomUUID().toString();
-        Cache cache = cacheManager.getCache(cacheName);
-        Objects.requireNonNull(cache).put(sessionId, value);
+    // 세션 구분별 유지 시간: 마지막 요청 이후 idleTimeout 동안 유지되며, 로그인 이후 maxLifetime이 지나면 요청이 있어도 만료됩니다.
+    private static final Map<String, SessionPolicy> SESSION_POLICIES = Map.of(
+            "userSession", new SessionPolicy(Duration.ofHours(1), Duration.ofHours(12)),
+            "adminSession", new SessionPolicy(Duration.ofHours(6), Duration.ofHours(12))
+    );
+
+    private final SessionStore sessionStore;
+    private final LastSeenRecorder lastSeenRecorder;
 
-        String expiration = LocalDateTime.now()
-                .plusHours(1)
-                .format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"));
+    public Map<String, String> createSession(String cacheName, SessionPrincipal principal) {
+        String sessionId = java.util.UUID.randomUUID().toString();
+        SessionPolicy policy = policyOf(cacheName);
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime expiration = policy.expirationOf(principal, now);
+        sessionStore.save(cacheName, sessionId, principal, Duration.between(now, expiration));
+        lastSeenRecorder.record(principal, now);
 
         return Map.of(
                 "sessionId", sessionId,
-                "expiration", expiration
+                "expiration", expiration.format(EXPIRATION_FORMAT)
         );
     }
 
     public Map<String, String> evictSession(String cacheName, String sessionId) {
-        Cache cache = cacheManager.getCache(cacheName);
-        Cache.ValueWrapper wrapper = Objects.requireNonNull(cache).get(sessionId);
-        if (Objects.isNull(wrapper)) {
+        SessionPrincipal principal = sessionStore.remove(cacheName, sessionId);
+        if (Objects.isNull(principal)) {
             throw new IllegalArgumentException("잘못된 session이거나 이미 만료된 session입니다.");
         }
-        cache.evict(sessionId);
 
-        String value = (String) wrapper.get();
-        String[] parts = Objects.requireNonNull(value).split(":", 2);
-        String type = parts[0];
-        String realValue = parts[1];
         LocalDateTime expirationTime = LocalDateTime.now();
-        String formattedExpiration = expirationTime.format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"));
+        String formattedExpiration = expirationTime.format(EXPIRATION_FORMAT);
         return Map.of(
-                "type", type,
-                "value", realValue,
+                "type", principal.getType().getValue(),
+                "value", principal.getName(),
                 "expiration", formattedExpiration
         );
     }
 
-    public String existSession(String cacheName, String sessionId) {
-        Cache cache = cacheManager.getCache(cacheName);
-        Cache.ValueWrapper wrapper = Objects.requireNonNull(cache).get(sessionId);
-        if (Objects.isNull(wrapper)) {
+    /**
+     * 로그인 주체의 계정으로 만든 세션을 모두 만료시킵니다. (탈퇴 시 다른 기기의 세션까지 삭제)
+     */
+    public void evictAllSessions(String cacheName, SessionPrincipal principal) {
+        sessionStore.removeAll(cacheName, principal.getType(), principal.getId());
+    }
+
+    /**
+     * 세션을 조회하고 만료 시점을 지금부터 idleTimeout 뒤로 늦춥니다. 로그인 후 maxLifetime이 지난 세션은 삭제합니다.
+     * 최근 접속 시각은 메모리에만 기록하고 LastSeenRecorder가 모아서 저장합니다.
+     */
+    public SessionPrincipal existSession(String cacheName, String sessionId) {
+        SessionPolicy policy = policyOf(cacheName);
+        SessionPrincipal principal = sessionStore.find(cacheName, sessionId, policy.idleTimeout);
+        if (Objects.isNull(principal)) {
+            throw new IllegalArgumentException("잘못된 session이거나 이미 만료된 session입니다.");
+        }
+        if (policy.isPastMaxLifetime(principal)) {
+            sessionStore.remove(cacheName, sessionId);
             throw new IllegalArgumentException("잘못된 session이거나 이미 만료된 session입니다.");
         }
-        String value = (String) wrapper.get();
-        return Objects.requireNonNull(value);
+        lastSeenRecorder.record(principal, LocalDateTime.now());
+        return principal;
     }
 
-    public Map<String, String> splitSessionValue(String value) {
-        String[] parts = Objects.requireNonNull(value).split(":", 2);
-        String type = parts[0];
-        String realValue = parts[1];
-        return Map.of(
-                "type", type,
-                "value", realValue
-        );
+    private static SessionPolicy policyOf(String cacheName) {
+        return Objects.requireNonNull(SESSION_POLICIES.get(cacheName), "존재하지 않는 session 구분입니다: " + cacheName);
     }
 
-    public Map<String, Object> findSessionInfoByAuthentication(Authentication authentication) {
-        String value = (String) authentication.getPrincipal();
-        Map<String, String> sessionInfo = splitSessionValue(value);
-        String type = sessionInfo.get("type");
-        Long id;
-        if (type.equals("customer")) {
-            String loginId = sessionInfo.get("value");
-            id = findIdSevice.findCustomerIdByLoginId(loginId);
-        }
-        else if (type.equals("guest")) {
-            String email = sessionInfo.get("value");
-            id = findIdSevice.findGuestIdByEmail(email);
-        }
-        else {
+    /**
+     * SessionFilter가 넣어 둔 로그인 주체를 반환합니다. (DB 조회 없음)
+     */
+    public SessionPrincipal findSessionInfoByAuthentication(Authentication authentication) {
+        if (!(authentication.getPrincipal() instanceof SessionPrincipal principal)) {
             throw new IllegalArgumentException("잘못된 session 정보입니다.");
         }
-        return Map.of(
-                "type", type,
-                "id", id
-        );
+        return principal;
     }
 
     public Long findCustomerIdByAuthentication(Authentication authentication) {
-        String value = (String) authentication.getPrincipal();
-        Map<String, String> sessionInfo = splitSessionValue(value);
-        String type = sessionInfo.get("type");
-        Long id;
-        if (type.equals("customer")) {
-            String loginId = sessionInfo.get("value");
-            id = findIdSevice.findCustomerIdByLoginId(loginId);
-        }
-        else if (type.equals("guest")) {
-            /*
-            String email = sessionInfo.get("value");
-            id = findIdSevice.findGuestIdByEmail(email);
-             */
-            throw new AccessDeniedException("비회원은 회원 관련 기능을 이용할 수 없습니다. 회원가입을 해주세요.");
-        }
-        else {
-            throw new IllegalArgumentException("잘못된 session 정보입니다.");
+        SessionPrincipal principal = findSessionInfoByAuthentication(authentication);
+        switch (principal.getType()) {
+            case CUSTOMER:
+                return principal.getId();
+            case GUEST:
+                throw new AccessDeniedException("비회원은 회원 관련 기능을 이용할 수 없습니다. 회원가입을 해주세요.");
+            default:
+                throw new IllegalArgumentException("잘못된 session 정보입니다.");
         }
-        return id;
     }
 
     public Long findAdminIdByAuthentication(Authentication authentication) {
-        String value = (String) authentication.getPrincipal();
-        Map<String, String> sessionInfo = splitSessionValue(value);
-        String type = sessionInfo.get("type");
-        Long id;
-        if (type.equals("admin")) {
-            String loginId = sessionInfo.get("value");
-            id = adminDeleteService.findAdminIdByLoginId(loginId);
+        SessionPrincipal principal = findSessionInfoByAuthentication(authentication);
+        switch (principal.getType()) {
+            case ADMIN:
+                return principal.getId();
+            case CUSTOMER:
+                throw new AccessDeniedException("회원은 관리자 기능을 이용할 수 없습니다.");
+            case GUEST:
+                throw new AccessDeniedException("비회원은 관리자 기능을 이용할 수 없습니다.");
+            default:
+                throw new IllegalArgumentException("잘못된 session 정보입니다.");
+        }
+    }
+
+    private static class SessionPolicy {
+        private final Duration idleTimeout;
+        private final Duration maxLifetime;
+
+        private SessionPolicy(Duration idleTimeout, Duration maxLifetime) {
+            this.idleTimeout = idleTimeout;
+            this.maxLifetime = maxLifetime;
         }
-        else if (type.equals("customer")) {
-            /*
-            String loginId = sessionInfo.get("value");
-            id = findIdSevice.findCustomerIdByLoginId(loginId);
-            */
-            throw new AccessDeniedException("회원은 관리자 기능을 이용할 수 없습니다.");
+
+        // now에 요청이 들어온 뒤 추가 요청이 없을 때의 만료 시각
+        private LocalDateTime expirationOf(SessionPrincipal principal, LocalDateTime now) {
+            LocalDateTime idleExpiration = now.plus(idleTimeout);
+            LocalDateTime absoluteExpiration = absoluteExpirationOf(principal);
+            return idleExpiration.isBefore(absoluteExpiration) ? idleExpiration : absoluteExpiration;
         }
-        else if (type.equals("guest")) {
-            /*
-            String email = sessionInfo.get("value");
-            id = findIdSevice.findGuestIdByEmail(email);
-             */
-            throw new AccessDeniedException("비회원은 관리자 기능을 이용할 수 없습니다.");
+
+        private boolean isPastMaxLifetime(SessionPrincipal principal) {
+            return System.currentTimeMillis() >= principal.getIssuedAt() + maxLifetime.toMillis();
         }
-        else {
-            throw new IllegalArgumentException("잘못된 session 정보입니다.");
+
+        private LocalDateTime absoluteExpirationOf(SessionPrincipal principal) {
+            return LocalDateTime.ofInstant(Instant.ofEpochMilli(principal.getIssuedAt()), ZoneId.systemDefault()).plus(maxLifetime);
         }
-        return id;
     }
 }
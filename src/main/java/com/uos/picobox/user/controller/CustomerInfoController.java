@@ -62,11 +62,11 @@ public class CustomerInfoController {
             @ApiResponse(responseCode = "500", description = "서버 에러입니다. 관리자에게 문의하세요")
     })
     @DeleteMapping("/delete")
-    public ResponseEntity<?> deleteCustomer(
-            @Parameter(hidden = true) @RequestHeader("Authorization") String sessionId,
-            Authentication authentication) {
+    public ResponseEntity<?> deleteCustomer(Authentication authentication) {
         Long customerId = sessionUtils.findCustomerIdByAuthentication(authentication);
         customerInfoService.deleteCustomerById(customerId);
+        // 세션에 회원 ID가 남아 있으므로 다른 기기에서 로그인한 세션까지 함께 만료시킵니다.
+        sessionUtils.evictAllSessions("userSession", sessionUtils.findSessionInfoByAuthentication(authentication));
         return ResponseEntity.noContent().build();
     }
 }
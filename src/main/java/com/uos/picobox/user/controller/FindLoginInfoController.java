@@ -9,7 +9,6 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import jakarta.mail.MessagingException;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -39,7 +38,7 @@ public class FindLoginInfoController {
     public ResponseEntity<?> verifyEmailForFindLoginId(
             @RequestBody
             @Valid
-            FindLoginIdRequestDto dto) throws MessagingException {
+            FindLoginIdRequestDto dto) {
         if (!customerInfoService.existsEmailAndName(dto.getEmail(), dto.getName())) {
             throw new IllegalArgumentException("존재하지 않는 이메일, 이름 정보입니다.");
         }
@@ -73,7 +72,7 @@ public class FindLoginInfoController {
     public ResponseEntity<?> verifyEmailForFindPassword(
             @RequestBody
             @Valid
-            FindPasswordRequestDto dto) throws MessagingException {
+            FindPasswordRequestDto dto) {
         if (!customerInfoService.existsLoginIdAndEmail(dto.getLoginId(), dto.getEmail())) {
             throw new IllegalArgumentException("존재하지 않는 로그인ID, 이메일 정보입니다.");
         }
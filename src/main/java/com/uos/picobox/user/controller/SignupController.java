@@ -11,7 +11,6 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import jakarta.mail.MessagingException;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
@@ -95,7 +94,7 @@ public class SignupController {
     public ResponseEntity<?> verifyEmail(
             @RequestBody
             @Valid
-            MailRequestDto mailRequestDto) throws MessagingException {
+            MailRequestDto mailRequestDto) {
         if (!signupService.isEmailAvailable(mailRequestDto.getEmail())) {
             throw new IllegalArgumentException("이미 사용 중인 이메일입니다. 다른 이메일을 입력해주세요.");
         }
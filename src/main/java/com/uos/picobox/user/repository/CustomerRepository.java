@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -44,6 +45,13 @@ public interface CustomerRepository extends JpaRepository<Customer, Long> {
     @Query("UPDATE Customer c SET c.password = :password WHERE c.email = :email")
     void updatePasswordByEmail(@Param("email") String email, @Param("password") String password);
 
+    /**
+     * 최근 접속 시각을 일괄 저장합니다. 이미 더 늦은 시각이 저장된 회원은 변경하지 않습니다.
+     */
+    @Modifying
+    @Query("UPDATE Customer c SET c.lastLoginAt = :lastLoginAt WHERE c.id IN :ids AND (c.lastLoginAt IS NULL OR c.lastLoginAt < :lastLoginAt)")
+    int updateLastLoginAtByIdIn(@Param("ids") List<Long> ids, @Param("lastLoginAt") LocalDateTime lastLoginAt);
+
     @Modifying
     @Query("DELETE FROM Customer c WHERE c.id = :id")
     void deleteById(@NonNull @Param("id") Long id);
@@ -8,12 +8,12 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Optional;
 
 @Repository
 public interface GuestRepository extends JpaRepository<Guest, Long> {
     boolean existsByEmail(String email);
-    @Query("SELECT g.password FROM Guest g WHERE g.email = :email")
-    String findPasswordByEmail(@Param("email") String email);
+    Optional<Guest> findByEmail(String email);
     @Modifying
     @Query("DELETE FROM Guest g WHERE g.expirationDate < :threshold ")
     void deleteExpiredGuests(@Param("threshold") LocalDateTime threshold);
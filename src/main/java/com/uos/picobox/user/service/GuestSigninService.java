@@ -1,8 +1,10 @@
 package com.uos.picobox.user.service;
 
+import com.uos.picobox.global.session.SessionPrincipal;
 import com.uos.picobox.global.utils.SessionUtils;
 import com.uos.picobox.user.dto.GuestSigninRequestDto;
 import com.uos.picobox.user.dto.GuestSigninResponseDto;
+import com.uos.picobox.user.entity.Guest;
 import com.uos.picobox.user.repository.GuestRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -23,7 +25,9 @@ public class GuestSigninService {
         String email = guestSigninRequestDto.getEmail();
         String password = guestSigninRequestDto.getPassword();
 
-        String storedPassword = guestRepository.findPasswordByEmail(email);
+        Guest guest = guestRepository.findByEmail(email).orElseThrow(() ->
+                new IllegalArgumentException("잘못된 이메일 혹은 비밀번호입니다."));
+        String storedPassword = guest.getPassword();
         if (storedPassword == null) {
             throw new IllegalArgumentException("잘못된 이메일 혹은 비밀번호입니다.");
         }
@@ -33,7 +37,7 @@ public class GuestSigninService {
             throw new IllegalArgumentException("잘못된 이메일 혹은 비밀번호입니다.");
         };
 
-        Map<String, String> sessionInfo = sessionUtils.createSession("userSession", "guest:" + email);
+        Map<String, String> sessionInfo = sessionUtils.createSession("userSession", SessionPrincipal.guest(guest.getId(), email));
         String sessionId = sessionInfo.get("sessionId");
         String expiration = sessionInfo.get("expiration");
 
@@ -1,5 +1,6 @@
 package com.uos.picobox.user.service;
 
+import com.uos.picobox.global.session.SessionPrincipal;
 import com.uos.picobox.global.utils.SessionUtils;
 import com.uos.picobox.user.dto.GuestSignupRequestDto;
 import com.uos.picobox.user.dto.GuestSignupResponseDto;
@@ -35,7 +36,7 @@ public class GuestSignupService {
         Guest guest = guestSignupRequestDto.toEntity(encodedPassword, expirationDate);
         guest = guestRepository.save(guest);
 
-        Map<String, String> sessionInfo = sessionUtils.createSession("userSession", "guest:" + guest.getEmail());
+        Map<String, String> sessionInfo = sessionUtils.createSession("userSession", SessionPrincipal.guest(guest.getId(), guest.getEmail()));
         String sessionId = sessionInfo.get("sessionId");
         String expiration = sessionInfo.get("expiration");
 
@@ -1,5 +1,6 @@
 package com.uos.picobox.user.service;
 
+import com.uos.picobox.global.session.SessionPrincipal;
 import com.uos.picobox.global.utils.SessionUtils;
 import com.uos.picobox.user.dto.SigninRequestDto;
 import com.uos.picobox.user.dto.SigninResponseDto;
@@ -24,7 +25,6 @@ public class SigninService {
     private final PasswordEncoder passwordEncoder;
     private final SessionUtils sessionUtils;
 
-    @Transactional
     public SigninResponseDto signinCustomer(SigninRequestDto signinRequestDto) {
         String loginId = signinRequestDto.getLoginId();
         String password = signinRequestDto.getPassword();
@@ -45,10 +45,8 @@ public class SigninService {
             throw new IllegalArgumentException("잘못된 아이디 혹은 비밀번호입니다.");
         }
 
-        // Last Login Time 업데이트.
-        customer.updateLastLoginAt();
-
-        Map<String, String> sessionInfo = sessionUtils.createSession("userSession", "customer:" + loginId);
+        // 최근 접속 시각은 세션 생성 시 기록되어 LastSeenRecorder가 모아서 저장합니다.
+        Map<String, String> sessionInfo = sessionUtils.createSession("userSession", SessionPrincipal.customer(customer.getId(), loginId));
         String sessionId = sessionInfo.get("sessionId");
         String expiration = sessionInfo.get("expiration");
 
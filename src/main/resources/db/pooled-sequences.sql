@@ -0,0 +1,24 @@
+-- SCREENING_ROOM / SEAT / SCREENING / RESERVATION / TICKET의 ID를 IDENTITY에서 시퀀스로 옮깁니다. (배포 전에 한 번 실행)
+-- 엔티티는 allocationSize = 50의 pooled 최적화를 사용하므로 Hibernate는 시퀀스에서 받은 값 n을 블록의 끝으로 보고
+-- n-49 ~ n을 ID로 사용합니다. 기존 ID와 겹치지 않도록 시퀀스는 "현재 최대 ID + 50"에서 시작해야 합니다.
+ALTER TABLE SCREENING_ROOM MODIFY (ROOM_ID DROP IDENTITY);
+ALTER TABLE SEAT MODIFY (SEAT_ID DROP IDENTITY);
+ALTER TABLE SCREENING MODIFY (SCREENING_ID DROP IDENTITY);
+ALTER TABLE RESERVATION MODIFY (RESERVATION_ID DROP IDENTITY);
+ALTER TABLE TICKET MODIFY (TICKET_ID DROP IDENTITY);
+
+DECLARE
+    PROCEDURE create_pooled_sequence(p_sequence VARCHAR2, p_table VARCHAR2, p_id_column VARCHAR2) IS
+        v_start NUMBER;
+    BEGIN
+        EXECUTE IMMEDIATE 'SELECT NVL(MAX(' || p_id_column || '), 0) + 50 FROM ' || p_table INTO v_start;
+        EXECUTE IMMEDIATE 'CREATE SEQUENCE ' || p_sequence || ' START WITH ' || v_start || ' INCREMENT BY 50';
+    END;
+BEGIN
+    create_pooled_sequence('SCREENING_ROOM_SEQ', 'SCREENING_ROOM', 'ROOM_ID');
+    create_pooled_sequence('SEAT_SEQ', 'SEAT', 'SEAT_ID');
+    create_pooled_sequence('SCREENING_SEQ', 'SCREENING', 'SCREENING_ID');
+    create_pooled_sequence('RESERVATION_SEQ', 'RESERVATION', 'RESERVATION_ID');
+    create_pooled_sequence('TICKET_SEQ', 'TICKET', 'TICKET_ID');
+END;
+/
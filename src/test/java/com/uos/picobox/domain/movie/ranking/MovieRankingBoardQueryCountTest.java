@@ -0,0 +1,79 @@
+package com.uos.picobox.domain.movie.ranking;
+
+import com.uos.picobox.domain.movie.dto.movie.MovieListItemDto;
+import com.uos.picobox.domain.movie.entity.Distributor;
+import com.uos.picobox.domain.movie.entity.Movie;
+import com.uos.picobox.domain.movie.entity.MovieRating;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * picobox.movie-ranking.source=query 일 때 홈 화면 영화 목록이 영화 수와 관계없이 쿼리 3번으로 만들어지는지 확인합니다.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "picobox.movie-ranking.source=query"
+})
+@Import(MovieRankingBoard.class)
+class MovieRankingBoardQueryCountTest {
+
+    @Autowired
+    private MovieRankingBoard movieRankingBoard;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @ParameterizedTest
+    @ValueSource(ints = {50, 500})
+    void movieListUsesThreeQueriesRegardlessOfMovieCount(int movieCount) {
+        saveMovies(movieCount);
+
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        List<MovieListItemDto> movies = movieRankingBoard.getMovieList();
+
+        assertThat(movies).hasSize(movieCount);
+        // 영화 목록 1번 + 영화별 관객 수 GROUP BY 1번 + 영화별 평점 GROUP BY 1번
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+    }
+
+    private void saveMovies(int movieCount) {
+        Distributor distributor = Distributor.builder().name("테스트 배급사").build();
+        MovieRating movieRating = MovieRating.builder().ratingName("전체관람가").build();
+        entityManager.persist(distributor);
+        entityManager.persist(movieRating);
+
+        LocalDate today = LocalDate.now();
+        for (int i = 1; i <= movieCount; i++) {
+            // 절반은 현재 상영작, 절반은 상영 예정작
+            LocalDate releaseDate = i % 2 == 0 ? today.minusDays(i % 30) : today.plusDays(1 + i % 30);
+            entityManager.persist(Movie.builder()
+                    .title("영화 " + i)
+                    .duration(120)
+                    .releaseDate(releaseDate)
+                    .distributor(distributor)
+                    .movieRating(movieRating)
+                    .build());
+            if (i % 500 == 0) {
+                entityManager.flush();
+                entityManager.clear();
+                distributor = entityManager.getReference(Distributor.class, distributor.getId());
+                movieRating = entityManager.getReference(MovieRating.class, movieRating.getId());
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+}
@@ -0,0 +1,47 @@
+package com.uos.picobox.domain.movie.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * n-gram 색인이 초성 검색어와 마지막 글자를 초성까지만 입력한 검색어를 접두사/포함 일치로 찾는지 확인합니다.
+ */
+class NgramIndexTest {
+
+    private final NgramIndex index = new NgramIndex();
+
+    @BeforeEach
+    void setUp() {
+        index.put(1L, "범죄도시");
+        index.put(2L, "범죄와의 전쟁");
+        index.put(3L, "도시락");
+    }
+
+    @Test
+    void chosungQueryMatchesPrefixAndContains() {
+        assertThat(index.search("ㅂㅈㄷㅅ")).isEqualTo(Map.of(1L, SearchMatchType.PREFIX));
+        assertThat(index.search("ㄷㅅ")).isEqualTo(Map.of(1L, SearchMatchType.CONTAINS, 3L, SearchMatchType.PREFIX));
+        assertThat(index.search("ㅈㅈ")).isEqualTo(Map.of(2L, SearchMatchType.CONTAINS));
+    }
+
+    @Test
+    void partlyTypedLastSyllableMatchesByChosung() {
+        assertThat(index.search("범죄도ㅅ")).isEqualTo(Map.of(1L, SearchMatchType.PREFIX));
+        assertThat(index.search("범죄ㅇ")).isEqualTo(Map.of(2L, SearchMatchType.PREFIX));
+        assertThat(index.search("죄도ㅅ")).isEqualTo(Map.of(1L, SearchMatchType.CONTAINS));
+        // 초성이 같아도 앞 글자가 다르면 일치하지 않습니다.
+        assertThat(index.search("범좌ㄷ")).isEmpty();
+    }
+
+    @Test
+    void removedTextIsNoLongerMatched() {
+        index.remove(1L);
+
+        assertThat(index.search("ㅂㅈㄷㅅ")).isEmpty();
+        assertThat(index.search("ㄷㅅ")).isEqualTo(Map.of(3L, SearchMatchType.PREFIX));
+    }
+}
@@ -0,0 +1,93 @@
+package com.uos.picobox.domain.movie.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 자동완성 트리가 후보 추가/삭제 시 간선을 나누고 합쳐도 같은 결과를 내는지,
+ * 인기도 순 상위 후보와 초성/입력 중인 글자 검색이 맞는지 확인합니다.
+ */
+class SuggestionTrieTest {
+
+    @Test
+    void topReturnsHighestWeightFirst() {
+        SuggestionTrie trie = new SuggestionTrie();
+        trie.put(movie(1L, "범죄도시", 100));
+        trie.put(movie(2L, "범죄도시2", 300));
+        trie.put(movie(3L, "범죄도시3", 200));
+        trie.put(movie(4L, "범죄와의 전쟁", 50));
+        trie.put(movie(5L, "기생충", 1000));
+
+        assertThat(texts(trie.top("범죄", 3))).containsExactly("범죄도시2", "범죄도시3", "범죄도시");
+        assertThat(texts(trie.top("범죄", 10))).containsExactly("범죄도시2", "범죄도시3", "범죄도시", "범죄와의 전쟁");
+    }
+
+    @Test
+    void topPrefersShorterTextOnEqualWeight() {
+        SuggestionTrie trie = new SuggestionTrie();
+        trie.put(movie(1L, "토이 스토리 4", 10));
+        trie.put(movie(2L, "토이 스토리", 10));
+
+        assertThat(texts(trie.top("토이", 2))).containsExactly("토이 스토리", "토이 스토리 4");
+    }
+
+    @Test
+    void splitAndMergedEdgesKeepSameSuggestions() {
+        SuggestionTrie trie = new SuggestionTrie();
+        trie.put(movie(1L, "범죄도시", 100));
+        // "범죄"에서 간선이 나뉩니다.
+        trie.put(movie(2L, "범죄와의 전쟁", 50));
+        // "범죄도시" 아래에 자식이 생깁니다.
+        trie.put(movie(3L, "범죄도시2", 300));
+
+        assertThat(texts(trie.top("범죄도", 10))).containsExactly("범죄도시2", "범죄도시");
+
+        // 후보 없이 자식 하나만 남은 노드는 간선이 합쳐집니다.
+        trie.remove(movie(1L, "범죄도시", 100).getKey());
+        assertThat(texts(trie.top("범죄도시", 10))).containsExactly("범죄도시2");
+        assertThat(texts(trie.top("범죄", 10))).containsExactly("범죄도시2", "범죄와의 전쟁");
+
+        trie.remove(movie(2L, "범죄와의 전쟁", 50).getKey());
+        assertThat(texts(trie.top("범죄", 10))).containsExactly("범죄도시2");
+        assertThat(texts(trie.top("범죄와", 10))).isEmpty();
+
+        trie.remove(movie(3L, "범죄도시2", 300).getKey());
+        assertThat(trie.top("범", 10)).isEmpty();
+    }
+
+    @Test
+    void putWithSameKeyReplacesPreviousText() {
+        SuggestionTrie trie = new SuggestionTrie();
+        trie.put(movie(1L, "범죄도시", 100));
+        trie.put(movie(1L, "베테랑", 100));
+
+        assertThat(trie.top("범죄", 10)).isEmpty();
+        assertThat(texts(trie.top("베테", 10))).containsExactly("베테랑");
+    }
+
+    @Test
+    void topMatchesChosungAndPartlyTypedLastSyllable() {
+        SuggestionTrie trie = new SuggestionTrie();
+        trie.put(movie(1L, "범죄도시", 100));
+        trie.put(movie(2L, "베테랑", 200));
+        trie.put(movie(3L, "밤쉘", 50));
+
+        assertThat(texts(trie.top("ㅂㅈ", 10))).containsExactly("범죄도시");
+        assertThat(texts(trie.top("ㅂ", 10))).containsExactly("베테랑", "범죄도시", "밤쉘");
+        assertThat(texts(trie.top("범죄도ㅅ", 10))).containsExactly("범죄도시");
+        // "범"을 입력하는 도중의 "버"
+        assertThat(texts(trie.top("버", 10))).containsExactly("범죄도시");
+        assertThat(trie.top("벜", 10)).isEmpty();
+    }
+
+    private static SearchSuggestion movie(Long id, String title, long weight) {
+        return new SearchSuggestion(SearchSuggestion.Type.MOVIE, id, title, weight);
+    }
+
+    private static List<String> texts(List<SearchSuggestion> suggestions) {
+        return suggestions.stream().map(SearchSuggestion::getText).toList();
+    }
+}
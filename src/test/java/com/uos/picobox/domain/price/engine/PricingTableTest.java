@@ -0,0 +1,91 @@
+package com.uos.picobox.domain.price.engine;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 가격 조회표가 자정을 넘는 규칙과 조조할인 시작/종료 경계를 분 단위로 정확히 반영하는지 확인합니다.
+ * (2024-01-01은 월요일)
+ */
+class PricingTableTest {
+
+    private static final Long ROOM_ID = 1L;
+    private static final Long TICKET_TYPE_ID = 1L;
+
+    @Test
+    void ruleCrossingMidnightAppliesUntilEndTimeOfNextDay() {
+        PricingTable table = new PricingTable(List.of(PricingRule.builder()
+                .name("금요일 심야")
+                .days(Set.of(DayOfWeek.FRIDAY))
+                .startTime(LocalTime.of(23, 0))
+                .endTime(LocalTime.of(2, 0))
+                .amount(2000)
+                .build()));
+
+        assertThat(adjustment(table, LocalDateTime.of(2024, 1, 5, 22, 59))).isZero();
+        assertThat(adjustment(table, LocalDateTime.of(2024, 1, 5, 23, 0))).isEqualTo(2000);
+        assertThat(adjustment(table, LocalDateTime.of(2024, 1, 6, 1, 59))).isEqualTo(2000);
+        assertThat(adjustment(table, LocalDateTime.of(2024, 1, 6, 2, 0))).isZero();
+        // 목요일 밤에는 적용되지 않습니다.
+        assertThat(adjustment(table, LocalDateTime.of(2024, 1, 4, 23, 30))).isZero();
+    }
+
+    @Test
+    void sundayRuleCrossingMidnightWrapsToMonday() {
+        PricingTable table = new PricingTable(List.of(PricingRule.builder()
+                .name("일요일 심야")
+                .days(Set.of(DayOfWeek.SUNDAY))
+                .startTime(LocalTime.of(23, 0))
+                .endTime(LocalTime.of(1, 0))
+                .amount(1000)
+                .build()));
+
+        assertThat(adjustment(table, LocalDateTime.of(2024, 1, 7, 23, 30))).isEqualTo(1000);
+        assertThat(adjustment(table, LocalDateTime.of(2024, 1, 8, 0, 30))).isEqualTo(1000);
+        assertThat(adjustment(table, LocalDateTime.of(2024, 1, 8, 1, 0))).isZero();
+        assertThat(adjustment(table, LocalDateTime.of(2024, 1, 1, 0, 30))).isEqualTo(1000);
+    }
+
+    @Test
+    void earlyBirdDiscountCoversStartTimeButNotEndTime() {
+        PricingTable table = new PricingTable(List.of(new PricingRuleConfig().earlyBirdDiscountRule()));
+
+        assertThat(adjustment(table, LocalDateTime.of(2024, 1, 3, 5, 59))).isZero();
+        assertThat(adjustment(table, LocalDateTime.of(2024, 1, 3, 6, 0))).isEqualTo(-3000);
+        assertThat(adjustment(table, LocalDateTime.of(2024, 1, 3, 10, 59))).isEqualTo(-3000);
+        assertThat(adjustment(table, LocalDateTime.of(2024, 1, 3, 11, 0))).isZero();
+    }
+
+    @Test
+    void overlappingRulesAreSummedOnlyForMatchingRoomAndTicketType() {
+        PricingTable table = new PricingTable(List.of(
+                new PricingRuleConfig().earlyBirdDiscountRule(),
+                PricingRule.builder()
+                        .name("특별관 추가 요금")
+                        .roomIds(Set.of(ROOM_ID))
+                        .amount(5000)
+                        .build(),
+                PricingRule.builder()
+                        .name("특별관 청소년 할인")
+                        .roomIds(Set.of(ROOM_ID))
+                        .ticketTypeIds(Set.of(2L))
+                        .amount(-1000)
+                        .build()));
+        LocalDateTime morning = LocalDateTime.of(2024, 1, 3, 9, 0);
+
+        assertThat(table.adjustment(morning, ROOM_ID, TICKET_TYPE_ID)).isEqualTo(2000);
+        assertThat(table.adjustment(morning, ROOM_ID, 2L)).isEqualTo(1000);
+        assertThat(table.adjustment(morning, 2L, 2L)).isEqualTo(-3000);
+    }
+
+    private static int adjustment(PricingTable table, LocalDateTime screeningTime) {
+        return table.adjustment(screeningTime, ROOM_ID, TICKET_TYPE_ID);
+    }
+}
@@ -0,0 +1,52 @@
+package com.uos.picobox.domain.room.repository;
+
+import com.uos.picobox.domain.room.entity.ScreeningRoom;
+import com.uos.picobox.domain.room.entity.Seat;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 상영관 좌석 등록이 좌석마다 INSERT를 보내지 않고 시퀀스(allocationSize 50)와 JDBC 배치로 묶이는지 확인합니다.
+ * 내장 H2에서 Hibernate 통계로 준비된 SQL 문 수를 셉니다.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class ScreeningRoomBatchInsertTest {
+
+    private static final int SEAT_COUNT = 120;
+
+    @Autowired
+    private ScreeningRoomRepository screeningRoomRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void registeringRoomWithSeatsUsesBatchedInserts() {
+        ScreeningRoom screeningRoom = ScreeningRoom.builder()
+                .roomName("배치 테스트관")
+                .capacity(SEAT_COUNT)
+                .build();
+        for (int i = 1; i <= SEAT_COUNT; i++) {
+            screeningRoom.addSeat(Seat.builder().seatNumber("A" + i).build());
+        }
+
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        screeningRoomRepository.save(screeningRoom);
+        entityManager.flush();
+
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(SEAT_COUNT + 1);
+        // 상영관 INSERT 1번 + 좌석 INSERT 배치 + 시퀀스 조회(50개 단위) 몇 번이면 끝나야 합니다. (IDENTITY였다면 121번 이상)
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(10);
+    }
+}
@@ -0,0 +1,122 @@
+package com.uos.picobox.domain.screening.engine;
+
+import com.uos.picobox.domain.room.entity.Seat;
+import com.uos.picobox.domain.screening.entity.ScreeningSeat;
+import com.uos.picobox.domain.screening.entity.SeatStatus;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 상영 좌석 상태가 요청 좌석 전체를 한 번에 바꾸거나 하나도 바꾸지 않는지,
+ * DB에서 다시 읽은 상태로 덮어쓸 때 표시 상태가 바뀐 좌석만 알려 주는지 확인합니다.
+ */
+class ScreeningSeatStateTest {
+
+    private static final List<Long> ROOM_SEAT_IDS = List.of(3L, 1L, 2L);
+    private static final SeatHolder HOLDER = SeatHolder.of(7L, null);
+
+    private final LocalDateTime now = LocalDateTime.now();
+    private final long nowMillis = ScreeningSeatState.toMillis(now);
+
+    @Test
+    void holdChangesNothingWhenAnySeatIsMissing() {
+        ScreeningSeatState state = new ScreeningSeatState(ROOM_SEAT_IDS, List.of());
+
+        assertThatThrownBy(() -> state.hold(List.of(1L, 99L), HOLDER, now.plusMinutes(10)))
+                .isInstanceOf(EntityNotFoundException.class);
+
+        assertThat(state.snapshot(nowMillis)).containsOnly(
+                Map.entry(1L, SeatStatus.AVAILABLE), Map.entry(2L, SeatStatus.AVAILABLE), Map.entry(3L, SeatStatus.AVAILABLE));
+        assertThat(state.counts().getAvailable()).isEqualTo(3);
+        assertThat(state.counts().getHeld()).isZero();
+    }
+
+    @Test
+    void holdChangesEverySeatTogether() {
+        ScreeningSeatState state = new ScreeningSeatState(ROOM_SEAT_IDS, List.of());
+
+        state.hold(List.of(1L, 3L), HOLDER, now.plusMinutes(10));
+
+        assertThat(state.snapshot(nowMillis)).containsOnly(
+                Map.entry(1L, SeatStatus.HOLD), Map.entry(2L, SeatStatus.AVAILABLE), Map.entry(3L, SeatStatus.HOLD));
+        assertThat(state.counts().getHeld()).isEqualTo(2);
+    }
+
+    @Test
+    void releaseRevertsOnlyHeldSeats() {
+        ScreeningSeatState state = new ScreeningSeatState(ROOM_SEAT_IDS, List.of(
+                storedSeat(1L, SeatStatus.HOLD, now.plusMinutes(10)),
+                storedSeat(2L, SeatStatus.SOLD, null)));
+
+        List<Long> releasedSeatIds = state.release(List.of(1L, 2L));
+
+        assertThat(releasedSeatIds).containsExactly(1L);
+        assertThat(state.snapshot(nowMillis)).containsEntry(1L, SeatStatus.AVAILABLE).containsEntry(2L, SeatStatus.SOLD);
+    }
+
+    @Test
+    void expireKeepsSeatsHeldAgainWithLaterExpiry() {
+        ScreeningSeatState state = new ScreeningSeatState(ROOM_SEAT_IDS, List.of(
+                storedSeat(1L, SeatStatus.HOLD, now.minusSeconds(1))));
+        state.hold(List.of(1L), HOLDER, now.plusMinutes(10));
+
+        assertThat(state.expire(List.of(1L), nowMillis)).isEmpty();
+        assertThat(state.expire(List.of(1L), ScreeningSeatState.toMillis(now.plusMinutes(10)))).containsExactly(1L);
+    }
+
+    @Test
+    void syncWithReportsSeatsWhoseVisibleStatusChanged() {
+        ScreeningSeatState state = new ScreeningSeatState(ROOM_SEAT_IDS, List.of(
+                storedSeat(1L, SeatStatus.HOLD, now.minusSeconds(1)),
+                storedSeat(3L, SeatStatus.HOLD, now.plusMinutes(10))));
+        ScreeningSeatState stored = new ScreeningSeatState(ROOM_SEAT_IDS, List.of(
+                storedSeat(2L, SeatStatus.SOLD, null),
+                storedSeat(3L, SeatStatus.HOLD, now.plusMinutes(5))));
+
+        Map<SeatStatus, List<Long>> changedSeatIds = state.syncWith(stored, nowMillis);
+
+        // 1번은 이미 만료되어 AVAILABLE로 보였으므로, 3번은 여전히 HOLD이므로 바뀐 좌석이 아닙니다.
+        assertThat(changedSeatIds).isEqualTo(Map.of(SeatStatus.SOLD, List.of(2L)));
+        assertThat(state.snapshot(nowMillis)).containsOnly(
+                Map.entry(1L, SeatStatus.AVAILABLE), Map.entry(2L, SeatStatus.SOLD), Map.entry(3L, SeatStatus.HOLD));
+        assertThat(state.counts().getSold()).isEqualTo(1);
+        assertThat(state.counts().getHeld()).isEqualTo(1);
+        assertThat(state.expire(List.of(3L), ScreeningSeatState.toMillis(now.plusMinutes(5)))).containsExactly(3L);
+    }
+
+    @Test
+    void syncWithRejectsDifferentRoomLayout() {
+        ScreeningSeatState state = new ScreeningSeatState(ROOM_SEAT_IDS, List.of());
+        ScreeningSeatState stored = new ScreeningSeatState(List.of(1L, 2L, 4L), List.of());
+
+        assertThat(state.syncWith(stored, nowMillis)).isNull();
+    }
+
+    @Test
+    void stateIsStaleAfterMaxAge() {
+        ScreeningSeatState state = new ScreeningSeatState(ROOM_SEAT_IDS, List.of());
+        long loadedAtMillis = System.currentTimeMillis();
+
+        assertThat(state.isStale(loadedAtMillis, 5_000)).isFalse();
+        assertThat(state.isStale(loadedAtMillis + 5_000, 5_000)).isTrue();
+    }
+
+    private static ScreeningSeat storedSeat(Long seatId, SeatStatus seatStatus, LocalDateTime holdExpiresAt) {
+        Seat seat = Seat.builder().seatNumber("A" + seatId).build();
+        ReflectionTestUtils.setField(seat, "id", seatId);
+        ScreeningSeat screeningSeat = ScreeningSeat.builder().seat(seat).seatStatus(seatStatus).build();
+        screeningSeat.setHoldExpiresAt(holdExpiresAt);
+        if (seatStatus == SeatStatus.HOLD) {
+            screeningSeat.setHoldCustomerId(HOLDER.getCustomerId());
+        }
+        return screeningSeat;
+    }
+}
@@ -0,0 +1,57 @@
+package com.uos.picobox.domain.screening.engine;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 좌석 선점 만료 타이머 휠이 한 바퀴(1024초)보다 먼 만료 시각과 이미 지난 만료 시각을 올바른 시점에 꺼내는지 확인합니다.
+ */
+class SeatHoldTimerWheelTest {
+
+    private static final long NOW = 1_700_000_000_000L;
+
+    @Test
+    void holdBeyondOneRevolutionExpiresOnlyAfterItsDueTime() {
+        SeatHoldTimerWheel wheel = new SeatHoldTimerWheel(NOW);
+        wheel.schedule(1L, List.of(10L), NOW + 1_500_000);
+
+        // 1500초와 476초는 같은 칸이지만 아직 만료 시각 전이므로 남아 있어야 합니다.
+        assertThat(wheel.advance(NOW + 476_000)).isEmpty();
+        assertThat(wheel.advance(NOW + 1_499_999)).isEmpty();
+        assertThat(wheel.advance(NOW + 1_500_000)).isEqualTo(Map.of(1L, List.of(10L)));
+        assertThat(wheel.advance(NOW + 1_501_000)).isEmpty();
+    }
+
+    @Test
+    void advanceAfterLongPauseStillFindsEveryDueHold() {
+        SeatHoldTimerWheel wheel = new SeatHoldTimerWheel(NOW);
+        wheel.schedule(1L, List.of(10L), NOW + 2_000);
+        wheel.schedule(2L, List.of(20L), NOW + 600_000);
+
+        Map<Long, List<Long>> expired = wheel.advance(NOW + 3_000_000);
+
+        assertThat(expired).isEqualTo(Map.of(1L, List.of(10L), 2L, List.of(20L)));
+    }
+
+    @Test
+    void restoredHoldAlreadyPastDueExpiresOnNextAdvance() {
+        SeatHoldTimerWheel wheel = new SeatHoldTimerWheel(NOW);
+        // 서버 시작 시 복구한 선점처럼 만료 시각이 이미 지난 경우
+        wheel.schedule(1L, List.of(10L, 11L), NOW - 60_000);
+
+        assertThat(wheel.advance(NOW)).isEqualTo(Map.of(1L, List.of(10L, 11L)));
+    }
+
+    @Test
+    void holdInCurrentTickWaitsUntilItsExactDueTime() {
+        SeatHoldTimerWheel wheel = new SeatHoldTimerWheel(NOW);
+        wheel.schedule(1L, List.of(10L), NOW + 500);
+
+        assertThat(wheel.advance(NOW + 499)).isEmpty();
+        assertThat(wheel.advance(NOW + 500)).isEqualTo(Map.of(1L, List.of(10L)));
+    }
+}